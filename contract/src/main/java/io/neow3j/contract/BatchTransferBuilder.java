@@ -0,0 +1,377 @@
+package io.neow3j.contract;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.cache.ChainParameterCache;
+import io.neow3j.script.OpCode;
+import io.neow3j.serialization.IOUtils;
+import io.neow3j.transaction.AccountSigner;
+import io.neow3j.transaction.NetworkFeeCalculator;
+import io.neow3j.transaction.Signer;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.Hash160;
+import io.neow3j.wallet.Account;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.neow3j.constants.NeoConstants.SIGNATURE_SIZE;
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static io.neow3j.utils.ArrayUtils.concatenate;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Builds and signs the transactions of a large number of NEP-17 transfers, e.g., for mass payouts.
+ * <p>
+ * Instead of building one transaction per transfer with {@link FungibleToken#transfer(Account, Hash160, BigInteger)},
+ * the transfers are packed into as few transactions as the limits on the transaction size, the number of transfers
+ * and the system fee per transaction allow. Each transfer is followed by an {@code ASSERT}, so a transaction faults
+ * if any of its transfers returns false.
+ * <p>
+ * Transfers of the same token from the same sender form a template. The system fee is estimated once per template
+ * with an {@code invokescript} call of its first transaction and is then shared by all transactions of the template.
+ * Transfers to accounts that don't hold the token yet cost more than transfers to existing holders, because a new
+ * balance has to be stored. If the first transaction of a template is not representative, add a safety margin with
+ * {@link #additionalSystemFeePerTransfer(long)}. The network fees are calculated locally with the
+ * {@link NetworkFeeCalculator} and the policy values of the {@link ChainParameterCache}.
+ * <p>
+ * The transactions are signed in parallel on a {@link ForkJoinPool}.
+ */
+public class BatchTransferBuilder {
+
+    /**
+     * The default maximum number of transfers in one transaction.
+     */
+    public static final int DEFAULT_MAX_TRANSFERS_PER_TRANSACTION = 100;
+
+    /**
+     * The default maximum system fee of one transaction in fractions of GAS (10 GAS).
+     */
+    public static final long DEFAULT_MAX_SYSTEM_FEE_PER_TRANSACTION = 10_00000000L;
+
+    // The size of an invocation script with one signature, i.e., PUSHDATA1, the signature length and the signature.
+    private static final int INVOCATION_SCRIPT_SIZE = 2 + SIGNATURE_SIZE;
+
+    private final Neow3j neow3j;
+    private final List<Transfer> transfers = new ArrayList<>();
+
+    private int maxTransfersPerTransaction = DEFAULT_MAX_TRANSFERS_PER_TRANSACTION;
+    private int maxTransactionSize = NeoConstants.MAX_TRANSACTION_SIZE;
+    private long maxSystemFeePerTransaction = DEFAULT_MAX_SYSTEM_FEE_PER_TRANSACTION;
+    private long additionalSystemFeePerTransfer = 0;
+    private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    /**
+     * Constructs a batch transfer builder.
+     *
+     * @param neow3j the {@link Neow3j} instance to estimate the fees with.
+     */
+    public BatchTransferBuilder(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Adds a transfer to the batch.
+     *
+     * @param token  the token to transfer.
+     * @param from   the sender account.
+     * @param to     the script hash of the recipient.
+     * @param amount the amount to transfer in token fractions.
+     * @return this.
+     */
+    public BatchTransferBuilder transfer(FungibleToken token, Account from, Hash160 to, BigInteger amount) {
+        return transfer(token, from, to, amount, null);
+    }
+
+    /**
+     * Adds a transfer to the batch.
+     * <p>
+     * Only use this method when the recipient is a deployed smart contract to avoid unnecessary additional fees.
+     * Otherwise, use the method without a contract parameter for data.
+     *
+     * @param token  the token to transfer.
+     * @param from   the sender account.
+     * @param to     the script hash of the recipient.
+     * @param amount the amount to transfer in token fractions.
+     * @param data   the data that is passed to the {@code onPayment} method of the recipient.
+     * @return this.
+     */
+    public BatchTransferBuilder transfer(FungibleToken token, Account from, Hash160 to, BigInteger amount,
+            ContractParameter data) {
+
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("The amount must be greater than or equal to 0.");
+        }
+        if (from.isMultiSig()) {
+            throw new IllegalArgumentException("Transfers from multi-sig accounts cannot be signed automatically.");
+        }
+        transfers.add(new Transfer(token, from, to, amount, data));
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of transfers in one transaction.
+     *
+     * @param maxTransfersPerTransaction the maximum number of transfers.
+     * @return this.
+     */
+    public BatchTransferBuilder maxTransfersPerTransaction(int maxTransfersPerTransaction) {
+        if (maxTransfersPerTransaction < 1) {
+            throw new IllegalArgumentException("A transaction must be allowed to contain at least one transfer.");
+        }
+        this.maxTransfersPerTransaction = maxTransfersPerTransaction;
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of one transaction in bytes. It cannot be more than
+     * {@link NeoConstants#MAX_TRANSACTION_SIZE}.
+     *
+     * @param maxTransactionSize the maximum size in bytes.
+     * @return this.
+     */
+    public BatchTransferBuilder maxTransactionSize(int maxTransactionSize) {
+        if (maxTransactionSize < 1 || maxTransactionSize > NeoConstants.MAX_TRANSACTION_SIZE) {
+            throw new IllegalArgumentException(format("The maximum transaction size must be in the interval [1, %s].",
+                    NeoConstants.MAX_TRANSACTION_SIZE));
+        }
+        this.maxTransactionSize = maxTransactionSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum system fee of one transaction.
+     *
+     * @param maxSystemFeePerTransaction the maximum system fee in fractions of GAS.
+     * @return this.
+     */
+    public BatchTransferBuilder maxSystemFeePerTransaction(long maxSystemFeePerTransaction) {
+        if (maxSystemFeePerTransaction < 1) {
+            throw new IllegalArgumentException("The maximum system fee must be greater than 0.");
+        }
+        this.maxSystemFeePerTransaction = maxSystemFeePerTransaction;
+        return this;
+    }
+
+    /**
+     * Adds the given system fee per transfer on top of the estimated system fee.
+     *
+     * @param additionalSystemFeePerTransfer the additional system fee per transfer in fractions of GAS.
+     * @return this.
+     */
+    public BatchTransferBuilder additionalSystemFeePerTransfer(long additionalSystemFeePerTransfer) {
+        if (additionalSystemFeePerTransfer < 0) {
+            throw new IllegalArgumentException("The additional system fee must not be negative.");
+        }
+        this.additionalSystemFeePerTransfer = additionalSystemFeePerTransfer;
+        return this;
+    }
+
+    /**
+     * Sets the pool on which the transactions are signed. By default, the common pool is used.
+     *
+     * @param forkJoinPool the pool.
+     * @return this.
+     */
+    public BatchTransferBuilder forkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+        return this;
+    }
+
+    /**
+     * Packs the transfers into transactions and signs them.
+     * <p>
+     * The transactions of a template are returned in the order of their transfers. The templates are ordered by their
+     * first transfer.
+     *
+     * @return the signed transactions.
+     * @throws TransactionConfigurationException if the batch is empty, a sender does not hold a private key, the
+     *                                           estimation of a template faults or a single transfer exceeds the
+     *                                           limits.
+     * @throws IOException                       if an error occurs when interacting with the Neo node.
+     * @throws Throwable                         if the Neo node returns an error.
+     */
+    public List<Transaction> sign() throws Throwable {
+        if (transfers.isEmpty()) {
+            throw new TransactionConfigurationException("Cannot build a batch without transfers.");
+        }
+        Map<List<Hash160>, List<Transfer>> templates = new LinkedHashMap<>();
+        for (Transfer transfer : transfers) {
+            if (transfer.from.getECKeyPair() == null) {
+                throw new TransactionConfigurationException(format("Cannot create transaction signature because " +
+                        "account %s does not hold a private key.", transfer.from.getAddress()));
+            }
+            templates.computeIfAbsent(asList(transfer.token.getScriptHash(), transfer.from.getScriptHash()),
+                    k -> new ArrayList<>()).add(transfer);
+        }
+
+        ChainParameterCache cache = neow3j.getChainParameterCache();
+        CompletableFuture<Long> blockCount = neow3j.getBlockCount().sendAsync()
+                .thenApply(response -> response.getBlockCount().longValue());
+        CompletableFuture<Long> feePerByte = cache.getFeePerByte();
+        CompletableFuture<Long> execFeeFactor = cache.getExecFeeFactor();
+        List<Template> packedTemplates = new ArrayList<>();
+        for (List<Transfer> templateTransfers : templates.values()) {
+            Template template = new Template(templateTransfers);
+            template.systemFeePerTransfer = estimateSystemFeePerTransfer(template);
+            packedTemplates.add(template);
+        }
+        // Fetch the network magic before signing in parallel.
+        neow3j.getNetworkMagicNumberBytes();
+
+        long validUntilBlock = await(blockCount) + neow3j.getMaxValidUntilBlockIncrement() - 1;
+        long policyFeePerByte = await(feePerByte);
+        long policyExecFeeFactor = await(execFeeFactor);
+        List<Transaction> transactions = new ArrayList<>();
+        for (Template template : packedTemplates) {
+            long feePerTransfer = await(template.systemFeePerTransfer) + additionalSystemFeePerTransfer;
+            if (feePerTransfer > maxSystemFeePerTransaction) {
+                throw new TransactionConfigurationException(format("A single transfer from %s requires a system " +
+                        "fee of %s, which exceeds the maximum system fee per transaction.",
+                        template.sender.getAddress(), feePerTransfer));
+            }
+            int maxTransfers = feePerTransfer == 0 ? maxTransfersPerTransaction :
+                    (int) Math.min(maxTransfersPerTransaction, maxSystemFeePerTransaction / feePerTransfer);
+            for (List<byte[]> chunk : template.pack(maxTransfers)) {
+                transactions.add(buildTransaction(template.sender, concatenate(chunk.toArray(new byte[0][])),
+                        feePerTransfer * chunk.size(), validUntilBlock, policyFeePerByte, policyExecFeeFactor));
+            }
+        }
+        signInParallel(transactions);
+        return transactions;
+    }
+
+    // Runs `invokescript` with the first transaction of the template and divides the consumed GAS by its number of
+    // transfers.
+    private CompletableFuture<Long> estimateSystemFeePerTransfer(Template template) {
+        List<byte[]> sample = template.pack(maxTransfersPerTransaction).get(0);
+        String script = toHexStringNoPrefix(concatenate(sample.toArray(new byte[0][])));
+        return neow3j.invokeScript(script, calledByEntry(template.sender)).sendAsync().thenApply(response -> {
+            if (response.getResult().hasStateFault()) {
+                throw new TransactionConfigurationException(
+                        "The vm exited due to the following exception: " + response.getResult().getException());
+            }
+            long gasConsumed = new BigInteger(response.getInvocationResult().getGasConsumed()).longValue();
+            return (gasConsumed + sample.size() - 1) / sample.size();
+        });
+    }
+
+    private Transaction buildTransaction(Account sender, byte[] script, long systemFee, long validUntilBlock,
+            long feePerByte, long execFeeFactor) {
+
+        long nonce = ThreadLocalRandom.current().nextLong((long) Math.pow(2, 32));
+        List<Signer> signers = singletonList(calledByEntry(sender));
+        Transaction feeTx = new Transaction(neow3j, NeoConstants.CURRENT_TX_VERSION, nonce, validUntilBlock, signers,
+                systemFee, 0, new ArrayList<>(), script, new ArrayList<>());
+        feeTx.addWitness(new Witness(new byte[]{}, sender.getVerificationScript().getScript()));
+        long networkFee = NetworkFeeCalculator.calculateNetworkFee(feeTx, feePerByte, execFeeFactor);
+        return new Transaction(neow3j, NeoConstants.CURRENT_TX_VERSION, nonce, validUntilBlock, signers, systemFee,
+                networkFee, new ArrayList<>(), script, new ArrayList<>());
+    }
+
+    private void signInParallel(List<Transaction> transactions) throws Throwable {
+        try {
+            forkJoinPool.submit(() -> transactions.parallelStream().forEach(tx -> {
+                ECKeyPair keyPair = ((AccountSigner) tx.getSigners().get(0)).getAccount().getECKeyPair();
+                try {
+                    tx.addWitness(Witness.create(tx.getHashData(), keyPair));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof UncheckedIOException ? cause.getCause() : cause;
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class Template {
+
+        private final Account sender;
+        private final List<byte[]> scripts = new ArrayList<>();
+        // The size of a transaction of this template without its script.
+        private final int sizeWithoutScript;
+        private CompletableFuture<Long> systemFeePerTransfer;
+
+        Template(List<Transfer> transfers) {
+            this.sender = transfers.get(0).from;
+            for (Transfer t : transfers) {
+                byte[] transferScript = t.token.buildTransferScript(t.from.getScriptHash(), t.to, t.amount, t.data);
+                scripts.add(concatenate(transferScript, (byte) OpCode.ASSERT.getCode()));
+            }
+            Transaction emptyTx = new Transaction(neow3j, NeoConstants.CURRENT_TX_VERSION, 0, 0,
+                    singletonList(calledByEntry(sender)), 0, 0, new ArrayList<>(), new byte[]{}, new ArrayList<>());
+            emptyTx.addWitness(new Witness(new byte[INVOCATION_SCRIPT_SIZE],
+                    sender.getVerificationScript().getScript()));
+            sizeWithoutScript = emptyTx.getSize() - IOUtils.getVarSize(0);
+        }
+
+        // Splits the transfer scripts into chunks that fit into one transaction each.
+        List<List<byte[]>> pack(int maxTransfers) {
+            List<List<byte[]>> chunks = new ArrayList<>();
+            List<byte[]> chunk = new ArrayList<>();
+            int scriptSize = 0;
+            for (byte[] script : scripts) {
+                int newScriptSize = scriptSize + script.length;
+                if (!chunk.isEmpty() && (chunk.size() == maxTransfers ||
+                        sizeWithoutScript + IOUtils.getVarSize(newScriptSize) + newScriptSize > maxTransactionSize)) {
+                    chunks.add(chunk);
+                    chunk = new ArrayList<>();
+                    newScriptSize = script.length;
+                }
+                if (sizeWithoutScript + IOUtils.getVarSize(newScriptSize) + newScriptSize > maxTransactionSize) {
+                    throw new TransactionConfigurationException("A single transfer exceeds the maximum transaction " +
+                            "size.");
+                }
+                chunk.add(script);
+                scriptSize = newScriptSize;
+            }
+            chunks.add(chunk);
+            return chunks;
+        }
+
+    }
+
+    private static class Transfer {
+
+        private final FungibleToken token;
+        private final Account from;
+        private final Hash160 to;
+        private final BigInteger amount;
+        private final ContractParameter data;
+
+        Transfer(FungibleToken token, Account from, Hash160 to, BigInteger amount, ContractParameter data) {
+            this.token = token;
+            this.from = from;
+            this.to = to;
+            this.amount = amount;
+            this.data = data;
+        }
+
+    }
+
+}
@@ -0,0 +1,216 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.script.OpCode;
+import io.neow3j.transaction.AccountSigner;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash160;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.TestProperties.gasTokenHash;
+import static io.neow3j.test.TestProperties.neoTokenHash;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForGetBlockCount;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
+import static io.neow3j.utils.ArrayUtils.concatenate;
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BatchTransferBuilderTest {
+
+    private static final long FEE_PER_BYTE = 1000;
+    private static final long EXEC_FEE_FACTOR = 30;
+    // PUSHDATA1 for the signature and the public key, SYSCALL and System.Crypto.CheckSig.
+    private static final long SINGLE_SIG_VERIFICATION_COST = 8 * 2 + 32768;
+    // The GAS consumed in invokescript_transfer.json.
+    private static final long GAS_CONSUMED = 9999510;
+
+    private static final Hash160 RECIPIENT_SCRIPT_HASH =
+            new Hash160("969a77db482f74ce27105f760efa139223431394");
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private Neow3j neow;
+    private FungibleToken gasToken;
+    private FungibleToken neoToken;
+    private Account account1;
+    private Account account2;
+
+    @BeforeAll
+    public void setUp() {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow = Neow3j.build(new HttpService("http://127.0.0.1:" + port), new Neow3jConfig().setNetworkMagic(769));
+
+        gasToken = new FungibleToken(new Hash160(gasTokenHash()), neow);
+        neoToken = new FungibleToken(new Hash160(neoTokenHash()), neow);
+
+        account1 = new Account(ECKeyPair.create(
+                hexStringToByteArray("1dd37fba80fec4e6a6f13fd708d8dcb3b29def768017052f6c930fa1c5d90bbb")));
+        account2 = new Account(ECKeyPair.create(
+                hexStringToByteArray("b4b2b579cac270125259f08a5f414e9235817e7637b9a66cfeb3b77d90c8e7f9")));
+    }
+
+    @BeforeEach
+    public void setUpWireMock() throws IOException {
+        WireMock.resetAllRequests();
+        setUpWireMockForCall("invokescript", "invokescript_transfer.json");
+        setUpWireMockForGetBlockCount(1000);
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+    }
+
+    private byte[] transferScript(FungibleToken token, Account from, long amount) {
+        return concatenate(token.buildTransferScript(from.getScriptHash(), RECIPIENT_SCRIPT_HASH,
+                BigInteger.valueOf(amount), null), (byte) OpCode.ASSERT.getCode());
+    }
+
+    @Test
+    public void testPacksTransfersIntoTransactions() throws Throwable {
+        BatchTransferBuilder builder = new BatchTransferBuilder(neow).maxTransfersPerTransaction(2);
+        for (int i = 1; i <= 5; i++) {
+            builder.transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.valueOf(i));
+        }
+        List<Transaction> txs = builder.sign();
+
+        assertThat(txs, hasSize(3));
+        assertThat(txs.get(0).getScript(),
+                is(concatenate(transferScript(gasToken, account1, 1), transferScript(gasToken, account1, 2))));
+        assertThat(txs.get(1).getScript(),
+                is(concatenate(transferScript(gasToken, account1, 3), transferScript(gasToken, account1, 4))));
+        assertThat(txs.get(2).getScript(), is(transferScript(gasToken, account1, 5)));
+
+        // The system fee is estimated with the first transaction and shared by all transactions.
+        long feePerTransfer = (GAS_CONSUMED + 1) / 2;
+        assertThat(txs.get(0).getSystemFee(), is(feePerTransfer * 2));
+        assertThat(txs.get(1).getSystemFee(), is(feePerTransfer * 2));
+        assertThat(txs.get(2).getSystemFee(), is(feePerTransfer));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokescript")));
+
+        for (Transaction tx : txs) {
+            assertThat(tx.getValidUntilBlock(), is(1000L + neow.getMaxValidUntilBlockIncrement() - 1));
+            assertThat(((AccountSigner) tx.getSigners().get(0)).getAccount(), is(account1));
+            assertThat(tx.getNetworkFee(),
+                    is(tx.getSize() * FEE_PER_BYTE + SINGLE_SIG_VERIFICATION_COST * EXEC_FEE_FACTOR));
+            assertThat(tx.getWitnesses(), hasSize(1));
+            assertThat(tx.getWitnesses().get(0), is(Witness.create(tx.getHashData(), account1.getECKeyPair())));
+        }
+    }
+
+    @Test
+    public void testOneEstimationPerTemplate() throws Throwable {
+        List<Transaction> txs = new BatchTransferBuilder(neow)
+                .transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.ONE)
+                .transfer(neoToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.ONE)
+                .transfer(gasToken, account2, RECIPIENT_SCRIPT_HASH, BigInteger.ONE)
+                .transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.TEN)
+                .sign();
+
+        assertThat(txs, hasSize(3));
+        assertThat(txs.get(0).getScript(),
+                is(concatenate(transferScript(gasToken, account1, 1), transferScript(gasToken, account1, 10))));
+        assertThat(txs.get(1).getScript(), is(transferScript(neoToken, account1, 1)));
+        assertThat(txs.get(2).getScript(), is(transferScript(gasToken, account2, 1)));
+        assertThat(((AccountSigner) txs.get(2).getSigners().get(0)).getAccount(), is(account2));
+        WireMock.verify(3, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokescript")));
+    }
+
+    @Test
+    public void testLimitsSystemFeePerTransaction() throws Throwable {
+        BatchTransferBuilder builder = new BatchTransferBuilder(neow)
+                .maxSystemFeePerTransaction(7000000)
+                .additionalSystemFeePerTransfer(100);
+        for (int i = 1; i <= 3; i++) {
+            builder.transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.valueOf(i));
+        }
+        List<Transaction> txs = builder.sign();
+
+        long feePerTransfer = (GAS_CONSUMED + 2) / 3 + 100;
+        assertThat(txs, hasSize(2));
+        assertThat(txs.get(0).getSystemFee(), is(feePerTransfer * 2));
+        assertThat(txs.get(1).getSystemFee(), is(feePerTransfer));
+    }
+
+    @Test
+    public void testLimitsTransactionSize() throws Throwable {
+        int maxSize = 400;
+        BatchTransferBuilder builder = new BatchTransferBuilder(neow).maxTransactionSize(maxSize);
+        for (int i = 1; i <= 10; i++) {
+            builder.transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.valueOf(i));
+        }
+        List<Transaction> txs = builder.sign();
+
+        assertThat(txs.size(), greaterThan(1));
+        byte[] scripts = new byte[]{};
+        for (Transaction tx : txs) {
+            assertThat(tx.getSize(), lessThanOrEqualTo(maxSize));
+            scripts = concatenate(scripts, tx.getScript());
+        }
+        byte[] expectedScripts = new byte[]{};
+        for (int i = 1; i <= 10; i++) {
+            expectedScripts = concatenate(expectedScripts, transferScript(gasToken, account1, i));
+        }
+        assertThat(scripts, is(expectedScripts));
+    }
+
+    @Test
+    public void testFaultingTemplate() throws IOException {
+        setUpWireMockForCall("invokescript", "invokescript_transfer_fault.json");
+        BatchTransferBuilder builder = new BatchTransferBuilder(neow)
+                .transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.ONE);
+
+        TransactionConfigurationException thrown = assertThrows(TransactionConfigurationException.class,
+                builder::sign);
+        assertThat(thrown.getMessage(),
+                is("The vm exited due to the following exception: ASSERT is executed with false result."));
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertThrows(TransactionConfigurationException.class, () -> new BatchTransferBuilder(neow).sign());
+    }
+
+    @Test
+    public void testInvalidTransfers() {
+        BatchTransferBuilder builder = new BatchTransferBuilder(neow);
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.transfer(gasToken, account1, RECIPIENT_SCRIPT_HASH, BigInteger.valueOf(-1)));
+        Account multiSig = Account.createMultiSigAccount(
+                asList(account1.getECKeyPair().getPublicKey(),
+                        account2.getECKeyPair().getPublicKey()), 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.transfer(gasToken, multiSig, RECIPIENT_SCRIPT_HASH, BigInteger.ONE));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxTransactionSize(200000));
+    }
+
+}
@@ -1,8 +1,11 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.cache.ChainParameterCache;
+import io.neow3j.protocol.core.BatchRequest;
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
 import io.neow3j.protocol.rx.Neow3jRx;
+import io.neow3j.transaction.NetworkFeeCalculator;
 import io.neow3j.types.Hash160;
 
 import java.io.IOException;
@@ -11,12 +14,16 @@ import java.nio.ByteOrder;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
+import static java.lang.String.format;
+
 /**
  * JSON-RPC Request object building factory.
  */
 public abstract class Neow3j implements Neo, Neow3jRx {
 
     private final Neow3jConfig config;
+    private volatile ChainParameterCache chainParameterCache;
+    private volatile NetworkFeeCalculator networkFeeCalculator;
 
     protected Neow3j(Neow3jConfig config) {
         this.config = config;
@@ -48,6 +55,17 @@ public abstract class Neow3j implements Neo, Neow3jRx {
      */
     public abstract void shutdown();
 
+    /**
+     * Creates a new empty batch request. Requests added to the batch are sent to the Neo node in a single round trip.
+     *
+     * @return the batch request.
+     * @throws UnsupportedOperationException if this implementation does not support batch requests.
+     */
+    public BatchRequest newBatch() {
+        throw new UnsupportedOperationException(
+                format("%s does not support batch requests.", getClass().getSimpleName()));
+    }
+
     /**
      * @return true if transmission is allowed when the provided script leads to a
      * {@link io.neow3j.types.NeoVMStateType#FAULT}. False, otherwise.
@@ -154,6 +172,18 @@ public abstract class Neow3j implements Neo, Neow3jRx {
         return config.getPollingInterval();
     }
 
+    /**
+     * Gets whether the polling for new blocks adapts to the expected time of the next block.
+     * <p>
+     * Disabled by default.
+     *
+     * @return true if adaptive polling is enabled. False, otherwise.
+     * @see Neow3jConfig#setAdaptivePolling(boolean)
+     */
+    public boolean isAdaptivePolling() {
+        return config.isAdaptivePolling();
+    }
+
     /**
      * Gets the maximum time in milliseconds that can pass form the construction of a transaction until it gets
      * included in a block. A transaction becomes invalid after this time increment is surpassed. @return the
@@ -166,6 +196,64 @@ public abstract class Neow3j implements Neo, Neow3jRx {
         return config.getMaxValidUntilBlockIncrement();
     }
 
+    /**
+     * Gets whether transaction builders calculate the network fee locally where possible.
+     * <p>
+     * Disabled by default.
+     *
+     * @return true if the network fee is calculated locally where possible. False, otherwise.
+     * @see Neow3jConfig#setLocalNetworkFeeCalculation(boolean)
+     */
+    public boolean isLocalNetworkFeeCalculation() {
+        return config.isLocalNetworkFeeCalculation();
+    }
+
+    /**
+     * Gets whether transaction builders read the block count and the committee from the chain parameter cache.
+     * <p>
+     * Disabled by default.
+     *
+     * @return true if the chain parameters are cached. False, otherwise.
+     * @see Neow3jConfig#setChainParameterCaching(boolean)
+     */
+    public boolean isChainParameterCaching() {
+        return config.isChainParameterCaching();
+    }
+
+    /**
+     * Gets the chain parameter cache of this {@code Neow3j} instance. It is shared by all transaction builders and
+     * network fee calculators using this instance.
+     *
+     * @return the chain parameter cache.
+     */
+    public ChainParameterCache getChainParameterCache() {
+        if (chainParameterCache == null) {
+            synchronized (this) {
+                if (chainParameterCache == null) {
+                    chainParameterCache = new ChainParameterCache(this);
+                }
+            }
+        }
+        return chainParameterCache;
+    }
+
+    /**
+     * Gets the network fee calculator of this {@code Neow3j} instance. It is shared by all transaction builders
+     * using this instance.
+     *
+     * @return the network fee calculator.
+     */
+    public NetworkFeeCalculator getNetworkFeeCalculator() {
+        if (networkFeeCalculator == null) {
+            synchronized (this) {
+                if (networkFeeCalculator == null) {
+                    networkFeeCalculator = new NetworkFeeCalculator(this);
+                }
+            }
+        }
+        return networkFeeCalculator;
+    }
+
     /**
      * Sets the NeoNameService script hash that should be used to resolve NNS domain names.
      *
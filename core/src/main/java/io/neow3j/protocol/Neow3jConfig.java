@@ -20,8 +20,11 @@ public class Neow3jConfig {
     private int blockInterval = DEFAULT_BLOCK_TIME;
     private long maxValidUntilBlockIncrement = MAX_VALID_UNTIL_BLOCK_INCREMENT_BASE / blockInterval;
     private int pollingInterval = DEFAULT_BLOCK_TIME;
+    private boolean adaptivePolling = false;
     private ScheduledExecutorService scheduledExecutorService = Async.defaultExecutorService();
     private boolean allowTransmissionOnFault = false;
+    private boolean localNetworkFeeCalculation = false;
+    private boolean chainParameterCaching = false;
 
     private static final Hash160 MAINNET_NNS_CONTRACT_HASH = new Hash160("0x50ac1c37690cc2cfc594472833cf57505d5f46de");
     private Hash160 nnsResolver = MAINNET_NNS_CONTRACT_HASH;
@@ -71,6 +74,32 @@ public class Neow3jConfig {
         return this;
     }
 
+    /**
+     * @return true if the polling adapts to the expected time of the next block. False, otherwise.
+     * @see #setAdaptivePolling(boolean)
+     */
+    public boolean isAdaptivePolling() {
+        return adaptivePolling;
+    }
+
+    /**
+     * Sets whether the polling for new blocks adapts to the expected time of the next block.
+     * <p>
+     * If enabled, {@code Neow3j} waits until the next block is expected based on the timestamp of the latest block
+     * and the block interval. If the block is overdue, the Neo node is polled in quick succession with an
+     * exponentially increasing delay. The polling interval is then the upper bound of that delay. This detects new
+     * blocks earlier while sending fewer requests than polling at a fixed interval.
+     * <p>
+     * Disabled by default.
+     *
+     * @param adaptivePolling true to enable adaptive polling. False, otherwise.
+     * @return this.
+     */
+    public Neow3jConfig setAdaptivePolling(boolean adaptivePolling) {
+        this.adaptivePolling = adaptivePolling;
+        return this;
+    }
+
     /**
      * @return the executor service used for polling new blocks from the Neo node.
      * @see Neow3j#getScheduledExecutorService()
@@ -246,4 +275,56 @@ public class Neow3jConfig {
         return this;
     }
 
+    /**
+     * @return true if transaction builders calculate the network fee locally where possible. False, otherwise.
+     * @see #setLocalNetworkFeeCalculation(boolean)
+     */
+    public boolean isLocalNetworkFeeCalculation() {
+        return localNetworkFeeCalculation;
+    }
+
+    /**
+     * Sets whether transaction builders calculate the network fee locally where possible instead of using the
+     * {@code calculatenetworkfee} RPC.
+     * <p>
+     * If enabled, the network fee of transactions whose signers are all single-sig or multi-sig accounts is
+     * calculated with the {@link io.neow3j.transaction.NetworkFeeCalculator} of the {@code Neow3j} instance. This
+     * saves one request to the Neo node per transaction.
+     * <p>
+     * Disabled by default.
+     *
+     * @param localNetworkFeeCalculation true to enable the local network fee calculation. False, otherwise.
+     * @return this.
+     */
+    public Neow3jConfig setLocalNetworkFeeCalculation(boolean localNetworkFeeCalculation) {
+        this.localNetworkFeeCalculation = localNetworkFeeCalculation;
+        return this;
+    }
+
+    /**
+     * @return true if transaction builders read chain parameters from the chain parameter cache. False, otherwise.
+     * @see #setChainParameterCaching(boolean)
+     */
+    public boolean isChainParameterCaching() {
+        return chainParameterCaching;
+    }
+
+    /**
+     * Sets whether transaction builders read the block count and the committee from the
+     * {@link io.neow3j.protocol.cache.ChainParameterCache} of the {@code Neow3j} instance instead of requesting them
+     * for every transaction.
+     * <p>
+     * A cached block count can be behind the chain by up to its time to live. Transactions then get a
+     * {@code validUntilBlock} that is lower than the maximum by that amount of blocks.
+     * <p>
+     * Disabled by default.
+     *
+     * @param chainParameterCaching true to enable the caching. False, otherwise.
+     * @return this.
+     */
+    public Neow3jConfig setChainParameterCaching(boolean chainParameterCaching) {
+        this.chainParameterCaching = chainParameterCaching;
+        return this;
+    }
+
 }
@@ -1,11 +1,15 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.notifications.Notification;
 import io.reactivex.Observable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -34,6 +38,43 @@ public interface Neow3jService {
      */
     <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType);
 
+    /**
+     * Performs a synchronous JSON-RPC batch request, i.e., sends all requests of the batch in one round trip.
+     * <p>
+     * The default implementation sends the requests of the batch one after another.
+     *
+     * @param batchRequest the batch of requests to perform.
+     * @return the deserialized JSON-RPC responses in the order of the batch's requests.
+     * @throws IOException if the batch request could not be performed.
+     */
+    default BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Response<?>> responses = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            responses.add(send(request, request.getResponseType()));
+        }
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request, i.e., sends all requests of the batch in one round trip.
+     * <p>
+     * The default implementation sends the requests of the batch separately and concurrently.
+     *
+     * @param batchRequest the batch of requests to perform.
+     * @return a CompletableFuture that will be completed when the responses are returned or the request has failed.
+     */
+    default CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<CompletableFuture<? extends Response<?>>> futures = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            futures.add(sendAsync(request, request.getResponseType()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<Response<?>> responses = new ArrayList<>();
+            futures.forEach(future -> responses.add(future.join()));
+            return new BatchResponse(batchRequest.getRequests(), responses);
+        });
+    }
+
     /**
      * Subscribe to a stream of notifications. A stream of notifications is opened by by performing a specified
      * JSON-RPC request and is closed by calling the unsubscribe method. Different WebSocket implementations use
@@ -53,6 +94,13 @@ public interface Neow3jService {
             String unsubscribeMethod,
             Class<T> responseType);
 
+    /**
+     * @return true if this service supports subscriptions to streams of notifications. False, otherwise.
+     */
+    default boolean supportsSubscriptions() {
+        return false;
+    }
+
     /**
      * Closes resources used by the service.
      *
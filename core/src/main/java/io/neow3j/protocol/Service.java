@@ -1,16 +1,43 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.cache.ImmutableRequests;
+import io.neow3j.protocol.cache.ResponseCache;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.RawResponseCapture;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.metrics.RpcCall;
+import io.neow3j.protocol.metrics.RpcMetricsListener;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
 import io.reactivex.Observable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 
@@ -19,10 +46,29 @@ import static java.lang.String.format;
  */
 public abstract class Service implements Neow3jService {
 
+    /**
+     * The methods that are called most often concurrently with the same parameters, e.g., by transaction builders
+     * and block pollers running in parallel. Can be passed to {@link #setCoalescedMethods(String...)}.
+     */
+    public static final Set<String> DEFAULT_COALESCED_METHODS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("getblockcount", "getbestblockhash", "getblockheadercount", "getversion", "getcommittee",
+                    "getnextblockvalidators", "getcontractstate", "getnativecontracts", "getstateheight")));
+
     protected final ObjectMapper objectMapper;
 
+    protected final boolean includeRawResponses;
+
     protected ExecutorService asyncExecutorService;
 
+    private volatile ResponseCache responseCache;
+    private volatile RpcMetricsListener metricsListener;
+
+    private volatile Set<String> rawResponseMethods;
+    private volatile long maxRawResponseSize = Long.MAX_VALUE;
+
+    private volatile Set<String> coalescedMethods = Collections.emptySet();
+    private final Map<String, CompletableFuture<? extends Response>> inFlightRequests = new ConcurrentHashMap<>();
+
     /**
      * Creates a Service.
      *
@@ -31,6 +77,7 @@ public abstract class Service implements Neow3jService {
      */
     public Service(ExecutorService executorService, boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
         asyncExecutorService = executorService;
     }
 
@@ -40,22 +87,406 @@ public abstract class Service implements Neow3jService {
      * @param includeRawResponses whether to include raw responses on the {@link Response} object.
      */
     public Service(boolean includeRawResponses) {
-        objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this(null, includeRawResponses);
+    }
+
+    /**
+     * Sets the cache for responses of requests that return immutable data. Such requests are then only sent to the
+     * Neo node if the cache does not contain their response yet.
+     *
+     * @param responseCache the response cache or null to disable caching.
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @return the response cache or null if caching is disabled.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Sets the methods for which concurrent identical requests are coalesced. If a request is sent while a request
+     * with the same method and parameters is still in flight, it does not go over the wire but shares the response of
+     * the request in flight. By default, no requests are coalesced.
+     * <p>
+     * Coalesced requests receive the same response object. Thus, its id is the id of the request that was sent.
+     *
+     * @param methods the JSON-RPC methods, e.g., {@link #DEFAULT_COALESCED_METHODS}.
+     */
+    public void setCoalescedMethods(String... methods) {
+        setCoalescedMethods(Arrays.asList(methods));
+    }
+
+    /**
+     * Sets the methods for which concurrent identical requests are coalesced.
+     *
+     * @param methods the JSON-RPC methods, e.g., {@link #DEFAULT_COALESCED_METHODS}.
+     * @see #setCoalescedMethods(String...)
+     */
+    public void setCoalescedMethods(Collection<String> methods) {
+        this.coalescedMethods = Collections.unmodifiableSet(new HashSet<>(methods));
+    }
+
+    /**
+     * @return the methods for which concurrent identical requests are coalesced.
+     */
+    public Set<String> getCoalescedMethods() {
+        return coalescedMethods;
+    }
+
+    /**
+     * Sets the listener that receives the metrics of every JSON-RPC call this service performs, e.g.,
+     * {@link io.neow3j.protocol.metrics.InMemoryRpcMetrics}.
+     * <p>
+     * While a listener is set, response bodies are read completely before they are deserialized. This allows to
+     * measure the network and the deserialization time separately.
+     *
+     * @param metricsListener the listener or null to disable metrics.
+     */
+    public void setMetricsListener(RpcMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * @return the metrics listener or null if metrics are disabled.
+     */
+    public RpcMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Restricts the raw responses to the given methods. Responses of other methods are deserialized without keeping
+     * their raw response, i.e., {@link Response#getRawResponse()} returns null. By default, the raw responses of all
+     * methods are kept.
+     * <p>
+     * Only has an effect if this service was created to include raw responses.
+     *
+     * @param methods the JSON-RPC methods or none to keep the raw responses of all methods.
+     */
+    public void setRawResponseMethods(String... methods) {
+        this.rawResponseMethods = methods.length == 0
+                ? null
+                : Collections.unmodifiableSet(new HashSet<>(Arrays.asList(methods)));
+    }
+
+    /**
+     * Sets the maximum size of the raw responses that are kept. Larger responses are still deserialized, but
+     * {@link Response#getRawResponse()} returns null. By default, there is no limit.
+     * <p>
+     * Only has an effect if this service was created to include raw responses.
+     *
+     * @param maxRawResponseSize the maximum size in bytes.
+     */
+    public void setMaxRawResponseSize(long maxRawResponseSize) {
+        if (maxRawResponseSize < 0) {
+            throw new IllegalArgumentException("The maximum raw response size must not be negative.");
+        }
+        this.maxRawResponseSize = maxRawResponseSize;
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
     @Override
     public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        T cachedResponse = getCachedResponse(request, responseType);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+        if (isCoalesced(request)) {
+            return waitFor(coalesce(request, responseType,
+                    () -> CompletableFuture.completedFuture(performSend(request, responseType))));
+        }
+        return performSend(request, responseType);
+    }
+
+    private <T extends Response> T performSend(Request<?, ?> request, Class<T> responseType) throws IOException {
         String payload = objectMapper.writeValueAsString(request);
+        return performCall(request.getMethod(), payload, result -> readResponse(request, result, responseType));
+    }
 
+    private <T> T performCall(String method, String payload, ResponseReader<T> responseReader) throws IOException {
+        CallTimer timer = startCall(method, payload);
+        T value;
         try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                return objectMapper.readValue(result, responseType);
+            value = result == null ? null : readTimed(result, timer, responseReader);
+        } catch (IOException | RuntimeException e) {
+            failCall(timer, e);
+            throw e;
+        }
+        completeCall(timer, value);
+        return value;
+    }
+
+    /**
+     * Looks up the response to the given request in the {@link ResponseCache}.
+     *
+     * @param request      the request.
+     * @param responseType the type of the response.
+     * @param <T>          the type of the response.
+     * @return the cached response or null if the response is not cached.
+     * @throws IOException if the cached response could not be deserialized.
+     */
+    protected <T extends Response> T getCachedResponse(Request<?, ?> request, Class<T> responseType)
+            throws IOException {
+
+        ResponseCache cache = responseCache;
+        if (cache == null || !cache.isCacheable(request)) {
+            return null;
+        }
+        byte[] cached = cache.get(cacheKey(request));
+        if (cached == null) {
+            return null;
+        }
+        T response = objectMapper.readValue(
+                captureRawResponse(request.getMethod(), new ByteArrayInputStream(cached)), responseType);
+        response.setId(request.getId());
+        return response;
+    }
+
+    /**
+     * Deserializes the response to the given request and adds it to the {@link ResponseCache} if it is cacheable.
+     *
+     * @param request      the request.
+     * @param result       the response returned by the Neo node.
+     * @param responseType the type of the response.
+     * @param <T>          the type of the response.
+     * @return the deserialized response.
+     * @throws IOException if the response could not be deserialized.
+     */
+    protected <T extends Response> T readResponse(Request<?, ?> request, InputStream result,
+            Class<T> responseType) throws IOException {
+
+        ResponseCache cache = responseCache;
+        if (cache == null || !cache.isCacheable(request)) {
+            return objectMapper.readValue(captureRawResponse(request.getMethod(), result), responseType);
+        }
+        byte[] bytes = readAllBytes(result);
+        T response = objectMapper.readValue(
+                captureRawResponse(request.getMethod(), new ByteArrayInputStream(bytes)), responseType);
+        if (!response.hasError() && response.getResult() != null) {
+            cache.put(cacheKey(request), bytes);
+        }
+        return response;
+    }
+
+    /**
+     * Wraps the response stream, so that the raw response is captured while the response is deserialized. Thus, the
+     * response is parsed in a single pass without buffering it first.
+     *
+     * @param method the JSON-RPC method of the request.
+     * @param result the response returned by the Neo node.
+     * @return the stream to deserialize the response from.
+     */
+    protected InputStream captureRawResponse(String method, InputStream result) {
+        if (!includeRawResponses) {
+            return result;
+        }
+        Set<String> methods = rawResponseMethods;
+        boolean capture = methods == null || methods.contains(method);
+        return new RawResponseCapture(result, capture ? maxRawResponseSize : -1);
+    }
+
+    /**
+     * @param request the request.
+     * @return true if the request is coalesced with identical requests in flight. False, otherwise.
+     */
+    protected boolean isCoalesced(Request<?, ?> request) {
+        return coalescedMethods.contains(request.getMethod());
+    }
+
+    /**
+     * Coalesces the given request with an identical request in flight. If there is none, the request is performed
+     * with the given call and other identical requests will share its response until it completes.
+     * <p>
+     * Each caller receives its own future, so that cancelling it does not affect the other callers.
+     *
+     * @param request      the request.
+     * @param responseType the type of the response.
+     * @param call         performs the request if no identical request is in flight.
+     * @param <T>          the type of the response.
+     * @return the future response.
+     */
+    protected <T extends Response> CompletableFuture<T> coalesce(Request<?, ?> request, Class<T> responseType,
+            Callable<CompletableFuture<T>> call) {
+
+        String key;
+        try {
+            key = responseType.getName() + ":" + cacheKey(request);
+        } catch (IOException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        CompletableFuture<T> inFlight = new CompletableFuture<>();
+        CompletableFuture<? extends Response> existing = inFlightRequests.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            return existing.thenApply(responseType::cast);
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = call.call();
+        } catch (Throwable e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+        result.whenComplete((response, throwable) -> {
+            // Removed before completing, so that requests sent after the response was received go over the wire.
+            inFlightRequests.remove(key, inFlight);
+            if (throwable != null) {
+                inFlight.completeExceptionally(throwable);
             } else {
-                return null;
+                inFlight.complete(response);
+            }
+        });
+        return inFlight.thenApply(Function.identity());
+    }
+
+    // region Metrics
+
+    /**
+     * Starts measuring a call.
+     *
+     * @param method  the JSON-RPC method or {@link RpcCall#BATCH}.
+     * @param payload the serialized request.
+     * @return the timer of the call or null if metrics are disabled.
+     */
+    protected CallTimer startCall(String method, String payload) {
+        RpcMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return null;
+        }
+        return new CallTimer(listener, method, payload.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    /**
+     * Reads the response body with the given reader. If the call is measured, the body is read completely before it
+     * is passed to the reader, so that the time spent on the network and on deserialization can be told apart.
+     *
+     * @param result         the response body.
+     * @param timer          the timer of the call or null.
+     * @param responseReader the reader that deserializes the response body.
+     * @param <T>            the type of the deserialized response.
+     * @return the deserialized response.
+     * @throws IOException if the response body could not be read or deserialized.
+     */
+    protected <T> T readTimed(InputStream result, CallTimer timer, ResponseReader<T> responseReader)
+            throws IOException {
+
+        if (timer == null) {
+            return responseReader.read(result);
+        }
+        byte[] bytes = readAllBytes(result);
+        timer.responseReceived(bytes.length);
+        return responseReader.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Reports a completed call to the metrics listener.
+     *
+     * @param timer  the timer of the call or null.
+     * @param result the deserialized response.
+     */
+    protected void completeCall(CallTimer timer, Object result) {
+        if (timer != null) {
+            Response.Error error = result instanceof Response ? ((Response<?>) result).getError() : null;
+            timer.report(error, null);
+        }
+    }
+
+    /**
+     * Reports a failed call to the metrics listener.
+     *
+     * @param timer   the timer of the call or null.
+     * @param failure the cause of the failure.
+     */
+    protected void failCall(CallTimer timer, Throwable failure) {
+        if (timer != null) {
+            timer.report(null, failure);
+        }
+    }
+
+    /**
+     * Reads a response body.
+     *
+     * @param <T> the type of the deserialized response.
+     */
+    @FunctionalInterface
+    protected interface ResponseReader<T> {
+
+        T read(InputStream result) throws IOException;
+
+    }
+
+    /**
+     * Measures a single call for the {@link RpcMetricsListener}.
+     */
+    protected static final class CallTimer {
+
+        private final RpcMetricsListener listener;
+        private final String method;
+        private final long requestSize;
+        private final long startTime = System.nanoTime();
+        private long responseSize;
+        private long receivedTime;
+
+        private CallTimer(RpcMetricsListener listener, String method, long requestSize) {
+            this.listener = listener;
+            this.method = method;
+            this.requestSize = requestSize;
+        }
+
+        private void responseReceived(long size) {
+            responseSize = size;
+            receivedTime = System.nanoTime();
+        }
+
+        private void report(Response.Error error, Throwable failure) {
+            long now = System.nanoTime();
+            long networkEnd = receivedTime == 0 ? now : receivedTime;
+            listener.onCall(new RpcCall(method, requestSize, responseSize, networkEnd - startTime,
+                    now - networkEnd, error, failure));
+        }
+
+    }
+
+    // endregion
+
+    private static <T> T waitFor(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private String cacheKey(Request<?, ?> request) throws IOException {
+        return ImmutableRequests.cacheKey(request.getMethod(), objectMapper.writeValueAsString(request.getParams()));
+    }
+
+    private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
         }
+        return outputStream.toByteArray();
     }
 
     @Override
@@ -63,6 +494,61 @@ public abstract class Service implements Neow3jService {
         return Async.run(() -> send(jsonRpc20Request, responseType), asyncExecutorService);
     }
 
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if (batchRequest.isEmpty()) {
+            return new BatchResponse(batchRequest.getRequests(), new ArrayList<>());
+        }
+        String payload = objectMapper.writeValueAsString(batchRequest.getRequests());
+        return performCall(RpcCall.BATCH, payload,
+                result -> readBatchResponse(batchRequest, objectMapper.readTree(result)));
+    }
+
+    /**
+     * Deserializes the responses of a batch request and matches them to the requests of the batch by their id.
+     *
+     * @param batchRequest the batch request.
+     * @param result       the JSON array returned by the Neo node.
+     * @return the batch response.
+     * @throws IOException if a response could not be deserialized.
+     */
+    protected BatchResponse readBatchResponse(BatchRequest batchRequest, JsonNode result) throws IOException {
+        if (!result.isArray()) {
+            // The node rejected the batch as a whole, e.g., because the request was malformed.
+            Response<?> response = objectMapper.treeToValue(result, Response.class);
+            if (response.hasError()) {
+                throw new RpcResponseErrorException(response.getError());
+            }
+            throw new ClientConnectionException("Invalid batch response received: " + result);
+        }
+
+        Map<Long, JsonNode> responseNodes = new HashMap<>();
+        for (JsonNode responseNode : result) {
+            responseNodes.put(responseNode.path("id").asLong(), responseNode);
+        }
+
+        List<Response<?>> responses = new ArrayList<>(batchRequest.size());
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            JsonNode responseNode = responseNodes.get(request.getId());
+            if (responseNode == null) {
+                throw new ClientConnectionException(
+                        format("The batch response is missing the response to the request with id %d.",
+                                request.getId()));
+            }
+            Response<?> response = objectMapper.treeToValue(responseNode, request.getResponseType());
+            if (includeRawResponses) {
+                response.setRawResponse(responseNode.toString());
+            }
+            responses.add(response);
+        }
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest), asyncExecutorService);
+    }
+
     @Override
     public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
             Class<T> responseType) {
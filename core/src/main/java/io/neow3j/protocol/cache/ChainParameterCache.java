@@ -0,0 +1,304 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.types.Hash160;
+import io.neow3j.utils.Async;
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches chain parameters that change rarely, so that transaction builders and contract wrappers using the same
+ * {@link Neow3j} instance do not request them from the Neo node again and again.
+ * <p>
+ * Every parameter has its own time to live (see {@link #setTtl(Parameter, long)}). Additionally, the cache can follow
+ * the blocks of the chain (see {@link #watchBlocks()}). It then updates the block count with every new block, drops
+ * the committee at committee refresh heights and drops the policy values when a block contains a transaction that
+ * calls one of their setters on the Policy contract.
+ * <p>
+ * Reads do not lock. Concurrent reads of a missing or expired parameter share one request to the Neo node. Failed
+ * requests are not cached.
+ */
+public class ChainParameterCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ChainParameterCache.class);
+
+    /**
+     * The default time to live of the block count in milliseconds.
+     */
+    public static final long DEFAULT_BLOCK_COUNT_TTL = 1000;
+
+    /**
+     * The default time to live of the committee, the fee per byte and the execution fee factor in milliseconds.
+     */
+    public static final long DEFAULT_TTL = 60 * 1000;
+
+    private static final Hash160 POLICY_CONTRACT_HASH = new Hash160("cc5e4edd9f5f8dba8bb65734541df7a1c081c67b");
+    private static final String GET_FEE_PER_BYTE = "getFeePerByte";
+    private static final String GET_EXEC_FEE_FACTOR = "getExecFeeFactor";
+    private static final byte[] POLICY_CONTRACT_HASH_BYTES = POLICY_CONTRACT_HASH.toLittleEndianArray();
+    private static final byte[] SET_FEE_PER_BYTE = "setFeePerByte".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SET_EXEC_FEE_FACTOR = "setExecFeeFactor".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The chain parameters held by the cache.
+     */
+    public enum Parameter {
+        BLOCK_COUNT,
+        COMMITTEE,
+        FEE_PER_BYTE,
+        EXEC_FEE_FACTOR,
+        NETWORK_MAGIC
+    }
+
+    private final Neow3j neow3j;
+
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(Parameter.values().length);
+    private final AtomicLongArray ttls = new AtomicLongArray(Parameter.values().length);
+
+    public ChainParameterCache(Neow3j neow3j) {
+        this.neow3j = neow3j;
+        ttls.set(Parameter.BLOCK_COUNT.ordinal(), DEFAULT_BLOCK_COUNT_TTL);
+        ttls.set(Parameter.COMMITTEE.ordinal(), DEFAULT_TTL);
+        ttls.set(Parameter.FEE_PER_BYTE.ordinal(), DEFAULT_TTL);
+        ttls.set(Parameter.EXEC_FEE_FACTOR.ordinal(), DEFAULT_TTL);
+        // The network magic of a Neo node never changes.
+        ttls.set(Parameter.NETWORK_MAGIC.ordinal(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Sets the time to live of a parameter. A time to live of 0 disables caching of the parameter.
+     * <p>
+     * The new time to live applies to values fetched after this call.
+     *
+     * @param parameter the parameter.
+     * @param ttl       the time to live in milliseconds.
+     * @return this.
+     */
+    public ChainParameterCache setTtl(Parameter parameter, long ttl) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("The time to live must not be negative.");
+        }
+        ttls.set(parameter.ordinal(), ttl);
+        return this;
+    }
+
+    /**
+     * @param parameter the parameter.
+     * @return the time to live of the parameter in milliseconds.
+     */
+    public long getTtl(Parameter parameter) {
+        return ttls.get(parameter.ordinal());
+    }
+
+    /**
+     * @return the number of blocks in the chain.
+     */
+    public CompletableFuture<Long> getBlockCount() {
+        return get(Parameter.BLOCK_COUNT, () -> neow3j.getBlockCount().sendAsync()
+                .thenApply(response -> response.getBlockCount().longValue()));
+    }
+
+    /**
+     * @return the public keys of the committee members.
+     */
+    public CompletableFuture<List<ECPublicKey>> getCommittee() {
+        return get(Parameter.COMMITTEE, () -> neow3j.getCommittee().sendAsync()
+                .thenApply(response -> response.getCommittee().stream()
+                        .map(ECPublicKey::new)
+                        .collect(Collectors.toList())));
+    }
+
+    /**
+     * @return the fee per transaction byte in fractions of GAS.
+     */
+    public CompletableFuture<Long> getFeePerByte() {
+        return get(Parameter.FEE_PER_BYTE, () -> fetchPolicyValue(GET_FEE_PER_BYTE));
+    }
+
+    /**
+     * @return the execution fee factor.
+     */
+    public CompletableFuture<Long> getExecFeeFactor() {
+        return get(Parameter.EXEC_FEE_FACTOR, () -> fetchPolicyValue(GET_EXEC_FEE_FACTOR));
+    }
+
+    /**
+     * Gets the network magic number. If it is configured on the {@link Neow3j} instance, no request is made.
+     *
+     * @return the network magic number.
+     */
+    public CompletableFuture<Long> getNetworkMagic() {
+        return get(Parameter.NETWORK_MAGIC, () -> Async.run(neow3j::getNetworkMagicNumber));
+    }
+
+    /**
+     * Fetches all parameters that are not cached yet. Call this at startup to avoid the latency of the first
+     * requests when the first transactions are built.
+     *
+     * @return a future that completes when all parameters are cached.
+     */
+    public CompletableFuture<Void> warmUp() {
+        return CompletableFuture.allOf(getBlockCount(), getCommittee(), getFeePerByte(), getExecFeeFactor(),
+                getNetworkMagic());
+    }
+
+    /**
+     * Removes a parameter from the cache, so that it is fetched again on the next read.
+     *
+     * @param parameter the parameter.
+     */
+    public void invalidate(Parameter parameter) {
+        entries.set(parameter.ordinal(), null);
+    }
+
+    /**
+     * Removes all parameters from the cache.
+     */
+    public void invalidateAll() {
+        for (Parameter parameter : Parameter.values()) {
+            invalidate(parameter);
+        }
+    }
+
+    /**
+     * Updates the cache with a new block of the chain.
+     * <p>
+     * The block count is set to the block's index plus one, unless a higher block count is cached. The committee is
+     * removed if the block is at a committee refresh height, i.e., if its index is a multiple of the committee size.
+     * The fee per byte and the execution fee factor are removed if the block contains a transaction that calls their
+     * setter on the Policy contract. This requires the block to contain the full transaction objects.
+     *
+     * @param block the block.
+     */
+    public void onBlock(NeoBlock block) {
+        updateBlockCount(block.getIndex() + 1);
+
+        Entry committee = entries.get(Parameter.COMMITTEE.ordinal());
+        if (committee != null && committee.value.isDone() && !committee.value.isCompletedExceptionally()) {
+            int committeeSize = ((List<?>) committee.value.join()).size();
+            if (committeeSize > 0 && block.getIndex() % committeeSize == 0) {
+                entries.compareAndSet(Parameter.COMMITTEE.ordinal(), committee, null);
+            }
+        }
+
+        if (block.getTransactions() == null) {
+            return;
+        }
+        for (Transaction tx : block.getTransactions()) {
+            if (tx.getScript() == null) {
+                continue;
+            }
+            byte[] script = Base64.decode(tx.getScript());
+            if (!contains(script, POLICY_CONTRACT_HASH_BYTES)) {
+                continue;
+            }
+            if (contains(script, SET_FEE_PER_BYTE)) {
+                invalidate(Parameter.FEE_PER_BYTE);
+            }
+            if (contains(script, SET_EXEC_FEE_FACTOR)) {
+                invalidate(Parameter.EXEC_FEE_FACTOR);
+            }
+        }
+    }
+
+    /**
+     * Subscribes to the new blocks of the chain and updates the cache with every block (see
+     * {@link #onBlock(NeoBlock)}).
+     *
+     * @return the subscription. Dispose it to stop following the chain.
+     */
+    public Disposable watchBlocks() {
+        return neow3j.blockObservable(true).subscribe(
+                neoGetBlock -> onBlock(neoGetBlock.getBlock()),
+                throwable -> log.warn("Stopped updating the chain parameter cache with new blocks.", throwable));
+    }
+
+    private void updateBlockCount(long blockCount) {
+        long expiresAt = expiresAt(Parameter.BLOCK_COUNT);
+        int index = Parameter.BLOCK_COUNT.ordinal();
+        Entry current;
+        do {
+            current = entries.get(index);
+            if (current != null && current.value.isDone() && !current.value.isCompletedExceptionally() &&
+                    (Long) current.value.join() > blockCount) {
+                return;
+            }
+        } while (!entries.compareAndSet(index, current,
+                new Entry(CompletableFuture.completedFuture(blockCount), expiresAt)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> get(Parameter parameter, Supplier<CompletableFuture<T>> fetch) {
+        int index = parameter.ordinal();
+        Entry current = entries.get(index);
+        if (current != null && System.currentTimeMillis() < current.expiresAt) {
+            return (CompletableFuture<T>) current.value;
+        }
+        CompletableFuture<T> value = new CompletableFuture<>();
+        Entry fetched = new Entry(value, expiresAt(parameter));
+        if (!entries.compareAndSet(index, current, fetched)) {
+            // Another read is already fetching the parameter.
+            return get(parameter, fetch);
+        }
+        fetch.get().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                // Don't cache the failure, so that the next read tries again.
+                entries.compareAndSet(index, fetched, null);
+                value.completeExceptionally(throwable);
+            } else {
+                value.complete(result);
+            }
+        });
+        return value;
+    }
+
+    private long expiresAt(Parameter parameter) {
+        long ttl = ttls.get(parameter.ordinal());
+        long now = System.currentTimeMillis();
+        return ttl > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttl;
+    }
+
+    private CompletableFuture<Long> fetchPolicyValue(String function) {
+        return neow3j.invokeFunction(POLICY_CONTRACT_HASH, function).sendAsync()
+                .thenApply(response -> response.getInvocationResult().getStack().get(0).getInteger().longValue());
+    }
+
+    private static boolean contains(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static class Entry {
+
+        private final CompletableFuture<?> value;
+        private final long expiresAt;
+
+        Entry(CompletableFuture<?> value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
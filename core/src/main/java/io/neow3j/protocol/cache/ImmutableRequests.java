@@ -0,0 +1,69 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.core.Request;
+
+import java.util.List;
+
+/**
+ * Knows which JSON-RPC requests return immutable data, i.e., data that does not change anymore once the Neo node
+ * returned it successfully.
+ * <p>
+ * Verbose blocks and transactions are not immutable because they contain the number of confirmations. A block hash
+ * looked up by index is immutable because Neo's dBFT consensus provides single block finality. The native contracts
+ * are not immutable because they are updated by hardforks.
+ */
+public final class ImmutableRequests {
+
+    private ImmutableRequests() {
+    }
+
+    /**
+     * Checks if the given request returns immutable data.
+     * <ul>
+     *     <li>{@code getblock} and {@code getblockheader} by block hash, non-verbose</li>
+     *     <li>{@code getrawtransaction}, non-verbose</li>
+     *     <li>{@code getapplicationlog}</li>
+     *     <li>{@code getblockhash}</li>
+     * </ul>
+     * Responses with errors, e.g., for blocks or transactions that do not exist yet, must never be cached.
+     *
+     * @param request the request.
+     * @return true if the request returns immutable data. False, otherwise.
+     */
+    public static boolean isImmutable(Request<?, ?> request) {
+        List<?> params = request.getParams();
+        switch (request.getMethod()) {
+            case "getblock":
+            case "getblockheader":
+                return params.size() == 2 && isHash(params.get(0)) && isNonVerbose(params.get(1));
+            case "getrawtransaction":
+                return params.size() == 2 && isNonVerbose(params.get(1));
+            case "getapplicationlog":
+            case "getblockhash":
+                return params.size() == 1;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Creates the key used to cache the response of a request.
+     *
+     * @param method the JSON-RPC method.
+     * @param params the serialized parameters of the request.
+     * @return the cache key.
+     */
+    public static String cacheKey(String method, String params) {
+        return method + params;
+    }
+
+    // Block indices are passed as numbers while block hashes are hashes or strings.
+    private static boolean isHash(Object param) {
+        return !(param instanceof Number);
+    }
+
+    private static boolean isNonVerbose(Object param) {
+        return Integer.valueOf(0).equals(param) || Boolean.FALSE.equals(param);
+    }
+
+}
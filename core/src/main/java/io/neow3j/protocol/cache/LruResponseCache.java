@@ -0,0 +1,252 @@
+package io.neow3j.protocol.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static io.neow3j.crypto.Hash.sha256;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+
+/**
+ * A {@link ResponseCache} that keeps the least recently used responses on the heap, bounded by their total size in
+ * bytes.
+ * <p>
+ * Optionally, responses are also written to a directory. Responses that were evicted from the heap, or cached by a
+ * previous run of the application, are then read from disk instead of being requested from the Neo node again. The
+ * disk tier is not bounded. Its directory can be cleared at any time to reclaim the space.
+ * <p>
+ * The cache keys only consist of the requests. Thus, a cache must only be used for a single network. On disk, the
+ * responses are stored in a subdirectory per namespace, e.g., per network magic number, so that caches of different
+ * networks can share a directory.
+ */
+public class LruResponseCache implements ResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LruResponseCache.class);
+
+    public static final long DEFAULT_MAX_SIZE = 32 * 1024 * 1024;
+
+    private static final Pattern NAMESPACE_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final long maxSize;
+    private final Path directory;
+
+    // Guarded by this.
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an on-heap cache with a maximum size of {@value #DEFAULT_MAX_SIZE} bytes.
+     */
+    public LruResponseCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an on-heap cache.
+     *
+     * @param maxSize the maximum total size of the cached responses in bytes.
+     */
+    public LruResponseCache(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size must not be negative.");
+        }
+        this.maxSize = maxSize;
+        this.directory = null;
+    }
+
+    /**
+     * Creates a cache with a disk tier for the network with the given magic number.
+     *
+     * @param maxSize      the maximum total size of the responses cached on the heap in bytes.
+     * @param directory    the directory of the disk tier.
+     * @param networkMagic the magic number of the network the responses are requested from.
+     * @throws IllegalArgumentException if the directory cannot be created.
+     */
+    public LruResponseCache(long maxSize, Path directory, long networkMagic) {
+        this(maxSize, directory, Long.toString(networkMagic));
+    }
+
+    /**
+     * Creates a cache with a disk tier.
+     *
+     * @param maxSize   the maximum total size of the responses cached on the heap in bytes.
+     * @param directory the directory of the disk tier.
+     * @param namespace the name of the subdirectory of {@code directory} the responses are stored in. Must only
+     *                  contain letters, digits, underscores and hyphens.
+     * @throws IllegalArgumentException if the namespace is invalid or the directory cannot be created.
+     */
+    public LruResponseCache(long maxSize, Path directory, String namespace) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size must not be negative.");
+        }
+        if (namespace == null || !NAMESPACE_PATTERN.matcher(namespace).matches()) {
+            throw new IllegalArgumentException("The namespace must only contain letters, digits, underscores and " +
+                    "hyphens.");
+        }
+        this.maxSize = maxSize;
+        this.directory = directory.resolve(namespace);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not create the cache directory " + this.directory, e);
+        }
+    }
+
+    @Override
+    public byte[] get(String key) {
+        byte[] response;
+        synchronized (this) {
+            response = entries.get(key);
+        }
+        if (response != null) {
+            hits.increment();
+            return response;
+        }
+        if (directory != null) {
+            response = readFromDisk(key);
+            if (response != null) {
+                diskHits.increment();
+                putOnHeap(key, response);
+                return response;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    public void put(String key, byte[] response) {
+        putOnHeap(key, response);
+        if (directory != null) {
+            writeToDisk(key, response);
+        }
+    }
+
+    private synchronized void putOnHeap(String key, byte[] response) {
+        if (response.length > maxSize) {
+            return;
+        }
+        byte[] previous = entries.put(key, response);
+        if (previous != null) {
+            size -= previous.length;
+        }
+        size += response.length;
+        Iterator<byte[]> iterator = entries.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= iterator.next().length;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes all responses from the heap. The disk tier is not affected.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    // region Disk Tier
+
+    private Path fileFor(String key) {
+        return directory.resolve(toHexStringNoPrefix(sha256(key.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private byte[] readFromDisk(String key) {
+        try {
+            return Files.readAllBytes(fileFor(key));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Could not read cached response from disk", e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, byte[] response) {
+        Path file = fileFor(key);
+        if (Files.exists(file)) {
+            return;
+        }
+        try {
+            // Written to a temporary file first, so that readers never see a partially written response.
+            Path tempFile = Files.createTempFile(directory, "response", ".tmp");
+            Files.write(tempFile, response);
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not write cached response to disk", e);
+        }
+    }
+
+    // endregion
+    // region Metrics
+
+    /**
+     * @return the number of lookups answered from the heap.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups answered from the disk tier.
+     */
+    public long getDiskHitCount() {
+        return diskHits.sum();
+    }
+
+    /**
+     * @return the number of lookups that could not be answered.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of responses that were evicted from the heap to stay within the maximum size.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the total size of the responses cached on the heap in bytes.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the number of responses cached on the heap.
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return the maximum total size of the responses cached on the heap in bytes.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,42 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.Request;
+
+/**
+ * A cache for JSON-RPC responses, used by a {@link Service} to answer repeated requests without contacting the Neo
+ * node.
+ * <p>
+ * The cache stores the serialized responses. Thus, every lookup produces a new response object and callers cannot
+ * modify the cached data.
+ */
+public interface ResponseCache {
+
+    /**
+     * Gets a cached response.
+     *
+     * @param key the key of the request (see {@link ImmutableRequests#cacheKey(String, String)}).
+     * @return the serialized response or null if the cache does not contain a response for the key.
+     */
+    byte[] get(String key);
+
+    /**
+     * Adds a response to the cache.
+     *
+     * @param key      the key of the request (see {@link ImmutableRequests#cacheKey(String, String)}).
+     * @param response the serialized response.
+     */
+    void put(String key, byte[] response);
+
+    /**
+     * Checks if the response to the given request can be cached. Only responses that never change once the Neo node
+     * returned them successfully may be cached.
+     *
+     * @param request the request.
+     * @return true if the response can be cached. False, otherwise.
+     */
+    default boolean isCacheable(Request<?, ?> request) {
+        return ImmutableRequests.isImmutable(request);
+    }
+
+}
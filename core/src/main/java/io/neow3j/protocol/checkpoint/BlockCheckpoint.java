@@ -0,0 +1,60 @@
+package io.neow3j.protocol.checkpoint;
+
+import io.neow3j.types.Hash256;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * The last block that was completely processed by a {@link CheckpointedBlockStream}.
+ */
+public class BlockCheckpoint {
+
+    private final BigInteger index;
+    private final Hash256 hash;
+
+    public BlockCheckpoint(BigInteger index, Hash256 hash) {
+        this.index = index;
+        this.hash = hash;
+    }
+
+    /**
+     * @return the index of the block.
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the hash of the block.
+     */
+    public Hash256 getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlockCheckpoint)) {
+            return false;
+        }
+        BlockCheckpoint that = (BlockCheckpoint) o;
+        return Objects.equals(getIndex(), that.getIndex()) && Objects.equals(getHash(), that.getHash());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getIndex(), getHash());
+    }
+
+    @Override
+    public String toString() {
+        return "BlockCheckpoint{" +
+                "index=" + index +
+                ", hash=" + hash +
+                '}';
+    }
+
+}
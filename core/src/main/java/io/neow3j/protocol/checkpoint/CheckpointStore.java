@@ -0,0 +1,28 @@
+package io.neow3j.protocol.checkpoint;
+
+import java.io.IOException;
+
+/**
+ * Stores the checkpoint of a {@link CheckpointedBlockStream} durably.
+ * <p>
+ * Implement this interface to keep the checkpoint in the same storage as the data derived from the blocks, e.g., in
+ * the same database transaction. Then, a block's data and its checkpoint are either both stored or not at all.
+ */
+public interface CheckpointStore {
+
+    /**
+     * @return the stored checkpoint or null if no checkpoint was stored yet.
+     * @throws IOException if the checkpoint could not be read.
+     */
+    BlockCheckpoint load() throws IOException;
+
+    /**
+     * Stores the given checkpoint and replaces the previous one. When this method returns, the checkpoint must
+     * survive a crash of the application.
+     *
+     * @param checkpoint the checkpoint.
+     * @throws IOException if the checkpoint could not be stored.
+     */
+    void save(BlockCheckpoint checkpoint) throws IOException;
+
+}
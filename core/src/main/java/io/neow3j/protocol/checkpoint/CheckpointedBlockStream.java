@@ -0,0 +1,98 @@
+package io.neow3j.protocol.checkpoint;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.types.Hash256;
+import io.reactivex.Observable;
+import io.reactivex.functions.Consumer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+
+/**
+ * A block stream that resumes where it stopped, e.g., after the application was restarted.
+ * <p>
+ * Each block is passed to a block processor. After the processor returned, the block's index and hash are stored in
+ * the {@link CheckpointStore}. When subscribing, the stream starts at the block after the stored checkpoint. Thus,
+ * every block is processed once, except for the block that was being processed when the application crashed. That
+ * block is processed again after the restart. If the processor stores the checkpoint together with the processed
+ * data, e.g., by a custom {@link CheckpointStore}, every block is processed exactly once.
+ * <p>
+ * Every block must follow the previously processed block. Otherwise, e.g., if the Neo node is connected to a
+ * different network than the checkpoint was created with, the stream fails with an {@link IllegalStateException}.
+ */
+public class CheckpointedBlockStream {
+
+    private final Neow3j neow3j;
+    private final CheckpointStore checkpointStore;
+    private final BigInteger startBlock;
+    private final boolean fullTransactionObjects;
+
+    /**
+     * Creates a block stream.
+     *
+     * @param neow3j                 the {@code Neow3j} instance.
+     * @param checkpointStore        the store of the checkpoint.
+     * @param startBlock             the block index at which to start if no checkpoint was stored yet.
+     * @param fullTransactionObjects if the full transactions objects should be included in the blocks.
+     */
+    public CheckpointedBlockStream(Neow3j neow3j, CheckpointStore checkpointStore, BigInteger startBlock,
+            boolean fullTransactionObjects) {
+        this.neow3j = neow3j;
+        this.checkpointStore = checkpointStore;
+        this.startBlock = startBlock;
+        this.fullTransactionObjects = fullTransactionObjects;
+    }
+
+    /**
+     * @return the checkpoint or null if no block was processed yet.
+     * @throws IOException if the checkpoint could not be read.
+     */
+    public BlockCheckpoint getCheckpoint() throws IOException {
+        return checkpointStore.load();
+    }
+
+    /**
+     * Creates an observable that processes the blocks after the checkpoint up to the most recent block and continues
+     * processing blocks that are newly created on the Neo blockchain. It emits the checkpoint of every processed
+     * block after it was stored.
+     * <p>
+     * If the block processor throws, the observable fails and the block is not checkpointed. The checkpoint is read
+     * on every subscription. Thus, it is safe to use {@code retry(...)} on this observable.
+     *
+     * @param blockProcessor the processor of the blocks. It is called sequentially and must process a block
+     *                       completely before returning.
+     * @return the observable of the checkpoints.
+     */
+    public Observable<BlockCheckpoint> process(Consumer<NeoGetBlock> blockProcessor) {
+        return Observable.defer(() -> {
+            BlockCheckpoint checkpoint = checkpointStore.load();
+            BigInteger nextBlock = checkpoint == null ? startBlock : checkpoint.getIndex().add(BigInteger.ONE);
+            AtomicReference<Hash256> lastHash = new AtomicReference<>(checkpoint == null ? null : checkpoint.getHash());
+
+            return neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(nextBlock, fullTransactionObjects)
+                    .map(neoGetBlock -> {
+                        NeoBlock block = neoGetBlock.getBlock();
+                        verifyContinuity(block, lastHash.get());
+                        blockProcessor.accept(neoGetBlock);
+                        BlockCheckpoint blockCheckpoint = new BlockCheckpoint(BigInteger.valueOf(block.getIndex()),
+                                block.getHash());
+                        checkpointStore.save(blockCheckpoint);
+                        lastHash.set(block.getHash());
+                        return blockCheckpoint;
+                    });
+        });
+    }
+
+    private static void verifyContinuity(NeoBlock block, Hash256 lastHash) {
+        if (lastHash != null && !lastHash.equals(block.getPrevBlockHash())) {
+            throw new IllegalStateException(format("Block %d does not follow the checkpointed block %s. Its " +
+                    "previous block is %s.", block.getIndex(), lastHash, block.getPrevBlockHash()));
+        }
+    }
+
+}
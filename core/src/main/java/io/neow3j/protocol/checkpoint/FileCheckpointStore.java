@@ -0,0 +1,102 @@
+package io.neow3j.protocol.checkpoint;
+
+import io.neow3j.types.Hash256;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static java.lang.String.format;
+
+/**
+ * A {@link CheckpointStore} that keeps the checkpoint in a local file.
+ * <p>
+ * A new checkpoint is written to a temporary file, flushed to the storage device and then renamed to the checkpoint
+ * file. The rename is atomic, so the checkpoint file contains either the previous or the new checkpoint, even if the
+ * application crashes while saving. Finally, the directory is flushed as well, so that the rename survives a power
+ * loss, on platforms that support this.
+ * <p>
+ * If the saving thread is interrupted while the directory is flushed, saving fails with a
+ * {@link ClosedByInterruptException}. The checkpoint file may contain the new checkpoint then, but it is not
+ * guaranteed to survive a power loss.
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    private final Path file;
+
+    /**
+     * Creates a store that keeps the checkpoint in the given file. The file's directory must exist.
+     *
+     * @param file the checkpoint file.
+     */
+    public FileCheckpointStore(Path file) {
+        this.file = file.toAbsolutePath();
+    }
+
+    /**
+     * @return the checkpoint file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public BlockCheckpoint load() throws IOException {
+        String content;
+        try {
+            content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        String[] parts = content.split(" ");
+        if (parts.length != 2) {
+            throw new IOException(format("The checkpoint file %s is corrupted.", file));
+        }
+        try {
+            return new BlockCheckpoint(new BigInteger(parts[0]), new Hash256(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(format("The checkpoint file %s is corrupted.", file), e);
+        }
+    }
+
+    @Override
+    public void save(BlockCheckpoint checkpoint) throws IOException {
+        byte[] content = format("%s %s%n", checkpoint.getIndex(), checkpoint.getHash())
+                .getBytes(StandardCharsets.UTF_8);
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            // Not written with a FileChannel, because disposing a block stream may interrupt its thread, which
+            // closes interruptible channels. A directory can only be flushed through a FileChannel, though.
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+                out.write(content);
+                out.getFD().sync();
+            }
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        syncDirectory(file.getParent());
+    }
+
+    // Flushes the directory entry of the renamed file. Opening a directory is not supported on all platforms (e.g.,
+    // on Windows), in which case the rename is only as durable as the file system makes it.
+    private static void syncDirectory(Path directory) throws ClosedByInterruptException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (ClosedByInterruptException e) {
+            // The flush was interrupted, so the rename is not known to be durable.
+            throw e;
+        } catch (IOException e) {
+            // Not supported on this platform.
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+
+/**
+ * A JSON-RPC 2.0 batch request. Bundles multiple {@link Request}s that are sent to the Neo node in a single round
+ * trip. The responses are matched back to their requests by their id and can be retrieved type-safe from the
+ * resulting {@link BatchResponse}.
+ */
+public class BatchRequest {
+
+    private final List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+    private final Set<Long> requestIds = new HashSet<>();
+
+    private final Neow3jService neow3jService;
+
+    public BatchRequest(Neow3jService neow3jService) {
+        this.neow3jService = neow3jService;
+    }
+
+    /**
+     * Adds a request to this batch.
+     * <p>
+     * The id of the request has to be unique within the batch because it is used to match the response to the
+     * request.
+     *
+     * @param request the request.
+     * @return this.
+     */
+    public BatchRequest add(Request<?, ? extends Response<?>> request) {
+        if (!requestIds.add(request.getId())) {
+            throw new IllegalArgumentException(format("The batch already contains a request with id %d.",
+                    request.getId()));
+        }
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * @return the requests of this batch in the order they were added.
+     */
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    /**
+     * @return the number of requests in this batch.
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * @return true if this batch does not contain any requests. False, otherwise.
+     */
+    public boolean isEmpty() {
+        return requests.isEmpty();
+    }
+
+    public BatchResponse send() throws IOException {
+        return neow3jService.sendBatch(this);
+    }
+
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return neow3jService.sendBatchAsync(this);
+    }
+
+}
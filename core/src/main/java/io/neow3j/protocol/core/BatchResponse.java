@@ -0,0 +1,57 @@
+package io.neow3j.protocol.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * The responses to a {@link BatchRequest}. The responses are ordered the same way as the requests of the batch,
+ * independent of the order in which the Neo node returned them.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ? extends Response<?>>> requests;
+    private final List<? extends Response<?>> responses;
+
+    public BatchResponse(List<Request<?, ? extends Response<?>>> requests, List<? extends Response<?>> responses) {
+        if (requests.size() != responses.size()) {
+            throw new IllegalArgumentException("The number of responses must match the number of requests.");
+        }
+        this.requests = requests;
+        this.responses = responses;
+    }
+
+    /**
+     * @return the responses in the same order as the requests of the batch.
+     */
+    public List<? extends Response<?>> getResponses() {
+        return Collections.unmodifiableList(responses);
+    }
+
+    /**
+     * Gets the response to the given request.
+     *
+     * @param request the request contained in the batch.
+     * @param <T>     the response type of the request.
+     * @return the response.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Response<?>> T getResponse(Request<?, T> request) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i).getId() == request.getId()) {
+                return (T) responses.get(i);
+            }
+        }
+        throw new IllegalArgumentException(format("The batch does not contain a request with id %d.",
+                request.getId()));
+    }
+
+    /**
+     * @return the number of responses.
+     */
+    public int size() {
+        return responses.size();
+    }
+
+}
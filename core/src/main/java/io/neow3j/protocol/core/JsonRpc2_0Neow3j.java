@@ -4,6 +4,7 @@ import io.neow3j.crypto.Base64;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.Neow3jConfig;
 import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.polling.MemPoolChange;
 import io.neow3j.protocol.core.response.NeoBlockCount;
 import io.neow3j.protocol.core.response.NeoBlockHash;
 import io.neow3j.protocol.core.response.NeoBlockHeaderCount;
@@ -52,24 +53,36 @@ import io.neow3j.protocol.core.response.NeoSendMany;
 import io.neow3j.protocol.core.response.NeoSendRawTransaction;
 import io.neow3j.protocol.core.response.NeoSendToAddress;
 import io.neow3j.protocol.core.response.NeoSubmitBlock;
+import io.neow3j.protocol.core.response.NeoSubscribe;
 import io.neow3j.protocol.core.response.NeoTerminateSession;
 import io.neow3j.protocol.core.response.NeoTraverseIterator;
 import io.neow3j.protocol.core.response.NeoValidateAddress;
 import io.neow3j.protocol.core.response.NeoVerifyProof;
+import io.neow3j.protocol.core.response.Transaction;
 import io.neow3j.protocol.core.response.TransactionSendToken;
 import io.neow3j.protocol.core.response.TransactionSigner;
+import io.neow3j.protocol.notifications.BlockAddedNotification;
+import io.neow3j.protocol.notifications.ContractEvent;
+import io.neow3j.protocol.notifications.ContractEventNotification;
+import io.neow3j.protocol.notifications.DecodedContractEvent;
+import io.neow3j.protocol.notifications.TransactionAddedNotification;
+import io.neow3j.protocol.notifications.TransactionExecutedNotification;
+import io.neow3j.protocol.rx.ApplicationLogStage;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
 import io.neow3j.transaction.Signer;
 import io.neow3j.types.ContractParameter;
 import io.neow3j.types.Hash160;
 import io.neow3j.types.Hash256;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -89,7 +102,7 @@ public class JsonRpc2_0Neow3j extends Neow3j {
     public JsonRpc2_0Neow3j(Neow3jService neow3jService, Neow3jConfig config) {
         super(config);
         this.neow3jService = neow3jService;
-        this.neow3jRx = new JsonRpc2_0Rx(this, getScheduledExecutorService());
+        this.neow3jRx = new JsonRpc2_0Rx(this, neow3jService, getScheduledExecutorService());
     }
 
     // region Blockchain Methods
@@ -1330,6 +1343,85 @@ public class JsonRpc2_0Neow3j extends Neow3j {
     }
 
     // endregion TokenTracker NEP-11
+    // region Batch Requests
+
+    /**
+     * Creates a new empty batch request that is sent with this instance's service.
+     *
+     * @return the batch request.
+     */
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(neow3jService);
+    }
+
+    // endregion Batch Requests
+    // region Subscriptions
+
+    @Override
+    public Observable<BlockAddedNotification> subscribeToBlockAdded() {
+        return neow3jService.subscribe(
+                new Request<>(
+                        "subscribe",
+                        asList("block_added"),
+                        neow3jService,
+                        NeoSubscribe.class),
+                "unsubscribe",
+                BlockAddedNotification.class);
+    }
+
+    @Override
+    public Observable<TransactionAddedNotification> subscribeToTransactionAdded() {
+        return neow3jService.subscribe(
+                new Request<>(
+                        "subscribe",
+                        asList("transaction_added"),
+                        neow3jService,
+                        NeoSubscribe.class),
+                "unsubscribe",
+                TransactionAddedNotification.class);
+    }
+
+    @Override
+    public Observable<ContractEventNotification> subscribeToContractEvents(Hash160 contractHash, String eventName) {
+        Map<String, Object> filter = new HashMap<>();
+        if (contractHash != null) {
+            filter.put("contract", contractHash);
+        }
+        if (eventName != null) {
+            filter.put("name", eventName);
+        }
+        return neow3jService.subscribe(
+                new Request<>(
+                        "subscribe",
+                        filter.isEmpty() ? asList("notification_from_execution")
+                                : asList("notification_from_execution", filter),
+                        neow3jService,
+                        NeoSubscribe.class),
+                "unsubscribe",
+                ContractEventNotification.class)
+                // The Neo node filters the events per subscription, but its notifications carry no subscription id.
+                // Thus, all contract event subscriptions on the same connection receive each other's events.
+                .filter(notification -> {
+                    ContractEvent event = notification.getParams().getResult();
+                    return (contractHash == null || contractHash.equals(event.getContract()))
+                            && (eventName == null || eventName.equals(event.getEventName()));
+                });
+    }
+
+    @Override
+    public Observable<TransactionExecutedNotification> subscribeToTransactionExecuted() {
+        return neow3jService.subscribe(
+                new Request<>(
+                        "subscribe",
+                        asList("transaction_executed"),
+                        neow3jService,
+                        NeoSubscribe.class),
+                "unsubscribe",
+                TransactionExecutedNotification.class);
+    }
+
+    // endregion Subscriptions
     // region Neow3j Rx Convenience Methods
 
     @Override
@@ -1351,6 +1443,20 @@ public class JsonRpc2_0Neow3j extends Neow3j {
         return neow3jRx.replayBlocksObservable(startBlock, endBlock, fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int fetchWindow) {
+
+        return neow3jRx.replayBlocksObservable(startBlock, endBlock, fullTransactionObjects, ascending, fetchWindow);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int fetchWindow) {
+
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects, ascending, fetchWindow);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(BigInteger startBlock, boolean fullTransactionObjects,
             Observable<NeoGetBlock> onCompleteObservable) {
@@ -1365,6 +1471,19 @@ public class JsonRpc2_0Neow3j extends Neow3j {
         return neow3jRx.catchUpToLatestBlockObservable(startBlock, fullTransactionObjects, Observable.empty());
     }
 
+    @Override
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(BigInteger startBlock, boolean fullTransactionObjects,
+            int fetchWindow, Flowable<NeoGetBlock> onCompleteFlowable) {
+
+        return neow3jRx.catchUpToLatestBlockFlowable(startBlock, fullTransactionObjects, fetchWindow,
+                onCompleteFlowable);
+    }
+
+    @Override
+    public Flowable<Transaction> catchUpToLatestTransactionFlowable(BigInteger startBlock, int fetchWindow) {
+        return neow3jRx.catchUpToLatestTransactionFlowable(startBlock, fetchWindow);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(BigInteger startBlock,
             boolean fullTransactionObjects) {
@@ -1378,6 +1497,30 @@ public class JsonRpc2_0Neow3j extends Neow3j {
         return neow3jRx.blockObservable(fullTransactionObjects, getPollingInterval());
     }
 
+    @Override
+    public Observable<NeoGetStateRoot> stateRootObservable(int fetchWindow) {
+        return neow3jRx.stateRootObservable(fetchWindow, getPollingInterval());
+    }
+
+    @Override
+    public ApplicationLogStage applicationLogStage(int fetchWindow, int batchSize) {
+        return neow3jRx.applicationLogStage(fetchWindow, batchSize);
+    }
+
+    @Override
+    public Observable<MemPoolChange> memPoolObservable(boolean fullTransactionObjects, int fetchWindow,
+            long pollingInterval) {
+
+        return neow3jRx.memPoolObservable(fullTransactionObjects, fetchWindow, pollingInterval);
+    }
+
+    @Override
+    public Observable<DecodedContractEvent> contractEventObservable(Hash160 contractHash, String eventName,
+            int fetchWindow) {
+
+        return neow3jRx.contractEventObservable(contractHash, eventName, fetchWindow, getPollingInterval());
+    }
+
     @Override
     public void shutdown() {
         getScheduledExecutorService().shutdown();
@@ -0,0 +1,109 @@
+package io.neow3j.protocol.core.polling;
+
+import io.reactivex.ObservableEmitter;
+import io.reactivex.disposables.Disposables;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Schedules polls of the Neo node depending on when the next block is expected.
+ * <p>
+ * After a poll found something new, the next poll is scheduled one block interval after the time at which the newest
+ * item was produced. If the next item is overdue, the Neo node is polled in quick succession with an exponentially
+ * increasing delay that is capped at the maximum polling interval.
+ * <p>
+ * A scheduler keeps the state of one polling loop, so it must not be run more than once.
+ */
+class AdaptivePollingScheduler {
+
+    /**
+     * Returned by a poll that found nothing new.
+     */
+    static final long NOTHING_NEW = -1;
+
+    // The lower bound of the delay between polls while waiting for an overdue item.
+    static final long MIN_RETRY_DELAY = 50;
+    // The fraction of the block interval used as the first delay after an item is overdue.
+    static final int RETRY_DELAY_DIVISOR = 50;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long blockInterval;
+    private final long maxPollingInterval;
+    private final AtomicReference<ScheduledFuture<?>> schedule = new AtomicReference<>();
+
+    // Polls never run concurrently, so they need no synchronization.
+    private long nextItemTime;
+    private long retryDelay;
+
+    AdaptivePollingScheduler(ScheduledExecutorService scheduledExecutorService, long blockInterval,
+            long maxPollingInterval) {
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.blockInterval = blockInterval;
+        this.maxPollingInterval = maxPollingInterval;
+    }
+
+    /**
+     * Starts polling. The polling stops when the emitter is disposed or a poll fails. A failed poll is passed to the
+     * emitter.
+     *
+     * @param emitter the emitter that the poll emits to.
+     * @param poll    the poll.
+     */
+    void run(ObservableEmitter<?> emitter, Poll poll) {
+        emitter.setDisposable(Disposables.fromAction(() -> {
+            ScheduledFuture<?> scheduledPoll = schedule.get();
+            if (scheduledPoll != null) {
+                scheduledPoll.cancel(false);
+            }
+        }));
+        schedule.set(scheduledExecutorService.schedule(() -> poll(emitter, poll), 0, TimeUnit.MILLISECONDS));
+    }
+
+    private void poll(ObservableEmitter<?> emitter, Poll poll) {
+        if (emitter.isDisposed()) {
+            return;
+        }
+        long delay;
+        try {
+            long itemTime = poll.poll();
+            long now = System.currentTimeMillis();
+            if (itemTime != NOTHING_NEW) {
+                // A timestamp in the future is caused by clock skew between the Neo node and this machine.
+                nextItemTime = Math.min(itemTime, now) + blockInterval;
+                retryDelay = Math.max(blockInterval / RETRY_DELAY_DIVISOR, MIN_RETRY_DELAY);
+            }
+            if (now < nextItemTime) {
+                delay = nextItemTime - now;
+            } else {
+                delay = Math.min(retryDelay, maxPollingInterval);
+                retryDelay = Math.min(retryDelay * 2, maxPollingInterval);
+            }
+        } catch (Throwable e) {
+            emitter.onError(e);
+            return;
+        }
+        if (!emitter.isDisposed()) {
+            schedule.set(scheduledExecutorService.schedule(() -> poll(emitter, poll), delay,
+                    TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Polls the Neo node and emits the items that are new since the last poll.
+     */
+    @FunctionalInterface
+    interface Poll {
+
+        /**
+         * @return the time in milliseconds at which the newest item was produced or {@link #NOTHING_NEW} if the
+         * poll found nothing new.
+         * @throws Throwable if the poll failed.
+         */
+        long poll() throws Throwable;
+
+    }
+
+}
@@ -4,6 +4,7 @@ import io.neow3j.protocol.Neow3j;
 import io.reactivex.ObservableEmitter;
 import io.reactivex.disposables.Disposables;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -22,20 +23,7 @@ public class BlockIndexPolling {
         ScheduledFuture<?> schedule = scheduledExecutorService.scheduleAtFixedRate(
                 () -> {
                     try {
-                        BigInteger latestBlockIdx = neow3j.getBlockCount().send().getBlockCount()
-                                .subtract(BigInteger.ONE);
-                        if (this.currentBlockIdx == null) {
-                            this.currentBlockIdx = latestBlockIdx;
-                        }
-                        if (latestBlockIdx.compareTo(currentBlockIdx) > 0) {
-                            LongStream.rangeClosed(
-                                    currentBlockIdx.add(BigInteger.ONE).intValue(),
-                                    latestBlockIdx.intValue()
-                            ).forEachOrdered((blockIndex) -> {
-                                emitter.onNext(BigInteger.valueOf(blockIndex));
-                                this.currentBlockIdx = this.currentBlockIdx.add(BigInteger.ONE);
-                            });
-                        }
+                        emitNewBlockIndexes(emitter, getLatestBlockIdx(neow3j));
                     } catch (Throwable e) {
                         emitter.onError(e);
                     }
@@ -45,4 +33,57 @@ public class BlockIndexPolling {
         emitter.setDisposable(Disposables.fromAction(() -> schedule.cancel(false)));
     }
 
+    /**
+     * Polls the Neo node for new block indexes depending on when the next block is expected.
+     * <p>
+     * After a new block is found, the polling sleeps until the next block is expected based on the new block's
+     * timestamp and the given block interval. If the block is overdue, the Neo node is polled in quick succession with
+     * an exponentially increasing delay that is capped at {@code maxPollingInterval}. Compared to polling at a fixed
+     * interval, new blocks are detected earlier while fewer requests are sent.
+     *
+     * @param neow3j                   the {@code Neow3j} instance.
+     * @param emitter                  the emitter for the new block indexes.
+     * @param scheduledExecutorService the executor service used for polling.
+     * @param blockInterval            the interval in milliseconds in which blocks are produced.
+     * @param maxPollingInterval       the maximum delay between two polls in milliseconds.
+     */
+    public void runAdaptive(Neow3j neow3j, ObservableEmitter<BigInteger> emitter,
+            ScheduledExecutorService scheduledExecutorService, long blockInterval, long maxPollingInterval) {
+
+        new AdaptivePollingScheduler(scheduledExecutorService, blockInterval, maxPollingInterval).run(emitter, () -> {
+            BigInteger latestBlockIdx = getLatestBlockIdx(neow3j);
+            boolean firstPoll = currentBlockIdx == null;
+            if (emitNewBlockIndexes(emitter, latestBlockIdx) || firstPoll) {
+                return neow3j.getBlockHeader(latestBlockIdx).send().getBlock().getTime();
+            }
+            return AdaptivePollingScheduler.NOTHING_NEW;
+        });
+    }
+
+    private static BigInteger getLatestBlockIdx(Neow3j neow3j) throws IOException {
+        return neow3j.getBlockCount().send().getBlockCount().subtract(BigInteger.ONE);
+    }
+
+    /**
+     * Emits the indexes of the blocks since the last poll.
+     *
+     * @return true if new block indexes were emitted. False, otherwise.
+     */
+    private boolean emitNewBlockIndexes(ObservableEmitter<BigInteger> emitter, BigInteger latestBlockIdx) {
+        if (this.currentBlockIdx == null) {
+            this.currentBlockIdx = latestBlockIdx;
+        }
+        if (latestBlockIdx.compareTo(currentBlockIdx) <= 0) {
+            return false;
+        }
+        LongStream.rangeClosed(
+                currentBlockIdx.add(BigInteger.ONE).longValueExact(),
+                latestBlockIdx.longValueExact()
+        ).forEachOrdered((blockIndex) -> {
+            emitter.onNext(BigInteger.valueOf(blockIndex));
+            this.currentBlockIdx = this.currentBlockIdx.add(BigInteger.ONE);
+        });
+        return true;
+    }
+
 }
@@ -0,0 +1,96 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.types.Hash256;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The transactions that were added to and removed from the memory pool of a Neo node between two polls.
+ * <p>
+ * A transaction is removed from the memory pool when it is included in a block, when it expires or when it is
+ * replaced by a transaction with a higher fee.
+ */
+public class MemPoolChange {
+
+    private final Long height;
+    private final List<Hash256> added;
+    private final List<Hash256> removed;
+    private final List<Transaction> addedTransactions;
+
+    public MemPoolChange(Long height, List<Hash256> added, List<Hash256> removed) {
+        this(height, added, removed, Collections.emptyList());
+    }
+
+    public MemPoolChange(Long height, List<Hash256> added, List<Hash256> removed,
+            List<Transaction> addedTransactions) {
+        this.height = height;
+        this.added = added;
+        this.removed = removed;
+        this.addedTransactions = addedTransactions;
+    }
+
+    /**
+     * @return the block height of the Neo node when it was polled.
+     */
+    public Long getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the hashes of the transactions that were added to the memory pool.
+     */
+    public List<Hash256> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return the hashes of the transactions that were removed from the memory pool.
+     */
+    public List<Hash256> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Gets the transactions that were added to the memory pool, if they were requested. A transaction that left the
+     * memory pool before it could be fetched is missing.
+     *
+     * @return the added transactions in the order of {@link #getAdded()}.
+     */
+    public List<Transaction> getAddedTransactions() {
+        return addedTransactions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MemPoolChange)) {
+            return false;
+        }
+        MemPoolChange that = (MemPoolChange) o;
+        return Objects.equals(getHeight(), that.getHeight()) &&
+                Objects.equals(getAdded(), that.getAdded()) &&
+                Objects.equals(getRemoved(), that.getRemoved()) &&
+                Objects.equals(getAddedTransactions(), that.getAddedTransactions());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getHeight(), getAdded(), getRemoved(), getAddedTransactions());
+    }
+
+    @Override
+    public String toString() {
+        return "MemPoolChange{" +
+                "height=" + height +
+                ", added=" + added +
+                ", removed=" + removed +
+                ", addedTransactions=" + addedTransactions +
+                '}';
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoGetMemPool;
+import io.neow3j.types.Hash256;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.disposables.Disposables;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the memory pool of a Neo node and emits the transactions that were added and removed since the last poll.
+ * <p>
+ * The hashes of the verified and unverified transactions are kept in a local set. The first poll emits the whole
+ * memory pool as added transactions. Polls that find no change emit nothing.
+ */
+public class MemPoolPolling {
+
+    // Polls never run concurrently, so the sets need no synchronization. The two sets are swapped after each poll,
+    // so that they are reused instead of allocated for every poll.
+    private Set<Hash256> knownTransactions = new HashSet<>();
+    private Set<Hash256> polledTransactions = new HashSet<>();
+    private boolean firstPoll = true;
+
+    public void run(Neow3j neow3j, ObservableEmitter<MemPoolChange> emitter,
+            ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+
+        // If a task takes longer than the specified period the next task starts late and no concurrent with
+        // the previous one. Thus, we don't have to synchronize anything.
+        ScheduledFuture<?> schedule = scheduledExecutorService.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        emitChange(emitter, neow3j.getMemPool().send().getMemPoolDetails());
+                    } catch (Throwable e) {
+                        emitter.onError(e);
+                    }
+                },
+                0, pollingInterval, TimeUnit.MILLISECONDS);
+
+        emitter.setDisposable(Disposables.fromAction(() -> schedule.cancel(false)));
+    }
+
+    private void emitChange(ObservableEmitter<MemPoolChange> emitter, NeoGetMemPool.MemPoolDetails memPool) {
+        // The added transactions keep the order in which the Neo node listed them.
+        List<Hash256> added = new ArrayList<>();
+        addPolledTransactions(memPool.getVerified(), added);
+        addPolledTransactions(memPool.getUnverified(), added);
+        List<Hash256> removed = new ArrayList<>();
+        for (Hash256 hash : knownTransactions) {
+            if (!polledTransactions.contains(hash)) {
+                removed.add(hash);
+            }
+        }
+
+        Set<Hash256> previousTransactions = knownTransactions;
+        knownTransactions = polledTransactions;
+        polledTransactions = previousTransactions;
+        polledTransactions.clear();
+
+        if (firstPoll || !added.isEmpty() || !removed.isEmpty()) {
+            firstPoll = false;
+            emitter.onNext(new MemPoolChange(memPool.getHeight(), added, removed));
+        }
+    }
+
+    private void addPolledTransactions(List<Hash256> hashes, List<Hash256> added) {
+        for (Hash256 hash : hashes) {
+            if (polledTransactions.add(hash) && !knownTransactions.contains(hash)) {
+                added.add(hash);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.disposables.Disposables;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Polls the Neo node for the index of the latest validated state root and emits the indexes of all state roots that
+ * were validated since the last poll.
+ * <p>
+ * In contrast to {@link BlockIndexPolling}, the first poll emits the index of the latest validated state root, so
+ * that a subscriber immediately knows the state root to pin its reads to.
+ */
+public class StateRootIndexPolling {
+
+    private Long currentRootIdx;
+
+    public void run(Neow3j neow3j, ObservableEmitter<Long> emitter,
+            ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+
+        // If a task takes longer than the specified period the next task starts late and no concurrent with
+        // the previous one. Thus, we don't have to synchronize anything.
+        ScheduledFuture<?> schedule = scheduledExecutorService.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        emitNewRootIndexes(emitter, getValidatedRootIdx(neow3j));
+                    } catch (Throwable e) {
+                        emitter.onError(e);
+                    }
+                },
+                0, pollingInterval, TimeUnit.MILLISECONDS);
+
+        emitter.setDisposable(Disposables.fromAction(() -> schedule.cancel(false)));
+    }
+
+    /**
+     * Polls the Neo node for new validated state roots depending on when the next state root is expected.
+     * <p>
+     * A state root is validated for every block. After a new state root is found, the polling sleeps for one block
+     * interval. If the next state root is overdue, the Neo node is polled in quick succession with an exponentially
+     * increasing delay that is capped at {@code maxPollingInterval}, the same way as
+     * {@link BlockIndexPolling#runAdaptive(Neow3j, ObservableEmitter, ScheduledExecutorService, long, long)}.
+     *
+     * @param neow3j                   the {@code Neow3j} instance.
+     * @param emitter                  the emitter for the new state root indexes.
+     * @param scheduledExecutorService the executor service used for polling.
+     * @param blockInterval            the interval in milliseconds in which blocks are produced.
+     * @param maxPollingInterval       the maximum delay between two polls in milliseconds.
+     */
+    public void runAdaptive(Neow3j neow3j, ObservableEmitter<Long> emitter,
+            ScheduledExecutorService scheduledExecutorService, long blockInterval, long maxPollingInterval) {
+
+        new AdaptivePollingScheduler(scheduledExecutorService, blockInterval, maxPollingInterval).run(emitter, () -> {
+            // State roots carry no timestamp. Thus, the time at which a new state root was found is used.
+            if (emitNewRootIndexes(emitter, getValidatedRootIdx(neow3j))) {
+                return System.currentTimeMillis();
+            }
+            return AdaptivePollingScheduler.NOTHING_NEW;
+        });
+    }
+
+    private static long getValidatedRootIdx(Neow3j neow3j) throws IOException {
+        return neow3j.getStateHeight().send().getStateHeight().getValidatedRootIndex();
+    }
+
+    /**
+     * Emits the indexes of the state roots that were validated since the last poll.
+     *
+     * @return true if new state root indexes were emitted. False, otherwise.
+     */
+    private boolean emitNewRootIndexes(ObservableEmitter<Long> emitter, long validatedRootIdx) {
+        if (currentRootIdx == null) {
+            currentRootIdx = validatedRootIdx;
+            emitter.onNext(validatedRootIdx);
+            return true;
+        }
+        if (validatedRootIdx <= currentRootIdx) {
+            return false;
+        }
+        LongStream.rangeClosed(currentRootIdx + 1, validatedRootIdx).forEachOrdered(rootIndex -> {
+            emitter.onNext(rootIndex);
+            currentRootIdx = rootIndex;
+        });
+        return true;
+    }
+
+}
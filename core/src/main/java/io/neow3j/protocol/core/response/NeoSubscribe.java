@@ -0,0 +1,16 @@
+package io.neow3j.protocol.core.response;
+
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+
+public class NeoSubscribe extends Response<String> {
+
+    /**
+     * @return the result.
+     * @throws RpcResponseErrorException if the Neo node returned an error.
+     */
+    public String getSubscriptionId() {
+        return getResult();
+    }
+
+}
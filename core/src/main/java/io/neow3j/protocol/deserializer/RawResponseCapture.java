@@ -0,0 +1,105 @@
+package io.neow3j.protocol.deserializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An input stream that captures the bytes read from the underlying stream, so that the raw response is available
+ * after it was deserialized in a single pass.
+ * <p>
+ * Capturing stops once more than the given maximum number of bytes was read. The raw response is not available in
+ * that case.
+ */
+public class RawResponseCapture extends FilterInputStream {
+
+    private final long maxSize;
+    private ByteArrayOutputStream captured;
+
+    /**
+     * Creates a stream that captures the bytes read from the given stream.
+     *
+     * @param in      the underlying stream.
+     * @param maxSize the maximum number of bytes to capture. A negative value disables capturing.
+     */
+    public RawResponseCapture(InputStream in, long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+        this.captured = maxSize < 0 ? null : new ByteArrayOutputStream();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1 && captured != null) {
+            if (captured.size() + 1L > maxSize) {
+                captured = null;
+            } else {
+                captured.write(b);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0 && captured != null) {
+            if (captured.size() + (long) read > maxSize) {
+                captured = null;
+            } else {
+                captured.write(b, off, read);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes are read, so that they are captured as well.
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads the rest of the underlying stream and returns the captured bytes.
+     *
+     * @return the raw response or null if capturing is disabled or the response exceeded the maximum size.
+     * @throws IOException if the rest of the stream could not be read.
+     */
+    public String getRawResponse() throws IOException {
+        if (captured == null) {
+            return null;
+        }
+        byte[] buffer = new byte[8192];
+        while (captured != null && read(buffer, 0, buffer.length) != -1) {
+            // Reads the remainder that the JSON parser did not need, e.g., trailing whitespace.
+        }
+        return captured == null ? null : captured.toString(StandardCharsets.UTF_8.name());
+    }
+
+}
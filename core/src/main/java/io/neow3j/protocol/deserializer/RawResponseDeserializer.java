@@ -42,15 +42,24 @@ public class RawResponseDeserializer
     }
 
     private String getRawResponse(JsonParser jp) throws IOException {
-        final InputStream inputSource = (InputStream) jp.getInputSource();
+        final Object inputSource = jp.getInputSource();
 
         if (inputSource == null) {
             return "";
         }
 
-        inputSource.reset();
+        if (inputSource instanceof RawResponseCapture) {
+            return ((RawResponseCapture) inputSource).getRawResponse();
+        }
+
+        if (!(inputSource instanceof InputStream) || !((InputStream) inputSource).markSupported()) {
+            return null;
+        }
+
+        InputStream inputStream = (InputStream) inputSource;
+        inputStream.reset();
 
-        return streamToString(inputSource);
+        return streamToString(inputStream);
     }
 
     private String streamToString(InputStream input) {
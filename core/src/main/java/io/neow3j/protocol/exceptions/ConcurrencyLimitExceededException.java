@@ -0,0 +1,14 @@
+package io.neow3j.protocol.exceptions;
+
+/**
+ * Is thrown if a request is rejected locally because the concurrency limit of an endpoint is reached and too many
+ * requests are waiting for a free slot already. The request was not sent, so this does not indicate that the endpoint
+ * is unavailable.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -1,30 +1,37 @@
 package io.neow3j.protocol.http;
 
 import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
-import io.neow3j.utils.Async;
+import io.neow3j.protocol.metrics.RpcCall;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
-import okio.Buffer;
-import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
 /**
  * HTTP implementation of the Service API.
+ * <p>
+ * If no external {@link ExecutorService} is provided, asynchronous requests are performed with OkHttp's asynchronous
+ * call API. No thread is blocked while a request is in flight and the response is deserialized in OkHttp's callback.
+ * The number of concurrent calls is bounded by the {@link Dispatcher} of the HTTP client, excess calls are queued.
  */
 public class HttpService extends Service {
 
@@ -34,7 +41,6 @@ public class HttpService extends Service {
 
     private static final Logger log = LoggerFactory.getLogger(HttpService.class);
     private final String url;
-    private final boolean includeRawResponses;
     private final OkHttpClient httpClient;
     private final HashMap<String, String> headers = new HashMap<>();
 
@@ -51,14 +57,12 @@ public class HttpService extends Service {
         super(executorService, includeRawResponses);
         this.url = url;
         this.httpClient = httpClient;
-        this.includeRawResponses = includeRawResponses;
     }
 
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      *
      * @param url                 the URL to the HTTP service (JSON-RPC).
      * @param httpClient          the HTTP client instance.
@@ -86,8 +90,7 @@ public class HttpService extends Service {
      * <p>
      * The URL is set to {@link HttpService#DEFAULT_URL}.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      *
      * @param httpClient          the HTTP client instance.
      * @param includeRawResponses option to include or not raw responses on the {@link Response} object.
@@ -112,8 +115,7 @@ public class HttpService extends Service {
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      * <p>
      * The {@link #includeRawResponses} is set to false.
      *
@@ -141,8 +143,7 @@ public class HttpService extends Service {
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      * <p>
      * The HTTP client used is set by default by {@link #createOkHttpClient()}.
      * <p>
@@ -170,8 +171,7 @@ public class HttpService extends Service {
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      * <p>
      * The HTTP client used is set by default by {@link #createOkHttpClient()}.
      *
@@ -199,8 +199,7 @@ public class HttpService extends Service {
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      * <p>
      * The URL is set to {@link HttpService#DEFAULT_URL}.
      * <p>
@@ -229,8 +228,7 @@ public class HttpService extends Service {
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
-     * {@link Async#defaultExecutorService()}.
+     * Asynchronous {@link Request} calls are enqueued on the HTTP client and run by its {@link Dispatcher}.
      * <p>
      * The HTTP client used is set by default by {@link #createOkHttpClient()}.
      * <p>
@@ -248,10 +246,18 @@ public class HttpService extends Service {
 
     private static OkHttpClient createOkHttpClient() {
         OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        configureDispatcher(builder);
         configureLogging(builder);
         return builder.build();
     }
 
+    private static void configureDispatcher(OkHttpClient.Builder builder) {
+        // All calls of a service go to the same host. Thus, the per-host limit is raised to the overall limit.
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+        builder.dispatcher(dispatcher);
+    }
+
     private static void configureLogging(OkHttpClient.Builder builder) {
         if (log.isDebugEnabled()) {
             HttpLoggingInterceptor logging = new HttpLoggingInterceptor(log::debug);
@@ -262,20 +268,116 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(request)).execute();
+        return processResponse(response);
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC request.
+     * <p>
+     * If this service was created with an external {@link ExecutorService}, the request is run on that executor.
+     * Otherwise, the request is enqueued on the HTTP client and the returned future is completed from OkHttp's
+     * callback.
+     *
+     * @param request      the request to perform.
+     * @param responseType the class of a data item returned by the request.
+     * @param <T>          the type of a data item returned by the request.
+     * @return a CompletableFuture that will be completed when a result is returned or the request has failed.
+     */
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        if (asyncExecutorService != null) {
+            return super.sendAsync(request, responseType);
+        }
+        try {
+            T cachedResponse = getCachedResponse(request, responseType);
+            if (cachedResponse != null) {
+                return CompletableFuture.completedFuture(cachedResponse);
+            }
+        } catch (IOException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        if (isCoalesced(request)) {
+            return coalesce(request, responseType,
+                    () -> performAsyncIO(request.getMethod(), request,
+                            result -> readResponse(request, result, responseType)));
+        }
+        return performAsyncIO(request.getMethod(), request, result -> readResponse(request, result, responseType));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (asyncExecutorService != null || batchRequest.isEmpty()) {
+            return super.sendBatchAsync(batchRequest);
+        }
+        return performAsyncIO(RpcCall.BATCH, batchRequest.getRequests(),
+                result -> readBatchResponse(batchRequest, objectMapper.readTree(result)));
+    }
+
+    private <T> CompletableFuture<T> performAsyncIO(String method, Object request,
+            ResponseReader<T> responseReader) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (IOException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        CallTimer timer = startCall(method, payload);
+        Call call = httpClient.newCall(buildHttpRequest(payload));
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                failCall(timer, e);
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                T value;
+                try (InputStream result = processResponse(response)) {
+                    value = result == null ? null : readTimed(result, timer, responseReader);
+                } catch (Throwable e) {
+                    failCall(timer, e);
+                    future.completeExceptionally(e);
+                    return;
+                } finally {
+                    response.close();
+                }
+                completeCall(timer, value);
+                future.complete(value);
+            }
+        });
+
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    private okhttp3.Request buildHttpRequest(String request) {
         RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest = new okhttp3.Request.Builder()
+        return new okhttp3.Request.Builder()
                 .url(url)
                 .headers(headers)
                 .post(requestBody)
                 .build();
+    }
 
-        okhttp3.Response response = httpClient.newCall(httpRequest).execute();
+    private InputStream processResponse(okhttp3.Response response) throws IOException {
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
             if (responseBody != null) {
-                return buildInputStream(responseBody);
+                return responseBody.byteStream();
             } else {
                 return null;
             }
@@ -287,33 +389,6 @@ public class HttpService extends Service {
         }
     }
 
-    private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
-        InputStream inputStream = responseBody.byteStream();
-
-        if (includeRawResponses) {
-            // we have to buffer the entire input payload, so that after processing
-            // it can be re-read and used to populate the rawResponse field.
-
-            BufferedSource source = responseBody.source();
-            source.request(Long.MAX_VALUE); // Buffer the entire body
-            Buffer buffer = source.getBuffer();
-
-            long size = buffer.size();
-            if (size > Integer.MAX_VALUE) {
-                throw new UnsupportedOperationException("Non-integer input buffer size specified: " + size);
-            }
-
-            int bufferSize = (int) size;
-            BufferedInputStream bufferedinputStream = new BufferedInputStream(inputStream, bufferSize);
-
-            bufferedinputStream.mark(inputStream.available());
-            return bufferedinputStream;
-
-        } else {
-            return inputStream;
-        }
-    }
-
     private Headers buildHeaders() {
         return Headers.of(headers);
     }
@@ -0,0 +1,308 @@
+package io.neow3j.protocol.limiter;
+
+import io.neow3j.protocol.exceptions.ConcurrencyLimitExceededException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests in flight to a Neo node and adapts the limit to the node's latency.
+ * <p>
+ * The limit follows the additive increase/multiplicative decrease (AIMD) scheme. As long as the latency stays close
+ * to the lowest latency seen recently (the baseline), the limit grows by one whenever the requests in flight use at
+ * least half of it. If the latency exceeds the baseline by the {@link #setLatencyTolerance(double) tolerance}, or a
+ * request fails on the transport level, the limit shrinks by the {@link #setBackoffRatio(double) backoff ratio}. Thus,
+ * the limit settles just below the point where the node starts queueing requests.
+ * <p>
+ * The limit shrinks at most once per round trip: only requests that started after the last decrease can decrease it
+ * again. Otherwise, a single latency spike would shrink the limit once for every request in flight at that time.
+ * <p>
+ * Requests exceeding the limit wait in a bounded queue. If the queue is full, they are rejected.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+    // The number of samples after which the baseline latency is reset to the lowest latency of the last window. This
+    // lets the baseline follow the node if it becomes permanently slower.
+    static final int BASELINE_WINDOW = 500;
+
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+    // Guarded by this.
+    private double limit;
+    private int inFlight;
+    private long baselineLatency = Long.MAX_VALUE;
+    private long windowMinLatency = Long.MAX_VALUE;
+    private int windowSamples;
+    private long decreases;
+    private final Deque<CompletableFuture<Permit>> queue = new ArrayDeque<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a limiter with an initial limit of {@value #DEFAULT_INITIAL_LIMIT}.
+     */
+    public AdaptiveConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT);
+    }
+
+    /**
+     * Creates a limiter.
+     *
+     * @param initialLimit the initial limit of requests in flight.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit) {
+        if (initialLimit < 1) {
+            throw new IllegalArgumentException("The initial limit must be at least 1.");
+        }
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Sets the lower bound of the limit.
+     *
+     * @param minLimit the minimum limit.
+     * @return this.
+     */
+    public synchronized AdaptiveConcurrencyLimiter setMinLimit(int minLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("The minimum limit must be at least 1.");
+        }
+        this.minLimit = minLimit;
+        limit = Math.max(limit, minLimit);
+        return this;
+    }
+
+    /**
+     * Sets the upper bound of the limit.
+     *
+     * @param maxLimit the maximum limit.
+     * @return this.
+     */
+    public synchronized AdaptiveConcurrencyLimiter setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+        limit = Math.min(limit, maxLimit);
+        return this;
+    }
+
+    /**
+     * Sets the factor the limit is multiplied with if the node is overloaded.
+     *
+     * @param backoffRatio the ratio. Must be in the range (0, 1).
+     * @return this.
+     */
+    public synchronized AdaptiveConcurrencyLimiter setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("The backoff ratio must be greater than 0 and less than 1.");
+        }
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Sets by which factor the latency may exceed the baseline latency before the limit is decreased.
+     *
+     * @param latencyTolerance the tolerance. Must be greater than 1.
+     * @return this.
+     */
+    public synchronized AdaptiveConcurrencyLimiter setLatencyTolerance(double latencyTolerance) {
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("The latency tolerance must be greater than 1.");
+        }
+        this.latencyTolerance = latencyTolerance;
+        return this;
+    }
+
+    /**
+     * Sets how many requests may wait for a free slot. Requests beyond that are rejected.
+     *
+     * @param maxQueueSize the maximum queue size. 0 rejects all requests exceeding the limit right away.
+     * @return this.
+     */
+    public synchronized AdaptiveConcurrencyLimiter setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Acquires a slot for a request.
+     * <p>
+     * The returned future is completed as soon as the request may be sent. It is completed exceptionally with a
+     * {@link ConcurrencyLimitExceededException} if the limit is reached and the queue is full. The permit has to be
+     * released once the request completed. Cancelling the future removes the request from the queue.
+     *
+     * @return the future permit.
+     */
+    public CompletableFuture<Permit> acquire() {
+        CompletableFuture<Permit> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                future.complete(new Permit(inFlight, decreases));
+                return future;
+            }
+            if (queue.size() < maxQueueSize) {
+                queue.add(future);
+                future.whenComplete((permit, throwable) -> {
+                    if (future.isCancelled()) {
+                        dequeue(future);
+                    }
+                });
+                return future;
+            }
+        }
+        rejected.increment();
+        future.completeExceptionally(new ConcurrencyLimitExceededException(
+                "The concurrency limit of " + getLimit() + " requests in flight is reached."));
+        return future;
+    }
+
+    private synchronized void dequeue(CompletableFuture<Permit> future) {
+        queue.remove(future);
+    }
+
+    private void release(Permit permit, long latency, boolean dropped) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            adjustLimit(permit, latency, dropped);
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                inFlight++;
+                granted.add(queue.poll());
+            }
+        }
+        // Completed outside the lock because completing a permit starts the waiting request.
+        for (CompletableFuture<Permit> future : granted) {
+            Permit permit = newPermit();
+            if (!future.complete(permit)) {
+                // The waiting request was cancelled. Its slot is passed on.
+                release(permit, 0, false);
+            }
+        }
+    }
+
+    private synchronized Permit newPermit() {
+        return new Permit(inFlight, decreases);
+    }
+
+    // Guarded by this.
+    private void adjustLimit(Permit permit, long latency, boolean dropped) {
+        if (dropped) {
+            decreaseLimit(permit);
+            return;
+        }
+        if (latency <= 0) {
+            return;
+        }
+        updateBaseline(latency);
+        if (latency > baselineLatency * latencyTolerance) {
+            decreaseLimit(permit);
+        } else if (permit.inFlightAtStart * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    // Guarded by this.
+    private void decreaseLimit(Permit permit) {
+        // Requests that started before the last decrease were sent at the higher limit. They already contributed to
+        // the overload that caused the decrease.
+        if (permit.decreasesAtStart == decreases) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            decreases++;
+        }
+    }
+
+    // Guarded by this.
+    private void updateBaseline(long latency) {
+        baselineLatency = Math.min(baselineLatency, latency);
+        windowMinLatency = Math.min(windowMinLatency, latency);
+        if (++windowSamples >= BASELINE_WINDOW) {
+            baselineLatency = windowMinLatency;
+            windowMinLatency = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+    }
+
+    // region Metrics
+
+    /**
+     * @return the current limit of requests in flight.
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests in flight.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of requests waiting for a free slot.
+     */
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of requests that were rejected because the queue was full.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    // endregion
+
+    /**
+     * A slot for a request in flight.
+     */
+    public class Permit {
+
+        private final int inFlightAtStart;
+        private final long decreasesAtStart;
+        private final long startTime = System.nanoTime();
+        private boolean released;
+
+        private Permit(int inFlightAtStart, long decreasesAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.decreasesAtStart = decreasesAtStart;
+        }
+
+        /**
+         * Releases the slot after the request completed.
+         *
+         * @param dropped true if the request failed on the transport level, e.g., because it timed out.
+         */
+        public void release(boolean dropped) {
+            release(System.nanoTime() - startTime, dropped);
+        }
+
+        void release(long latency, boolean dropped) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            AdaptiveConcurrencyLimiter.this.release(this, latency, dropped);
+        }
+
+    }
+
+}
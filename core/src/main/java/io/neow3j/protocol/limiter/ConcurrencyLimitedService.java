@@ -0,0 +1,203 @@
+package io.neow3j.protocol.limiter;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.ConcurrencyLimitExceededException;
+import io.neow3j.protocol.limiter.AdaptiveConcurrencyLimiter.Permit;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A service that bounds the number of requests in flight to the wrapped service with an
+ * {@link AdaptiveConcurrencyLimiter}.
+ * <p>
+ * Wrap each endpoint, e.g., each {@link io.neow3j.protocol.http.HttpService}, separately, so that every Neo node gets
+ * its own limit. Requests exceeding the limit wait for a free slot. Synchronous requests block the calling thread,
+ * asynchronous requests are started once a slot is free. If too many requests are waiting already, the request fails
+ * with a {@link ConcurrencyLimitExceededException}. Such a rejection does not count as a failure of the endpoint.
+ * <p>
+ * Subscriptions are not limited.
+ */
+public class ConcurrencyLimitedService implements Neow3jService {
+
+    private final Neow3jService service;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Creates a service with a default {@link AdaptiveConcurrencyLimiter}.
+     *
+     * @param service the service to limit.
+     */
+    public ConcurrencyLimitedService(Neow3jService service) {
+        this(service, new AdaptiveConcurrencyLimiter());
+    }
+
+    /**
+     * Creates a service.
+     *
+     * @param service the service to limit.
+     * @param limiter the limiter.
+     */
+    public ConcurrencyLimitedService(Neow3jService service, AdaptiveConcurrencyLimiter limiter) {
+        this.service = service;
+        this.limiter = limiter;
+    }
+
+    /**
+     * @return the limiter of this service. Provides the current limit and the number of requests in flight.
+     */
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        Permit permit = waitFor(limiter.acquire());
+        try {
+            T response = service.send(request, responseType);
+            permit.release(false);
+            return response;
+        } catch (IOException | ClientConnectionException e) {
+            permit.release(true);
+            throw e;
+        } catch (ConcurrencyLimitExceededException e) {
+            // Rejected locally by a limiter further down. The request did not reach the node, so no sample is taken.
+            permit.release(0, false);
+            throw e;
+        } catch (RuntimeException e) {
+            permit.release(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        return limited(() -> service.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        Permit permit = waitFor(limiter.acquire());
+        try {
+            BatchResponse response = service.sendBatch(batchRequest);
+            permit.release(false);
+            return response;
+        } catch (IOException | ClientConnectionException e) {
+            permit.release(true);
+            throw e;
+        } catch (ConcurrencyLimitExceededException e) {
+            // Rejected locally by a limiter further down. The request did not reach the node, so no sample is taken.
+            permit.release(0, false);
+            throw e;
+        } catch (RuntimeException e) {
+            permit.release(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return limited(() -> service.sendBatchAsync(batchRequest));
+    }
+
+    private <T> CompletableFuture<T> limited(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Permit> pendingPermit = limiter.acquire();
+        // Cancelling the result while waiting for a slot gives up the place in the queue.
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                pendingPermit.cancel(false);
+            }
+        });
+        pendingPermit.whenComplete((permit, acquireFailure) -> {
+            if (acquireFailure != null) {
+                result.completeExceptionally(unwrap(acquireFailure));
+                return;
+            }
+            if (result.isDone()) {
+                // Cancelled just as the slot was granted. The request was never sent, so no latency is recorded.
+                permit.release(0, false);
+                return;
+            }
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                permit.release(false);
+                result.completeExceptionally(e);
+                return;
+            }
+            result.whenComplete((response, throwable) -> {
+                if (result.isCancelled()) {
+                    future.cancel(true);
+                }
+            });
+            future.whenComplete((response, throwable) -> {
+                Throwable cause = unwrap(throwable);
+                if (cause instanceof ConcurrencyLimitExceededException) {
+                    permit.release(0, false);
+                } else {
+                    permit.release(cause instanceof IOException || cause instanceof ClientConnectionException);
+                }
+                if (cause != null) {
+                    result.completeExceptionally(cause);
+                } else {
+                    result.complete(response);
+                }
+            });
+        });
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static Permit waitFor(CompletableFuture<Permit> permit)
+            throws IOException {
+        try {
+            return permit.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // The slot might be granted after all. It is released right away in that case.
+            permit.thenAccept(p -> p.release(false));
+            throw new IOException("Interrupted while waiting for a free request slot", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        return service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return service.supportsSubscriptions();
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+
+}
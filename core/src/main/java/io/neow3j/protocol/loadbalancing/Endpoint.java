@@ -0,0 +1,159 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An endpoint of a {@link LoadBalancedService}. Wraps the {@link Neow3jService} of one Neo node and tracks the
+ * statistics that the {@link LoadBalancingPolicy} bases its decisions on.
+ * <p>
+ * All statistics are updated lock-free, so that endpoint selection does not become a point of contention.
+ */
+public class Endpoint {
+
+    // Weight of the latest latency sample in the exponentially weighted moving average.
+    static final double EWMA_DECAY = 0.3;
+
+    private final int index;
+    private final Neow3jService service;
+
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // The latency average in nanoseconds, stored as the raw bits of a double.
+    private final AtomicLong latencyEwma = new AtomicLong(Double.doubleToRawLongBits(0d));
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+    private volatile long ejectionTime;
+
+    Endpoint(int index, Neow3jService service) {
+        this.index = index;
+        this.service = service;
+    }
+
+    /**
+     * @return the position of this endpoint in the list of services the {@link LoadBalancedService} was created with.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the service of this endpoint.
+     */
+    public Neow3jService getService() {
+        return service;
+    }
+
+    /**
+     * @return the number of requests that were sent to this endpoint and have not completed yet.
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    /**
+     * @return the exponentially weighted moving average of the latency of successful requests in milliseconds. Is 0
+     * if no request has completed yet.
+     */
+    public double getLatencyEwma() {
+        return Double.longBitsToDouble(latencyEwma.get()) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the number of transport failures since the last successful request.
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * @return true if this endpoint receives requests. False, if it was ejected after failing and has not passed a
+     * health probe since.
+     */
+    public boolean isHealthy() {
+        return healthy.get();
+    }
+
+    long requestStarted() {
+        outstandingRequests.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    void requestSucceeded(long startTime) {
+        outstandingRequests.decrementAndGet();
+        consecutiveFailures.set(0);
+        updateLatency(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Marks a request as completed without affecting the health of this endpoint, e.g., if the request failed for a
+     * reason unrelated to the node.
+     */
+    void requestCompleted() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    /**
+     * Marks a request as failed on the transport level.
+     *
+     * @return the number of consecutive failures including this one.
+     */
+    int requestFailed() {
+        outstandingRequests.decrementAndGet();
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    private void updateLatency(long latency) {
+        long current;
+        long next;
+        do {
+            current = latencyEwma.get();
+            double average = Double.longBitsToDouble(current);
+            double updated = average == 0d ? latency : average + EWMA_DECAY * (latency - average);
+            next = Double.doubleToRawLongBits(updated);
+        } while (!latencyEwma.compareAndSet(current, next));
+    }
+
+    /**
+     * Ejects this endpoint.
+     *
+     * @return true if this call ejected the endpoint. False, if it was already ejected.
+     */
+    boolean eject() {
+        return healthy.compareAndSet(true, false);
+    }
+
+    void reinstate() {
+        consecutiveFailures.set(0);
+        ejectionTime = 0;
+        healthy.set(true);
+    }
+
+    /**
+     * Gets the time to wait before probing this endpoint. Doubles with every failed probe up to the given maximum.
+     *
+     * @param baseEjectionTime the time to wait after the first ejection in milliseconds.
+     * @param maxEjectionTime  the maximum time to wait in milliseconds.
+     * @return the time to wait in milliseconds.
+     */
+    long nextEjectionTime(long baseEjectionTime, long maxEjectionTime) {
+        long next = ejectionTime == 0 ? baseEjectionTime : Math.min(ejectionTime * 2, maxEjectionTime);
+        ejectionTime = next;
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint{" +
+                "index=" + index +
+                ", service=" + service.getClass().getSimpleName() +
+                ", outstandingRequests=" + outstandingRequests.get() +
+                ", latencyEwma=" + getLatencyEwma() +
+                ", healthy=" + healthy.get() +
+                '}';
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects endpoints based on their latency.
+ * <p>
+ * Two endpoints are picked at random and the one with the lower cost receives the request. The cost of an endpoint
+ * is its moving average latency multiplied by the number of requests it would have in flight. Comparing two random
+ * endpoints instead of always taking the cheapest one prevents that all clients pile onto the same endpoint before
+ * its latency statistics catch up.
+ * <p>
+ * Endpoints without latency samples have no cost, so that new or reinstated endpoints are tried early.
+ */
+public class EwmaLatencyPolicy implements LoadBalancingPolicy {
+
+    @Override
+    public Endpoint select(List<Endpoint> endpoints) {
+        int size = endpoints.size();
+        if (size == 1) {
+            return endpoints.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = endpoints.get(first);
+        Endpoint b = endpoints.get(second);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    private static double cost(Endpoint endpoint) {
+        return endpoint.getLatencyEwma() * (endpoint.getOutstandingRequests() + 1);
+    }
+
+}
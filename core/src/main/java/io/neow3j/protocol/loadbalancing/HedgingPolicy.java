@@ -0,0 +1,208 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Configures hedged requests of a {@link LoadBalancedService}.
+ * <p>
+ * If a request has not returned after the hedging delay, a duplicate of it is sent to another endpoint and whichever
+ * response arrives first is used. The hedging delay is the configured percentile of the latencies recently observed
+ * for the request's method. Thus, only the slowest requests are hedged and the additional load stays small. If the
+ * duplicate returns first, the time until then is recorded as the latency of the cancelled original request.
+ * <p>
+ * Only read-only methods are hedged. State-changing methods like {@code sendrawtransaction} or {@code submitblock}
+ * are never hedged because they must not be executed twice. Invocations ({@code invokefunction}, {@code invokescript}
+ * and {@code invokecontractverify}) are not hedged by default because they are expensive for the Neo node and may
+ * open a session on it.
+ */
+public class HedgingPolicy {
+
+    public static final double DEFAULT_PERCENTILE = 95;
+    public static final long DEFAULT_INITIAL_DELAY = 100;
+    public static final long DEFAULT_MIN_DELAY = 5;
+
+    // The number of latency samples kept per method.
+    static final int SAMPLE_SIZE = 256;
+    // The number of latency samples required before the percentile is used instead of the initial delay.
+    static final int MIN_SAMPLES = 20;
+
+    private static final Set<String> NEVER_HEDGED = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "sendrawtransaction", "submitblock", "sendfrom", "sendmany", "sendtoaddress", "getnewaddress",
+            "openwallet", "closewallet", "importprivkey", "subscribe", "unsubscribe", "terminatesession",
+            "traverseiterator")));
+
+    private static final Set<String> DEFAULT_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "getbestblockhash", "getblock", "getblockcount", "getblockhash", "getblockheader", "getblockheadercount",
+            "getcommittee", "getcontractstate", "getnativecontracts", "getnextblockvalidators", "getrawmempool",
+            "getrawtransaction", "getstorage", "gettransactionheight", "getversion", "getunclaimedgas",
+            "calculatenetworkfee", "validateaddress", "getnep17balances", "getnep17transfers", "getnep11balances",
+            "getnep11transfers", "getnep11properties", "getapplicationlog", "getstateroot", "getproof", "verifyproof",
+            "getstateheight", "getstate", "findstates")));
+
+    private volatile Set<String> methods = DEFAULT_METHODS;
+    private volatile double percentile = DEFAULT_PERCENTILE;
+    private volatile long initialDelay = DEFAULT_INITIAL_DELAY;
+    private volatile long minDelay = DEFAULT_MIN_DELAY;
+
+    private final Map<String, LatencySamples> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> hedgesFired = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> hedgesWon = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the methods that are hedged. By default, the read-only methods of the Neo JSON-RPC API are hedged.
+     *
+     * @param methods the JSON-RPC method names.
+     * @return this.
+     * @throws IllegalArgumentException if one of the methods changes state and must never be hedged.
+     */
+    public HedgingPolicy setMethods(String... methods) {
+        Set<String> methodSet = new HashSet<>(Arrays.asList(methods));
+        for (String method : methodSet) {
+            if (NEVER_HEDGED.contains(method)) {
+                throw new IllegalArgumentException(format("The method '%s' must not be hedged.", method));
+            }
+        }
+        this.methods = Collections.unmodifiableSet(methodSet);
+        return this;
+    }
+
+    /**
+     * @return the methods that are hedged.
+     */
+    public Set<String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Sets the latency percentile after which a request is hedged. E.g., with 95, the 5% slowest requests are hedged.
+     *
+     * @param percentile the percentile. Must be in the range (0, 100].
+     * @return this.
+     */
+    public HedgingPolicy setPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be greater than 0 and at most 100.");
+        }
+        this.percentile = percentile;
+        return this;
+    }
+
+    /**
+     * Sets the hedging delay used for a method as long as too few of its latencies have been observed.
+     *
+     * @param initialDelay the delay in milliseconds.
+     * @return this.
+     */
+    public HedgingPolicy setInitialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+        return this;
+    }
+
+    /**
+     * Sets the lower bound of the hedging delay. Prevents that every request is hedged if a method is very fast.
+     *
+     * @param minDelay the delay in milliseconds.
+     * @return this.
+     */
+    public HedgingPolicy setMinDelay(long minDelay) {
+        this.minDelay = minDelay;
+        return this;
+    }
+
+    /**
+     * @param method the JSON-RPC method name.
+     * @return true if requests with the given method are hedged. False, otherwise.
+     */
+    public boolean isHedged(String method) {
+        return methods.contains(method);
+    }
+
+    /**
+     * Gets the current hedging delay of a method.
+     *
+     * @param method the JSON-RPC method name.
+     * @return the delay in milliseconds.
+     */
+    public long getDelay(String method) {
+        LatencySamples samples = latencies.get(method);
+        if (samples == null) {
+            return Math.max(initialDelay, minDelay);
+        }
+        long delay = samples.percentile(percentile, MIN_SAMPLES);
+        if (delay < 0) {
+            return Math.max(initialDelay, minDelay);
+        }
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(delay), minDelay);
+    }
+
+    /**
+     * @param method the JSON-RPC method name.
+     * @return the number of duplicate requests that were sent for the given method.
+     */
+    public long getHedgesFired(String method) {
+        LongAdder counter = hedgesFired.get(method);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @param method the JSON-RPC method name.
+     * @return the number of duplicate requests of the given method that returned before the original request.
+     */
+    public long getHedgesWon(String method) {
+        LongAdder counter = hedgesWon.get(method);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    void recordLatency(String method, long latency) {
+        latencies.computeIfAbsent(method, m -> new LatencySamples()).add(latency);
+    }
+
+    void hedgeFired(String method) {
+        hedgesFired.computeIfAbsent(method, m -> new LongAdder()).increment();
+    }
+
+    void hedgeWon(String method) {
+        hedgesWon.computeIfAbsent(method, m -> new LongAdder()).increment();
+    }
+
+    /**
+     * A ring buffer of the most recent latencies of a method.
+     */
+    private static class LatencySamples {
+
+        private final long[] samples = new long[SAMPLE_SIZE];
+        private long count;
+
+        synchronized void add(long latency) {
+            samples[(int) (count % SAMPLE_SIZE)] = latency;
+            count++;
+        }
+
+        /**
+         * @return the percentile of the samples or -1 if there are less than the required number of samples.
+         */
+        long percentile(double percentile, int minSamples) {
+            long[] sorted;
+            synchronized (this) {
+                if (count < minSamples) {
+                    return -1;
+                }
+                sorted = Arrays.copyOf(samples, (int) Math.min(count, SAMPLE_SIZE));
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the endpoint with the fewest requests in flight. Ties are broken randomly, so that idle endpoints share the
+ * load evenly.
+ */
+public class LeastOutstandingRequestsPolicy implements LoadBalancingPolicy {
+
+    @Override
+    public Endpoint select(List<Endpoint> endpoints) {
+        int size = endpoints.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        Endpoint selected = null;
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = endpoints.get((offset + i) % size);
+            int outstanding = endpoint.getOutstandingRequests();
+            if (outstanding < fewest) {
+                selected = endpoint;
+                fewest = outstanding;
+            }
+        }
+        return selected;
+    }
+
+}
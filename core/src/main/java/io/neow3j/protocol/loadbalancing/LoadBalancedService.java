@@ -0,0 +1,624 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.ConcurrencyLimitExceededException;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import io.reactivex.Observable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+
+/**
+ * A service that spreads requests over multiple Neo nodes.
+ * <p>
+ * Each request is sent to the endpoint chosen by the {@link LoadBalancingPolicy}. If the request fails on the
+ * transport level (i.e., with an {@link IOException} or a {@link ClientConnectionException}), it is retried on the
+ * next endpoint until all endpoints have been tried. Error responses of the Neo node are returned as they are. A
+ * request that an endpoint rejects locally with a {@link ConcurrencyLimitExceededException} (see
+ * {@link io.neow3j.protocol.limiter.ConcurrencyLimitedService}) is tried on the next endpoint as well, but does not
+ * count as a failure of the endpoint.
+ * <p>
+ * An endpoint that fails {@link #setFailureThreshold(int) repeatedly} in a row is ejected and does not receive
+ * requests anymore. After the {@link #setEjectionTime(long) ejection time} it is probed with a {@code getblockcount}
+ * request and reinstated if the probe succeeds. Otherwise, the ejection time is doubled and the endpoint is probed
+ * again later. If all endpoints are ejected, requests are sent to ejected endpoints anyway rather than failing
+ * outright.
+ * <p>
+ * Transactions are sticky: after a transaction was sent with {@code sendrawtransaction}, requests for that
+ * transaction (i.e., {@code gettransactionheight}, {@code getrawtransaction} and {@code getapplicationlog}) are sent
+ * to the same endpoint as long as it is healthy. Other nodes might not have received the transaction yet and would
+ * report it as unknown. Likewise, sessions are sticky: iterators of an invocation result can only be traversed
+ * ({@code traverseiterator}) and terminated ({@code terminatesession}) on the endpoint that opened the session.
+ * <p>
+ * Optionally, requests of read-only methods are hedged according to a {@link HedgingPolicy}, i.e., if the first
+ * endpoint is slow to respond, the request is sent to a second endpoint as well and the first response is used.
+ * <p>
+ * Batch requests are sent to a single endpoint as a whole. Subscriptions are opened on an endpoint that
+ * {@link Neow3jService#supportsSubscriptions() supports} them.
+ */
+public class LoadBalancedService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancedService.class);
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_EJECTION_TIME = 5_000;
+    public static final long DEFAULT_MAX_EJECTION_TIME = 5 * 60_000;
+    public static final int DEFAULT_MAX_STICKY_TRANSACTIONS = 10_000;
+    public static final long DEFAULT_STICKINESS_TIMEOUT = 2 * 60_000;
+
+    private static final String SEND_RAW_TRANSACTION = "sendrawtransaction";
+    private static final String TERMINATE_SESSION = "terminatesession";
+    // The methods whose first parameter is a transaction hash or a session id that is bound to an endpoint.
+    private static final Set<String> STICKY_METHODS = new HashSet<>(Arrays.asList(
+            "gettransactionheight", "getrawtransaction", "getapplicationlog", "traverseiterator",
+            TERMINATE_SESSION));
+
+    private final List<Endpoint> endpoints;
+    private final LoadBalancingPolicy policy;
+    private final ScheduledExecutorService executor;
+    // Whether the executor was created by this service and is thus shut down when this service is closed.
+    private final boolean ownsExecutor;
+    private final Map<String, StickyEndpoint> stickyEndpoints;
+
+    private volatile int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private volatile long ejectionTime = DEFAULT_EJECTION_TIME;
+    private volatile long maxEjectionTime = DEFAULT_MAX_EJECTION_TIME;
+    private volatile long stickinessTimeout = DEFAULT_STICKINESS_TIMEOUT;
+    private volatile HedgingPolicy hedgingPolicy;
+    private volatile boolean closed;
+
+    /**
+     * Creates a {@link LoadBalancedService} that uses the {@link LeastOutstandingRequestsPolicy}.
+     *
+     * @param services the services of the Neo nodes, e.g., {@link io.neow3j.protocol.http.HttpService}s.
+     */
+    public LoadBalancedService(Neow3jService... services) {
+        this(Arrays.asList(services), new LeastOutstandingRequestsPolicy());
+    }
+
+    /**
+     * Creates a {@link LoadBalancedService}.
+     *
+     * @param services the services of the Neo nodes, e.g., {@link io.neow3j.protocol.http.HttpService}s.
+     * @param policy   the policy that selects the endpoint for each request.
+     */
+    public LoadBalancedService(List<? extends Neow3jService> services, LoadBalancingPolicy policy) {
+        this(services, policy, Async.defaultExecutorService(), true);
+    }
+
+    /**
+     * Creates a {@link LoadBalancedService}.
+     * <p>
+     * The executor is not shut down when this service is closed.
+     *
+     * @param services the services of the Neo nodes, e.g., {@link io.neow3j.protocol.http.HttpService}s.
+     * @param policy   the policy that selects the endpoint for each request.
+     * @param executor the executor used to probe ejected endpoints and to schedule hedged requests.
+     */
+    public LoadBalancedService(List<? extends Neow3jService> services, LoadBalancingPolicy policy,
+            ScheduledExecutorService executor) {
+        this(services, policy, executor, false);
+    }
+
+    private LoadBalancedService(List<? extends Neow3jService> services, LoadBalancingPolicy policy,
+            ScheduledExecutorService executor, boolean ownsExecutor) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required.");
+        }
+        List<Endpoint> endpointList = new ArrayList<>(services.size());
+        for (int i = 0; i < services.size(); i++) {
+            endpointList.add(new Endpoint(i, services.get(i)));
+        }
+        this.endpoints = Collections.unmodifiableList(endpointList);
+        this.policy = policy;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.stickyEndpoints = Collections.synchronizedMap(
+                new LinkedHashMap<String, StickyEndpoint>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, StickyEndpoint> eldest) {
+                        return size() > DEFAULT_MAX_STICKY_TRANSACTIONS;
+                    }
+                });
+    }
+
+    /**
+     * Sets the number of consecutive transport failures after which an endpoint is ejected.
+     *
+     * @param failureThreshold the number of failures.
+     * @return this.
+     */
+    public LoadBalancedService setFailureThreshold(int failureThreshold) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("The failure threshold must be at least 1.");
+        }
+        this.failureThreshold = failureThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the time an endpoint stays ejected before it is probed for the first time. The time doubles with every
+     * failed probe up to the {@link #setMaxEjectionTime(long) maximum ejection time}.
+     *
+     * @param ejectionTime the ejection time in milliseconds.
+     * @return this.
+     */
+    public LoadBalancedService setEjectionTime(long ejectionTime) {
+        this.ejectionTime = ejectionTime;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time an endpoint stays ejected between two probes.
+     *
+     * @param maxEjectionTime the maximum ejection time in milliseconds.
+     * @return this.
+     */
+    public LoadBalancedService setMaxEjectionTime(long maxEjectionTime) {
+        this.maxEjectionTime = maxEjectionTime;
+        return this;
+    }
+
+    /**
+     * Sets how long requests for a transaction or a session are sent to the endpoint the transaction was sent to or
+     * the session was opened on.
+     *
+     * @param stickinessTimeout the time in milliseconds.
+     * @return this.
+     */
+    public LoadBalancedService setStickinessTimeout(long stickinessTimeout) {
+        this.stickinessTimeout = stickinessTimeout;
+        return this;
+    }
+
+    /**
+     * Enables hedged requests.
+     *
+     * @param hedgingPolicy the hedging policy or null to disable hedging.
+     * @return this.
+     */
+    public LoadBalancedService setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+        return this;
+    }
+
+    /**
+     * @return the hedging policy or null if hedging is disabled.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * @return the endpoints of this service in the order of the services it was created with.
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        if (isHedged(request)) {
+            return waitFor(sendAsync(request, responseType));
+        }
+        Set<Endpoint> tried = new HashSet<>();
+        Exception lastFailure = null;
+        Endpoint endpoint;
+        while ((endpoint = selectEndpoint(request, tried)) != null) {
+            tried.add(endpoint);
+            long startTime = endpoint.requestStarted();
+            try {
+                T response = endpoint.getService().send(request, responseType);
+                endpoint.requestSucceeded(startTime);
+                onResponse(request, response, endpoint);
+                return response;
+            } catch (IOException | ClientConnectionException e) {
+                onTransportFailure(endpoint, e);
+                lastFailure = e;
+            } catch (ConcurrencyLimitExceededException e) {
+                endpoint.requestCompleted();
+                lastFailure = e;
+            } catch (RuntimeException e) {
+                endpoint.requestCompleted();
+                throw e;
+            }
+        }
+        throw allEndpointsFailed(lastFailure);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        Function<Neow3jService, CompletableFuture<T>> call = service -> service.sendAsync(request, responseType);
+        if (isHedged(request)) {
+            return sendHedged(request, call, hedgingPolicy);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sendAsync(request, call, new HashSet<>(), null, result);
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return waitFor(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        CompletableFuture<BatchResponse> result = new CompletableFuture<>();
+        sendAsync(null, service -> service.sendBatchAsync(batchRequest), new HashSet<>(), null, result);
+        return result;
+    }
+
+    private <T> void sendAsync(Request request, Function<Neow3jService, CompletableFuture<T>> call,
+            Set<Endpoint> tried, Throwable lastFailure, CompletableFuture<T> result) {
+
+        if (result.isDone()) {
+            // Cancelled, e.g., because a hedged attempt already returned.
+            return;
+        }
+        Endpoint endpoint = selectEndpoint(request, tried);
+        if (endpoint == null) {
+            result.completeExceptionally(allEndpointsFailed(lastFailure));
+            return;
+        }
+        tried.add(endpoint);
+        long startTime = endpoint.requestStarted();
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(endpoint.getService());
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        CompletableFuture<T> attempt = future;
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                attempt.cancel(true);
+            }
+        });
+        future.whenComplete((response, throwable) -> {
+            Throwable cause = unwrap(throwable);
+            if (cause == null) {
+                endpoint.requestSucceeded(startTime);
+                onResponse(request, response, endpoint);
+                result.complete(response);
+            } else if (isTransportFailure(cause)) {
+                onTransportFailure(endpoint, cause);
+                sendAsync(request, call, tried, cause, result);
+            } else if (cause instanceof ConcurrencyLimitExceededException) {
+                endpoint.requestCompleted();
+                sendAsync(request, call, tried, cause, result);
+            } else {
+                endpoint.requestCompleted();
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    // region Hedging
+
+    private boolean isHedged(Request<?, ?> request) {
+        HedgingPolicy hedging = hedgingPolicy;
+        // Sticky requests are not hedged because the other endpoints might not know the transaction or session.
+        return hedging != null && endpoints.size() > 1 && hedging.isHedged(request.getMethod())
+                && getStickyEndpoint(request) == null;
+    }
+
+    private <T> CompletableFuture<T> sendHedged(Request<?, ?> request,
+            Function<Neow3jService, CompletableFuture<T>> call, HedgingPolicy hedging) {
+
+        String method = request.getMethod();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Shared by the original and the hedged request, so that they are sent to different endpoints.
+        Set<Endpoint> tried = ConcurrentHashMap.newKeySet();
+        // The number of attempts that have not failed yet, including the scheduled hedge. The result only fails once
+        // all attempts failed. The hedge is counted before it is scheduled, so that a failure of the original request
+        // cannot fail the result while the hedge is about to be sent.
+        AtomicInteger pendingAttempts = new AtomicInteger(2);
+        // Set by the first successful attempt. Updates the counters before completing the result, so that callers
+        // see them once they have the response.
+        AtomicBoolean answered = new AtomicBoolean();
+
+        long startTime = System.nanoTime();
+        CompletableFuture<T> original = new CompletableFuture<>();
+        sendAsync(request, call, tried, null, original);
+
+        CompletableFuture<T> hedged = new CompletableFuture<>();
+        ScheduledFuture<?> hedge = executor.schedule(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            hedging.hedgeFired(method);
+            sendAsync(request, call, tried, null, hedged);
+        }, hedging.getDelay(method), TimeUnit.MILLISECONDS);
+
+        hedged.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                if (answered.compareAndSet(false, true)) {
+                    hedging.hedgeWon(method);
+                    // The original request is cancelled, so its latency is never known. The time until now is a lower
+                    // bound of it. Without this sample, the slowest latencies would be missing and the hedging delay
+                    // would drift down.
+                    hedging.recordLatency(method, System.nanoTime() - startTime);
+                    original.cancel(true);
+                    result.complete(response);
+                }
+            } else if (!hedged.isCancelled() && pendingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(throwable);
+            }
+        });
+        original.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                hedging.recordLatency(method, System.nanoTime() - startTime);
+                hedge.cancel(false);
+                if (answered.compareAndSet(false, true)) {
+                    hedged.cancel(true);
+                    result.complete(response);
+                }
+                return;
+            }
+            if (original.isCancelled()) {
+                return;
+            }
+            if (hedge.cancel(false)) {
+                // The hedge will not be sent anymore.
+                pendingAttempts.decrementAndGet();
+            }
+            if (pendingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(throwable);
+            }
+        });
+        // Cancelling the result cancels both attempts.
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                hedge.cancel(false);
+                original.cancel(true);
+                hedged.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // endregion
+
+    private Endpoint selectEndpoint(Request request, Set<Endpoint> excluded) {
+        Endpoint stickyEndpoint = getStickyEndpoint(request);
+        if (stickyEndpoint != null && stickyEndpoint.isHealthy() && !excluded.contains(stickyEndpoint)) {
+            return stickyEndpoint;
+        }
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy() && !excluded.contains(endpoint)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // All healthy endpoints were tried. Fall back to the ejected ones instead of failing right away.
+            for (Endpoint endpoint : endpoints) {
+                if (!excluded.contains(endpoint)) {
+                    candidates.add(endpoint);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return policy.select(candidates);
+    }
+
+    // region Stickiness
+
+    private Endpoint getStickyEndpoint(Request<?, ?> request) {
+        if (request == null || !STICKY_METHODS.contains(request.getMethod()) || request.getParams().isEmpty()) {
+            return null;
+        }
+        String key = String.valueOf(request.getParams().get(0));
+        StickyEndpoint sticky = stickyEndpoints.get(key);
+        if (sticky == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() > sticky.expiration) {
+            stickyEndpoints.remove(key);
+            return null;
+        }
+        return sticky.endpoint;
+    }
+
+    private void onResponse(Request<?, ?> request, Object response, Endpoint endpoint) {
+        if (request == null || !(response instanceof Response) || ((Response<?>) response).hasError()) {
+            return;
+        }
+        Object result = ((Response<?>) response).getResult();
+        if (SEND_RAW_TRANSACTION.equals(request.getMethod()) && response instanceof NeoSendRawTransaction) {
+            NeoSendRawTransaction sendRawTransaction = (NeoSendRawTransaction) response;
+            if (sendRawTransaction.getResult() != null && sendRawTransaction.getResult().getHash() != null) {
+                stick(sendRawTransaction.getResult().getHash().toString(), endpoint);
+            }
+        } else if (TERMINATE_SESSION.equals(request.getMethod()) && !request.getParams().isEmpty()) {
+            stickyEndpoints.remove(String.valueOf(request.getParams().get(0)));
+        } else if (result instanceof InvocationResult) {
+            String sessionId = getSessionId((InvocationResult) result);
+            if (sessionId != null) {
+                stick(sessionId, endpoint);
+            }
+        }
+    }
+
+    private void stick(String key, Endpoint endpoint) {
+        stickyEndpoints.put(key, new StickyEndpoint(endpoint, System.currentTimeMillis() + stickinessTimeout));
+    }
+
+    private static String getSessionId(InvocationResult invocationResult) {
+        try {
+            return invocationResult.getSessionId();
+        } catch (IllegalStateException e) {
+            // The Neo node has sessions disabled.
+            return null;
+        }
+    }
+
+    private static class StickyEndpoint {
+
+        private final Endpoint endpoint;
+        private final long expiration;
+
+        StickyEndpoint(Endpoint endpoint, long expiration) {
+            this.endpoint = endpoint;
+            this.expiration = expiration;
+        }
+
+    }
+
+    // endregion
+    // region Health
+
+    private void onTransportFailure(Endpoint endpoint, Throwable cause) {
+        int failures = endpoint.requestFailed();
+        log.debug("Request to endpoint {} failed ({} consecutive failures)", endpoint.getIndex(), failures, cause);
+        if (failures >= failureThreshold && endpoint.eject()) {
+            log.warn("Ejecting endpoint {} after {} consecutive failures", endpoint.getIndex(), failures);
+            scheduleProbe(endpoint);
+        }
+    }
+
+    private void scheduleProbe(Endpoint endpoint) {
+        if (closed || executor.isShutdown()) {
+            return;
+        }
+        long delay = endpoint.nextEjectionTime(ejectionTime, maxEjectionTime);
+        executor.schedule(() -> probe(endpoint), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void probe(Endpoint endpoint) {
+        if (closed) {
+            return;
+        }
+        Neow3jService service = endpoint.getService();
+        Request<?, NeoBlockCount> request =
+                new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> future;
+        try {
+            future = service.sendAsync(request, NeoBlockCount.class);
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((response, throwable) -> {
+            if (throwable == null && response != null && !response.hasError()) {
+                log.info("Reinstating endpoint {}", endpoint.getIndex());
+                endpoint.reinstate();
+            } else {
+                log.debug("Probe of endpoint {} failed", endpoint.getIndex(), unwrap(throwable));
+                scheduleProbe(endpoint);
+            }
+        });
+    }
+
+    private static boolean isTransportFailure(Throwable throwable) {
+        return throwable instanceof IOException || throwable instanceof ClientConnectionException;
+    }
+
+    // endregion
+
+    private static Throwable unwrap(Throwable throwable) {
+        if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static IOException allEndpointsFailed(Throwable lastFailure) {
+        if (lastFailure instanceof IOException) {
+            return (IOException) lastFailure;
+        }
+        return new IOException("The request failed on all endpoints.", lastFailure);
+    }
+
+    private static <T> T waitFor(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy() && endpoint.getService().supportsSubscriptions()) {
+                return endpoint.getService().subscribe(request, unsubscribeMethod, responseType);
+            }
+        }
+        throw new UnsupportedOperationException(
+                format("None of the healthy endpoints of the %s supports subscriptions.",
+                        getClass().getSimpleName()));
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return endpoints.stream().anyMatch(e -> e.getService().supportsSubscriptions());
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+        IOException failure = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.getService().close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.List;
+
+/**
+ * Decides which endpoint of a {@link LoadBalancedService} receives the next request.
+ */
+public interface LoadBalancingPolicy {
+
+    /**
+     * Selects the endpoint for the next request.
+     * <p>
+     * This method is called concurrently and should not block.
+     *
+     * @param endpoints the endpoints that are eligible for the request. Is never empty.
+     * @return the selected endpoint.
+     */
+    Endpoint select(List<Endpoint> endpoints);
+
+}
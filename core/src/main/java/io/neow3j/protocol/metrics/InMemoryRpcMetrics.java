@@ -0,0 +1,111 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RpcMetricsListener} that aggregates the metrics per JSON-RPC method in memory.
+ * <p>
+ * Recording is lock-free. Call {@link #snapshot()} to export the current state, e.g., periodically to a monitoring
+ * system or to find out whether a method's latency is dominated by the network or by deserialization.
+ * <p>
+ * Latencies are recorded in a histogram with exponentially growing buckets. The upper bound of bucket {@code i} is
+ * {@code 2^i} milliseconds, the last bucket holds all latencies above {@code 2^(n-2)} milliseconds.
+ */
+public class InMemoryRpcMetrics implements RpcMetricsListener {
+
+    static final int BUCKET_COUNT = 18;
+
+    private final Map<String, MethodMetrics> metricsForMethod = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCall(RpcCall call) {
+        metricsForMethod.computeIfAbsent(call.getMethod(), m -> new MethodMetrics()).record(call);
+    }
+
+    /**
+     * @return a snapshot of the metrics recorded so far.
+     */
+    public RpcMetricsSnapshot snapshot() {
+        Map<String, RpcMetricsSnapshot.MethodStatistics> statistics = new HashMap<>();
+        metricsForMethod.forEach((method, metrics) -> statistics.put(method, metrics.snapshot(method)));
+        return new RpcMetricsSnapshot(statistics);
+    }
+
+    /**
+     * Removes all recorded metrics.
+     */
+    public void reset() {
+        metricsForMethod.clear();
+    }
+
+    static int bucketIndex(long latency) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(latency + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+        if (millis <= 1) {
+            return 0;
+        }
+        int index = 64 - Long.numberOfLeadingZeros(millis - 1);
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    static long latencyPercentileMillis(long[] histogram, long total, double percentile) {
+        long threshold = (long) Math.ceil(percentile / 100 * total);
+        long count = 0;
+        for (int i = 0; i < histogram.length - 1; i++) {
+            count += histogram[i];
+            if (count >= threshold) {
+                return 1L << i;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static class MethodMetrics {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LongAdder networkTime = new LongAdder();
+        private final LongAdder deserializationTime = new LongAdder();
+        private final LongAdder[] latencyBuckets = new LongAdder[BUCKET_COUNT];
+        private final Map<Integer, LongAdder> errorCodes = new ConcurrentHashMap<>();
+
+        MethodMetrics() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                latencyBuckets[i] = new LongAdder();
+            }
+        }
+
+        void record(RpcCall call) {
+            calls.increment();
+            if (call.getFailure() != null) {
+                failures.increment();
+            }
+            if (call.getError() != null) {
+                errorCodes.computeIfAbsent(call.getError().getCode(), c -> new LongAdder()).increment();
+            }
+            requestBytes.add(call.getRequestSize());
+            responseBytes.add(call.getResponseSize());
+            networkTime.add(call.getNetworkTime());
+            deserializationTime.add(call.getDeserializationTime());
+            latencyBuckets[bucketIndex(call.getTotalTime())].increment();
+        }
+
+        RpcMetricsSnapshot.MethodStatistics snapshot(String method) {
+            long[] histogram = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                histogram[i] = latencyBuckets[i].sum();
+            }
+            Map<Integer, Long> errors = new HashMap<>();
+            errorCodes.forEach((code, count) -> errors.put(code, count.sum()));
+            return new RpcMetricsSnapshot.MethodStatistics(method, calls.sum(), failures.sum(), requestBytes.sum(),
+                    responseBytes.sum(), networkTime.sum(), deserializationTime.sum(), histogram, errors);
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Response;
+
+/**
+ * The metrics of a single JSON-RPC call.
+ */
+public class RpcCall {
+
+    /**
+     * The method name reported for batch requests.
+     */
+    public static final String BATCH = "batch";
+
+    private final String method;
+    private final long requestSize;
+    private final long responseSize;
+    private final long networkTime;
+    private final long deserializationTime;
+    private final Response.Error error;
+    private final Throwable failure;
+
+    public RpcCall(String method, long requestSize, long responseSize, long networkTime, long deserializationTime,
+            Response.Error error, Throwable failure) {
+        this.method = method;
+        this.requestSize = requestSize;
+        this.responseSize = responseSize;
+        this.networkTime = networkTime;
+        this.deserializationTime = deserializationTime;
+        this.error = error;
+        this.failure = failure;
+    }
+
+    /**
+     * @return the JSON-RPC method or {@link #BATCH} for batch requests.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the size of the serialized request in bytes.
+     */
+    public long getRequestSize() {
+        return requestSize;
+    }
+
+    /**
+     * @return the size of the response body in bytes. Is 0 if no response was received.
+     */
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    /**
+     * @return the time in nanoseconds from sending the request until the response body was received completely.
+     */
+    public long getNetworkTime() {
+        return networkTime;
+    }
+
+    /**
+     * @return the time in nanoseconds it took to deserialize the response body.
+     */
+    public long getDeserializationTime() {
+        return deserializationTime;
+    }
+
+    /**
+     * @return the total time of the call in nanoseconds.
+     */
+    public long getTotalTime() {
+        return networkTime + deserializationTime;
+    }
+
+    /**
+     * @return the error returned by the Neo node or null if the node did not return an error.
+     */
+    public Response.Error getError() {
+        return error;
+    }
+
+    /**
+     * @return the exception that caused the call to fail, e.g., an {@link java.io.IOException}, or null if a response
+     * was received and deserialized.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return true if the call failed or the Neo node returned an error. False, otherwise.
+     */
+    public boolean isError() {
+        return failure != null || error != null;
+    }
+
+    @Override
+    public String toString() {
+        return "RpcCall{" +
+                "method='" + method + '\'' +
+                ", requestSize=" + requestSize +
+                ", responseSize=" + responseSize +
+                ", networkTime=" + networkTime +
+                ", deserializationTime=" + deserializationTime +
+                ", error=" + (error == null ? null : error.getCode()) +
+                ", failure=" + failure +
+                '}';
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.Service;
+
+/**
+ * Receives metrics about the JSON-RPC calls a {@link Service} performs, e.g., to export them to a monitoring system.
+ * <p>
+ * The listener is called on the thread that performed the call. Implementations must be thread-safe, should return
+ * quickly and must not throw exceptions.
+ *
+ * @see InMemoryRpcMetrics
+ */
+public interface RpcMetricsListener {
+
+    /**
+     * Is called when a call that went over the wire completed, whether successfully or not. Responses served from a
+     * response cache or shared by coalesced requests are not reported.
+     *
+     * @param call the metrics of the call.
+     */
+    void onCall(RpcCall call);
+
+}
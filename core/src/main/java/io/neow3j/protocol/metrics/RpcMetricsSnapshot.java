@@ -0,0 +1,165 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point-in-time copy of the metrics recorded by {@link InMemoryRpcMetrics}.
+ */
+public class RpcMetricsSnapshot {
+
+    private final Map<String, MethodStatistics> methods;
+
+    public RpcMetricsSnapshot(Map<String, MethodStatistics> methods) {
+        this.methods = Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * @return the statistics per JSON-RPC method.
+     */
+    public Map<String, MethodStatistics> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param method the JSON-RPC method.
+     * @return the statistics of the method or null if it was not called.
+     */
+    public MethodStatistics getMethod(String method) {
+        return methods.get(method);
+    }
+
+    /**
+     * The statistics of a single JSON-RPC method. Times are in nanoseconds.
+     */
+    public static class MethodStatistics {
+
+        private final String method;
+        private final long calls;
+        private final long failures;
+        private final long requestBytes;
+        private final long responseBytes;
+        private final long networkTime;
+        private final long deserializationTime;
+        private final long[] latencyHistogram;
+        private final Map<Integer, Long> errorCodes;
+
+        public MethodStatistics(String method, long calls, long failures, long requestBytes, long responseBytes,
+                long networkTime, long deserializationTime, long[] latencyHistogram, Map<Integer, Long> errorCodes) {
+            this.method = method;
+            this.calls = calls;
+            this.failures = failures;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+            this.networkTime = networkTime;
+            this.deserializationTime = deserializationTime;
+            this.latencyHistogram = latencyHistogram;
+            this.errorCodes = Collections.unmodifiableMap(errorCodes);
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return the number of calls.
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the number of calls that failed without a response, e.g., because of a connection error.
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the total size of all requests in bytes.
+         */
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        /**
+         * @return the total size of all responses in bytes.
+         */
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * @return the total time spent on the network.
+         */
+        public long getNetworkTime() {
+            return networkTime;
+        }
+
+        /**
+         * @return the total time spent deserializing responses.
+         */
+        public long getDeserializationTime() {
+            return deserializationTime;
+        }
+
+        /**
+         * @return the mean time per call spent on the network in milliseconds.
+         */
+        public double getMeanNetworkTimeMillis() {
+            return calls == 0 ? 0 : (double) networkTime / calls / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * @return the mean time per call spent deserializing the response in milliseconds.
+         */
+        public double getMeanDeserializationTimeMillis() {
+            return calls == 0 ? 0 : (double) deserializationTime / calls / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * Gets the latency histogram. The upper bound of bucket {@code i} is {@code 2^i} milliseconds, the last bucket
+         * is unbounded.
+         *
+         * @return the number of calls per latency bucket.
+         */
+        public long[] getLatencyHistogram() {
+            return latencyHistogram.clone();
+        }
+
+        /**
+         * Estimates a latency percentile from the histogram.
+         *
+         * @param percentile the percentile, e.g., 99.
+         * @return the upper bound of the histogram bucket that contains the percentile in milliseconds or
+         * {@link Long#MAX_VALUE} if it is in the last, unbounded bucket.
+         */
+        public long getLatencyPercentileMillis(double percentile) {
+            return InMemoryRpcMetrics.latencyPercentileMillis(latencyHistogram, calls, percentile);
+        }
+
+        /**
+         * @return the number of error responses per error code.
+         */
+        public Map<Integer, Long> getErrorCodes() {
+            return errorCodes;
+        }
+
+        @Override
+        public String toString() {
+            return "MethodStatistics{" +
+                    "method='" + method + '\'' +
+                    ", calls=" + calls +
+                    ", failures=" + failures +
+                    ", requestBytes=" + requestBytes +
+                    ", responseBytes=" + responseBytes +
+                    ", meanNetworkTimeMillis=" + getMeanNetworkTimeMillis() +
+                    ", meanDeserializationTimeMillis=" + getMeanDeserializationTimeMillis() +
+                    ", errorCodes=" + errorCodes +
+                    '}';
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.transaction.TransactionSubmitter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the metrics of a {@link TransactionSubmitter} in memory.
+ * <p>
+ * Recording is lock-free. Call {@link #snapshot()} to export the current state.
+ * <p>
+ * Confirmation latencies are recorded in a histogram whose buckets are sized for block times, from one second up to
+ * one day, which is about the longest a transaction can stay valid. See
+ * {@link SubmissionMetricsSnapshot#getConfirmationLatencyBucketBoundsMillis()}.
+ */
+public class SubmissionMetrics {
+
+    // The upper bounds of the confirmation latency buckets in milliseconds. The last bucket holds all latencies above
+    // the last bound.
+    static final long[] BUCKET_BOUNDS_MILLIS = {1_000, 2_000, 5_000, 10_000, 15_000, 20_000, 30_000, 45_000, 60_000,
+            90_000, 120_000, 180_000, 300_000, 600_000, 1_200_000, 1_800_000, 3_600_000, 7_200_000, 14_400_000,
+            28_800_000, 86_400_000};
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder sendAttempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder confirmationTime = new LongAdder();
+    private final LongAdder[] latencyBuckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+
+    private volatile long startTime = System.nanoTime();
+
+    public SubmissionMetrics() {
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records that a transaction was submitted.
+     */
+    public void recordSubmitted() {
+        submitted.increment();
+    }
+
+    /**
+     * Records that a transaction was sent to the Neo node, including retries.
+     */
+    public void recordSendAttempt() {
+        sendAttempts.increment();
+    }
+
+    /**
+     * Records that sending a transaction is retried.
+     */
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    /**
+     * Records that an expired transaction is rebuilt.
+     */
+    public void recordRebuild() {
+        rebuilds.increment();
+    }
+
+    /**
+     * Records that a transaction was included in a block.
+     *
+     * @param latency the time in nanoseconds from sending the transaction for the first time until it was included
+     *                in a block.
+     */
+    public void recordConfirmed(long latency) {
+        confirmed.increment();
+        confirmationTime.add(latency);
+        latencyBuckets[bucketIndex(latency)].increment();
+    }
+
+    static int bucketIndex(long latency) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(latency);
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (millis <= BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MILLIS.length;
+    }
+
+    static long latencyPercentileMillis(long[] histogram, long total, double percentile) {
+        long threshold = (long) Math.ceil(percentile / 100 * total);
+        long count = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            count += histogram[i];
+            if (count >= threshold) {
+                return BUCKET_BOUNDS_MILLIS[i];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Records that a transaction failed.
+     */
+    public void recordFailed() {
+        failed.increment();
+    }
+
+    /**
+     * @return a snapshot of the metrics recorded so far.
+     */
+    public SubmissionMetricsSnapshot snapshot() {
+        long[] histogram = new long[latencyBuckets.length];
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            histogram[i] = latencyBuckets[i].sum();
+        }
+        return new SubmissionMetricsSnapshot(submitted.sum(), sendAttempts.sum(), retries.sum(), rebuilds.sum(),
+                confirmed.sum(), failed.sum(), confirmationTime.sum(), histogram, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Removes all recorded metrics and restarts the period over which the throughput is measured.
+     */
+    public void reset() {
+        submitted.reset();
+        sendAttempts.reset();
+        retries.reset();
+        rebuilds.reset();
+        confirmed.reset();
+        failed.reset();
+        confirmationTime.reset();
+        for (LongAdder bucket : latencyBuckets) {
+            bucket.reset();
+        }
+        startTime = System.nanoTime();
+    }
+
+}
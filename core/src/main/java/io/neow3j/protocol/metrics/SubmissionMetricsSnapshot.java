@@ -0,0 +1,147 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point-in-time copy of the metrics recorded by {@link SubmissionMetrics}. Times are in nanoseconds.
+ */
+public class SubmissionMetricsSnapshot {
+
+    private final long submitted;
+    private final long sendAttempts;
+    private final long retries;
+    private final long rebuilds;
+    private final long confirmed;
+    private final long failed;
+    private final long confirmationTime;
+    private final long[] latencyHistogram;
+    private final long period;
+
+    public SubmissionMetricsSnapshot(long submitted, long sendAttempts, long retries, long rebuilds, long confirmed,
+            long failed, long confirmationTime, long[] latencyHistogram, long period) {
+        this.submitted = submitted;
+        this.sendAttempts = sendAttempts;
+        this.retries = retries;
+        this.rebuilds = rebuilds;
+        this.confirmed = confirmed;
+        this.failed = failed;
+        this.confirmationTime = confirmationTime;
+        this.latencyHistogram = latencyHistogram;
+        this.period = period;
+    }
+
+    /**
+     * @return the number of submitted transactions.
+     */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * @return the number of times a transaction was sent to the Neo node, including retries and rebuilt
+     * transactions.
+     */
+    public long getSendAttempts() {
+        return sendAttempts;
+    }
+
+    /**
+     * @return the number of retries after transient errors.
+     */
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return the number of rebuilt transactions.
+     */
+    public long getRebuilds() {
+        return rebuilds;
+    }
+
+    /**
+     * @return the number of transactions that were included in a block.
+     */
+    public long getConfirmed() {
+        return confirmed;
+    }
+
+    /**
+     * @return the number of transactions that failed.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return the total confirmation latency of all confirmed transactions.
+     */
+    public long getConfirmationTime() {
+        return confirmationTime;
+    }
+
+    /**
+     * @return the time since the metrics were created or reset.
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return the number of confirmed transactions per second since the metrics were created or reset.
+     */
+    public double getThroughput() {
+        return period <= 0 ? 0 : (double) confirmed / period * TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the mean confirmation latency in milliseconds.
+     */
+    public double getMeanConfirmationLatencyMillis() {
+        return confirmed == 0 ? 0 : (double) confirmationTime / confirmed / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets the confirmation latency histogram. The upper bound of bucket {@code i} is the {@code i}-th value of
+     * {@link #getConfirmationLatencyBucketBoundsMillis()}, the last bucket is unbounded.
+     *
+     * @return the number of confirmed transactions per latency bucket.
+     */
+    public long[] getConfirmationLatencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    /**
+     * @return the upper bounds of the confirmation latency buckets in milliseconds, except for the last, unbounded
+     * bucket.
+     */
+    public long[] getConfirmationLatencyBucketBoundsMillis() {
+        return SubmissionMetrics.BUCKET_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Estimates a confirmation latency percentile from the histogram.
+     *
+     * @param percentile the percentile, e.g., 99.
+     * @return the upper bound of the histogram bucket that contains the percentile in milliseconds or
+     * {@link Long#MAX_VALUE} if it is in the last, unbounded bucket.
+     */
+    public long getConfirmationLatencyPercentileMillis(double percentile) {
+        return SubmissionMetrics.latencyPercentileMillis(latencyHistogram, confirmed, percentile);
+    }
+
+    @Override
+    public String toString() {
+        return "SubmissionMetricsSnapshot{" +
+                "submitted=" + submitted +
+                ", sendAttempts=" + sendAttempts +
+                ", retries=" + retries +
+                ", rebuilds=" + rebuilds +
+                ", confirmed=" + confirmed +
+                ", failed=" + failed +
+                ", throughput=" + getThroughput() +
+                ", meanConfirmationLatencyMillis=" + getMeanConfirmationLatencyMillis() +
+                '}';
+    }
+
+}
@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.response.NeoBlock;
+
+/**
+ * Notification about a new block that was added to the blockchain ({@code block_added} event).
+ */
+public class BlockAddedNotification extends Notification<NeoBlock> {
+}
@@ -0,0 +1,62 @@
+package io.neow3j.protocol.notifications;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+
+import java.util.Objects;
+
+/**
+ * An event fired by a contract, together with the hash of the transaction or block in which it was fired.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ContractEvent extends io.neow3j.protocol.core.response.Notification {
+
+    @JsonProperty("container")
+    private Hash256 container;
+
+    public ContractEvent() {
+    }
+
+    public ContractEvent(Hash256 container, Hash160 contract, String eventName, StackItem state) {
+        super(contract, eventName, state);
+        this.container = container;
+    }
+
+    /**
+     * @return the hash of the transaction or block in which the event was fired.
+     */
+    public Hash256 getContainer() {
+        return container;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContractEvent)) {
+            return false;
+        }
+        ContractEvent that = (ContractEvent) o;
+        return Objects.equals(getContainer(), that.getContainer()) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getContainer(), super.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "ContractEvent{" +
+                "container=" + container +
+                ", contract=" + getContract() +
+                ", eventName='" + getEventName() + '\'' +
+                ", state=" + getState() +
+                '}';
+    }
+
+}
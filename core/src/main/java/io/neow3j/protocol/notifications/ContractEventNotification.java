@@ -0,0 +1,8 @@
+package io.neow3j.protocol.notifications;
+
+/**
+ * Notification about an event that was fired by a contract during the execution of a transaction or block
+ * ({@code notification_from_execution} event).
+ */
+public class ContractEventNotification extends Notification<ContractEvent> {
+}
@@ -0,0 +1,146 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.response.ContractManifest.ContractABI;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.protocol.exceptions.StackItemCastException;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.ContractParameterType;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.StackItemType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.neow3j.utils.ArrayUtils.reverseArray;
+import static java.lang.String.format;
+
+/**
+ * A contract event whose state was decoded according to the event's parameters in the contract's ABI.
+ * <p>
+ * The values are decoded as follows:
+ * <ul>
+ *     <li>{@code Boolean} as {@link Boolean}</li>
+ *     <li>{@code Integer} as {@link java.math.BigInteger}</li>
+ *     <li>{@code String} as {@link String}</li>
+ *     <li>{@code Hash160} as {@link Hash160}</li>
+ *     <li>{@code Hash256} as {@link Hash256}</li>
+ *     <li>{@code ByteArray}, {@code PublicKey} and {@code Signature} as {@code byte[]}</li>
+ *     <li>all other types as the {@link StackItem} itself</li>
+ * </ul>
+ * A stack item of type {@code Any}, e.g., the sender of a NEP-17 transfer that mints tokens, is decoded as null.
+ */
+public class DecodedContractEvent extends ContractEvent {
+
+    private final List<ContractParameter> parameters;
+    private final List<Object> values;
+
+    private DecodedContractEvent(ContractEvent event, List<ContractParameter> parameters, List<Object> values) {
+        super(event.getContainer(), event.getContract(), event.getEventName(), event.getState());
+        this.parameters = parameters;
+        this.values = values;
+    }
+
+    /**
+     * Decodes the state of the given event according to the given event of the contract's ABI.
+     * <p>
+     * If the ABI event is null or does not match the state, e.g., because the contract was updated, the stack items
+     * of the state are not decoded and no parameters are available by name. This includes stack items that cannot
+     * be decoded as the type of their parameter.
+     *
+     * @param event    the event.
+     * @param abiEvent the event's description in the contract's ABI.
+     * @return the decoded event.
+     */
+    public static DecodedContractEvent decode(ContractEvent event, ContractABI.ContractEvent abiEvent) {
+        List<StackItem> items = event.getState() == null
+                ? Collections.emptyList()
+                : event.getState().getList();
+        List<ContractParameter> parameters = abiEvent == null
+                ? Collections.emptyList()
+                : abiEvent.getParameters();
+        if (parameters.size() != items.size()) {
+            return new DecodedContractEvent(event, Collections.emptyList(), new ArrayList<>(items));
+        }
+        List<Object> values = new ArrayList<>(items.size());
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                values.add(decodeValue(items.get(i), parameters.get(i).getType()));
+            }
+        } catch (StackItemCastException | IllegalArgumentException e) {
+            // A single event that does not match the ABI must not fail the stream that decodes it.
+            return new DecodedContractEvent(event, Collections.emptyList(), new ArrayList<>(items));
+        }
+        return new DecodedContractEvent(event, parameters, values);
+    }
+
+    private static Object decodeValue(StackItem item, ContractParameterType type) {
+        if (item.getType() == StackItemType.ANY) {
+            return null;
+        }
+        switch (type) {
+            case BOOLEAN:
+                return item.getBoolean();
+            case INTEGER:
+                return item.getInteger();
+            case STRING:
+                return item.getString();
+            case HASH160:
+                return new Hash160(reverseArray(item.getByteArray()));
+            case HASH256:
+                return new Hash256(reverseArray(item.getByteArray()));
+            case BYTE_ARRAY:
+            case PUBLIC_KEY:
+            case SIGNATURE:
+                return item.getByteArray();
+            default:
+                return item;
+        }
+    }
+
+    /**
+     * @return the event's parameters as described in the contract's ABI. Empty if the state could not be decoded.
+     */
+    public List<ContractParameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the decoded values in the order of the event's parameters.
+     */
+    public List<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * Gets the decoded value of the parameter with the given name.
+     *
+     * @param name the parameter name as described in the contract's ABI.
+     * @param type the type of the decoded value.
+     * @param <T>  the type of the decoded value.
+     * @return the decoded value.
+     * @throws IllegalArgumentException if the event has no parameter with the given name.
+     * @throws ClassCastException       if the decoded value is not of the given type.
+     */
+    public <T> T getValue(String name, Class<T> type) {
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i).getName().equals(name)) {
+                return type.cast(values.get(i));
+            }
+        }
+        throw new IllegalArgumentException(format("The event %s has no parameter with the name %s.",
+                getEventName(), name));
+    }
+
+    @Override
+    public String toString() {
+        return "DecodedContractEvent{" +
+                "container=" + getContainer() +
+                ", contract=" + getContract() +
+                ", eventName='" + getEventName() + '\'' +
+                ", values=" + values +
+                '}';
+    }
+
+}
@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.response.Transaction;
+
+/**
+ * Notification about a new transaction that was added to the memory pool ({@code transaction_added} event).
+ */
+public class TransactionAddedNotification extends Notification<Transaction> {
+}
@@ -0,0 +1,7 @@
+package io.neow3j.protocol.notifications;
+
+/**
+ * Notification about the execution of a transaction or block ({@code transaction_executed} event).
+ */
+public class TransactionExecutedNotification extends Notification<TransactionExecution> {
+}
@@ -0,0 +1,69 @@
+package io.neow3j.protocol.notifications;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.NeoVMStateType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The execution of a transaction or block, together with the hash of the executed container.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TransactionExecution extends NeoApplicationLog.Execution {
+
+    @JsonProperty("container")
+    private Hash256 container;
+
+    public TransactionExecution() {
+    }
+
+    public TransactionExecution(Hash256 container, String trigger, NeoVMStateType state, String exception,
+            String gasConsumed, List<StackItem> stack,
+            List<io.neow3j.protocol.core.response.Notification> notifications) {
+        super(trigger, state, exception, gasConsumed, stack, notifications);
+        this.container = container;
+    }
+
+    /**
+     * @return the hash of the executed transaction or block.
+     */
+    public Hash256 getContainer() {
+        return container;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TransactionExecution)) {
+            return false;
+        }
+        TransactionExecution that = (TransactionExecution) o;
+        return Objects.equals(getContainer(), that.getContainer()) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getContainer(), super.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionExecution{" +
+                "container=" + container +
+                ", trigger='" + getTrigger() + '\'' +
+                ", state='" + getState() + '\'' +
+                ", exception='" + getException() + '\'' +
+                ", gasConsumed='" + getGasConsumed() + '\'' +
+                ", stack=" + getStack() +
+                ", notifications=" + getNotifications() +
+                '}';
+    }
+
+}
@@ -0,0 +1,119 @@
+package io.neow3j.protocol.reorg;
+
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.types.Hash256;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An event of a {@link ReorgAwareBlockStream}. It is either a block of the canonical chain or a rollback of blocks
+ * that were emitted before but are no longer part of the canonical chain.
+ */
+public class BlockStreamEvent {
+
+    public enum Type {
+        BLOCK,
+        ROLLBACK
+    }
+
+    private final Type type;
+    private final NeoGetBlock block;
+    private final long forkIndex;
+    private final List<Hash256> rolledBackBlocks;
+
+    private BlockStreamEvent(Type type, NeoGetBlock block, long forkIndex, List<Hash256> rolledBackBlocks) {
+        this.type = type;
+        this.block = block;
+        this.forkIndex = forkIndex;
+        this.rolledBackBlocks = rolledBackBlocks;
+    }
+
+    /**
+     * Creates an event for a block of the canonical chain.
+     *
+     * @param block the block.
+     * @return the event.
+     */
+    public static BlockStreamEvent block(NeoGetBlock block) {
+        return new BlockStreamEvent(Type.BLOCK, block, -1, Collections.emptyList());
+    }
+
+    /**
+     * Creates an event for the rollback of blocks.
+     *
+     * @param forkIndex        the index of the last block that is still part of the canonical chain.
+     * @param rolledBackBlocks the hashes of the rolled back blocks, starting with the most recent block.
+     * @return the event.
+     */
+    public static BlockStreamEvent rollback(long forkIndex, List<Hash256> rolledBackBlocks) {
+        return new BlockStreamEvent(Type.ROLLBACK, null, forkIndex, rolledBackBlocks);
+    }
+
+    /**
+     * @return the type of this event.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the block if this is a {@link Type#BLOCK} event. Null, otherwise.
+     */
+    public NeoGetBlock getBlock() {
+        return block;
+    }
+
+    /**
+     * Gets the index of the last block that is still part of the canonical chain if this is a {@link Type#ROLLBACK}
+     * event. All blocks with a higher index were rolled back and are emitted again.
+     *
+     * @return the index of the last block before the fork. -1 if this is a {@link Type#BLOCK} event.
+     */
+    public long getForkIndex() {
+        return forkIndex;
+    }
+
+    /**
+     * Gets the hashes of the rolled back blocks if this is a {@link Type#ROLLBACK} event. The most recent block comes
+     * first, i.e., the block at index {@code forkIndex + rolledBackBlocks.size()}. The last block is the block at
+     * index {@code forkIndex + 1}.
+     *
+     * @return the hashes of the rolled back blocks. Empty if this is a {@link Type#BLOCK} event.
+     */
+    public List<Hash256> getRolledBackBlocks() {
+        return rolledBackBlocks;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlockStreamEvent)) {
+            return false;
+        }
+        BlockStreamEvent that = (BlockStreamEvent) o;
+        return getType() == that.getType() &&
+                getForkIndex() == that.getForkIndex() &&
+                Objects.equals(getBlock(), that.getBlock()) &&
+                Objects.equals(getRolledBackBlocks(), that.getRolledBackBlocks());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getType(), getBlock(), getForkIndex(), getRolledBackBlocks());
+    }
+
+    @Override
+    public String toString() {
+        return "BlockStreamEvent{" +
+                "type=" + type +
+                ", block=" + block +
+                ", forkIndex=" + forkIndex +
+                ", rolledBackBlocks=" + rolledBackBlocks +
+                '}';
+    }
+
+}
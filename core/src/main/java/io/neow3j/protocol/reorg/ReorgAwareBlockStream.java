@@ -0,0 +1,162 @@
+package io.neow3j.protocol.reorg;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.types.Hash256;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A block stream that detects when previously emitted blocks are no longer part of the chain of the Neo node.
+ * <p>
+ * Blocks in Neo are final once they are persisted. However, the blocks seen by a client can still change, e.g., if the
+ * client fails over to a different Neo node or if the Neo node was resynchronized. This stream keeps the hashes of the
+ * most recently emitted blocks. If a block does not follow the last emitted block, the stream walks back the chain of
+ * the Neo node until it finds the last block that both chains have in common. It then emits a
+ * {@link BlockStreamEvent.Type#ROLLBACK} event for the blocks after that block and re-emits the blocks of the Neo
+ * node's chain. Downstream caches and indexes can thus invalidate just the rolled back blocks.
+ * <p>
+ * A block that was already emitted, i.e., whose hash matches the kept hash at its index, is dropped. Block streams
+ * deliver such duplicates, e.g., after resubscribing from an earlier block.
+ * <p>
+ * If no common block is found within the kept hashes, the stream fails with an {@link IllegalStateException}.
+ */
+public class ReorgAwareBlockStream {
+
+    private final Neow3j neow3j;
+    private final BigInteger startBlock;
+    private final boolean fullTransactionObjects;
+    private final int maxRollbackDepth;
+
+    /**
+     * Creates a block stream.
+     *
+     * @param neow3j                 the {@code Neow3j} instance.
+     * @param startBlock             the block index at which to start.
+     * @param fullTransactionObjects if the full transactions objects should be included in the blocks.
+     * @param maxRollbackDepth       the maximum number of blocks that can be rolled back. The hashes of this many
+     *                               blocks plus the last common block are kept.
+     */
+    public ReorgAwareBlockStream(Neow3j neow3j, BigInteger startBlock, boolean fullTransactionObjects,
+            int maxRollbackDepth) {
+        if (maxRollbackDepth < 1) {
+            throw new IllegalArgumentException("The maximum rollback depth must be at least 1.");
+        }
+        this.neow3j = neow3j;
+        this.startBlock = startBlock;
+        this.fullTransactionObjects = fullTransactionObjects;
+        this.maxRollbackDepth = maxRollbackDepth;
+    }
+
+    /**
+     * Creates an observable that emits the blocks starting at the start block up to the most recent block and
+     * continues emitting blocks that are newly created on the Neo blockchain. Rollbacks are emitted before the blocks
+     * of the new chain.
+     * <p>
+     * The hashes of recent blocks are kept per subscription.
+     *
+     * @return the observable of the block stream events.
+     */
+    public Observable<BlockStreamEvent> observable() {
+        return Observable.defer(() -> {
+            ChainTracker chainTracker = new ChainTracker();
+            return neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(startBlock, fullTransactionObjects)
+                    .concatMapIterable(chainTracker::onBlock);
+        });
+    }
+
+    // Keeps the hashes of a contiguous range of recent blocks. Blocks are processed sequentially, so no
+    // synchronization is necessary.
+    private class ChainTracker {
+
+        private final Deque<Hash256> recentBlocks = new ArrayDeque<>();
+        private long lastIndex;
+
+        private List<BlockStreamEvent> onBlock(NeoGetBlock neoGetBlock) throws IOException {
+            NeoBlock block = neoGetBlock.getBlock();
+            if (recentBlocks.isEmpty() || (block.getIndex() == lastIndex + 1 &&
+                    recentBlocks.peekLast().equals(block.getPrevBlockHash()))) {
+                append(block);
+                return Collections.singletonList(BlockStreamEvent.block(neoGetBlock));
+            }
+            if (block.getHash().equals(hashAt(block.getIndex()))) {
+                return Collections.emptyList();
+            }
+            return reorganize(neoGetBlock);
+        }
+
+        // Returns the kept hash of the block at the given index or null if it is not kept.
+        private Hash256 hashAt(long index) {
+            long distance = lastIndex - index;
+            if (distance < 0 || distance >= recentBlocks.size()) {
+                return null;
+            }
+            Iterator<Hash256> iterator = recentBlocks.descendingIterator();
+            for (long i = 0; i < distance; i++) {
+                iterator.next();
+            }
+            return iterator.next();
+        }
+
+        private List<BlockStreamEvent> reorganize(NeoGetBlock neoGetBlock) throws IOException {
+            NeoBlock block = neoGetBlock.getBlock();
+            // The blocks of the new chain that follow the common block, starting with the most recent block.
+            List<NeoGetBlock> newBlocks = new ArrayList<>();
+            newBlocks.add(neoGetBlock);
+            List<Hash256> rolledBackBlocks = new ArrayList<>();
+
+            long parentIndex = block.getIndex() - 1;
+            Hash256 parentHash = block.getPrevBlockHash();
+            while (lastIndex != parentIndex || !recentBlocks.peekLast().equals(parentHash)) {
+                boolean rollBack = lastIndex >= parentIndex;
+                boolean fetchParent = lastIndex <= parentIndex;
+                if (rollBack) {
+                    rolledBackBlocks.add(recentBlocks.pollLast());
+                    lastIndex--;
+                    if (recentBlocks.isEmpty()) {
+                        throw new IllegalStateException(format("Block %d does not follow any recent block. The " +
+                                "rollback is deeper than %d blocks.", block.getIndex(), maxRollbackDepth));
+                    }
+                }
+                if (fetchParent) {
+                    NeoGetBlock parent = neow3j.getBlock(BigInteger.valueOf(parentIndex), fullTransactionObjects)
+                            .send();
+                    newBlocks.add(parent);
+                    parentHash = parent.getBlock().getPrevBlockHash();
+                    parentIndex--;
+                }
+            }
+
+            List<BlockStreamEvent> events = new ArrayList<>();
+            if (!rolledBackBlocks.isEmpty()) {
+                events.add(BlockStreamEvent.rollback(lastIndex, rolledBackBlocks));
+            }
+            for (int i = newBlocks.size() - 1; i >= 0; i--) {
+                append(newBlocks.get(i).getBlock());
+                events.add(BlockStreamEvent.block(newBlocks.get(i)));
+            }
+            return events;
+        }
+
+        private void append(NeoBlock block) {
+            recentBlocks.addLast(block.getHash());
+            lastIndex = block.getIndex();
+            if (recentBlocks.size() > maxRollbackDepth + 1) {
+                recentBlocks.removeFirst();
+            }
+        }
+
+    }
+
+}
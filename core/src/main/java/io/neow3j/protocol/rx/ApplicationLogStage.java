@@ -0,0 +1,188 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.types.Hash256;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Single;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pipeline stage that adds the application logs of their transactions to the blocks of a block stream.
+ * <p>
+ * The transactions of the blocks are split into batches of up to {@code batchSize} transactions. The application logs
+ * of a batch are requested in one JSON-RPC batch request. Up to {@code fetchWindow} batches are requested
+ * concurrently, also across blocks. The blocks are still emitted in the order of the block stream. If the
+ * {@link Neow3j} instance does not support batch requests, the application logs of a batch are requested separately
+ * and concurrently.
+ * <p>
+ * Use it with {@link Observable#compose(ObservableTransformer)}. The blocks must contain the full transaction
+ * objects. If the Neo node responds with an error for one of the application logs, e.g., because the application logs
+ * plugin is not installed, the stream fails with a {@link RpcResponseErrorException}.
+ */
+public class ApplicationLogStage implements ObservableTransformer<NeoGetBlock, BlockWithApplicationLogs> {
+
+    private final Neow3j neow3j;
+    private final int fetchWindow;
+    private final int batchSize;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    // Set when the Neow3j instance turned out not to support batch requests.
+    private volatile boolean batchUnsupported;
+
+    ApplicationLogStage(Neow3j neow3j, int fetchWindow, int batchSize) {
+        if (fetchWindow < 1) {
+            throw new IllegalArgumentException("The fetch window must be at least 1.");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1.");
+        }
+        this.neow3j = neow3j;
+        this.fetchWindow = fetchWindow;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the number of blocks that this stage received but did not emit yet, i.e., blocks whose application logs
+     * are being requested or that wait for a previous block.
+     * <p>
+     * A queue depth that keeps growing indicates that the Neo node cannot deliver the application logs as fast as
+     * blocks arrive.
+     *
+     * @return the number of blocks in this stage.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public ObservableSource<BlockWithApplicationLogs> apply(Observable<NeoGetBlock> blocks) {
+        return Observable.defer(() -> {
+            // The application logs of the block whose batches are currently emitted.
+            List<NeoApplicationLog> blockLogs = new ArrayList<>();
+            // The blocks of this subscription that are counted in the queue depth.
+            AtomicInteger pendingBlocks = new AtomicInteger();
+            return blocks
+                    .doOnNext(block -> {
+                        pendingBlocks.incrementAndGet();
+                        queueDepth.incrementAndGet();
+                    })
+                    .concatMapIterable(this::toBatches)
+                    .concatMapEager(batch -> fetch(batch).toObservable(), fetchWindow, 1)
+                    .concatMapMaybe(batch -> {
+                        blockLogs.addAll(batch.logs);
+                        if (!batch.last) {
+                            return Maybe.empty();
+                        }
+                        BlockWithApplicationLogs result = new BlockWithApplicationLogs(batch.block,
+                                new ArrayList<>(blockLogs));
+                        blockLogs.clear();
+                        pendingBlocks.decrementAndGet();
+                        queueDepth.decrementAndGet();
+                        return Maybe.just(result);
+                    })
+                    .doFinally(() -> queueDepth.addAndGet(-pendingBlocks.getAndSet(0)));
+        });
+    }
+
+    private List<Batch> toBatches(NeoGetBlock neoGetBlock) {
+        List<Hash256> txHashes = new ArrayList<>();
+        if (neoGetBlock.getBlock().getTransactions() != null) {
+            neoGetBlock.getBlock().getTransactions().forEach(tx -> txHashes.add(tx.getHash()));
+        }
+        if (txHashes.isEmpty()) {
+            return Collections.singletonList(new Batch(neoGetBlock, Collections.emptyList(), true));
+        }
+        List<Batch> batches = new ArrayList<>();
+        for (int i = 0; i < txHashes.size(); i += batchSize) {
+            int end = Math.min(i + batchSize, txHashes.size());
+            batches.add(new Batch(neoGetBlock, txHashes.subList(i, end), end == txHashes.size()));
+        }
+        return batches;
+    }
+
+    private Single<Batch> fetch(Batch batch) {
+        if (batch.txHashes.isEmpty()) {
+            return Single.just(batch);
+        }
+        if (batch.txHashes.size() == 1) {
+            return JsonRpc2_0Rx.fromFuture(() -> neow3j.getApplicationLog(batch.txHashes.get(0)).sendAsync())
+                    .map(response -> batch.withLogs(Collections.singletonList(applicationLogOf(response))));
+        }
+        if (batchUnsupported) {
+            return fetchSeparately(batch);
+        }
+        BatchRequest batchRequest;
+        try {
+            batchRequest = neow3j.newBatch();
+        } catch (UnsupportedOperationException e) {
+            batchUnsupported = true;
+            return fetchSeparately(batch);
+        }
+        batch.txHashes.forEach(txHash -> batchRequest.add(neow3j.getApplicationLog(txHash)));
+        return JsonRpc2_0Rx.fromFuture(batchRequest::sendAsync).map(batchResponse -> {
+            List<NeoApplicationLog> logs = new ArrayList<>(batchResponse.size());
+            for (Response<?> response : batchResponse.getResponses()) {
+                logs.add(applicationLogOf((NeoGetApplicationLog) response));
+            }
+            return batch.withLogs(logs);
+        });
+    }
+
+    private Single<Batch> fetchSeparately(Batch batch) {
+        return JsonRpc2_0Rx.fromFuture(() -> {
+            List<CompletableFuture<NeoGetApplicationLog>> futures = new ArrayList<>(batch.txHashes.size());
+            batch.txHashes.forEach(txHash -> futures.add(neow3j.getApplicationLog(txHash).sendAsync()));
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+                List<NeoApplicationLog> logs = new ArrayList<>(futures.size());
+                futures.forEach(future -> logs.add(applicationLogOf(future.join())));
+                return batch.withLogs(logs);
+            });
+        });
+    }
+
+    private static NeoApplicationLog applicationLogOf(NeoGetApplicationLog response) {
+        if (response.hasError()) {
+            throw new RpcResponseErrorException(response.getError());
+        }
+        return response.getApplicationLog();
+    }
+
+    private static class Batch {
+
+        private final NeoGetBlock block;
+        private final List<Hash256> txHashes;
+        private final boolean last;
+        private final List<NeoApplicationLog> logs;
+
+        Batch(NeoGetBlock block, List<Hash256> txHashes, boolean last) {
+            this(block, txHashes, last, Collections.emptyList());
+        }
+
+        private Batch(NeoGetBlock block, List<Hash256> txHashes, boolean last, List<NeoApplicationLog> logs) {
+            this.block = block;
+            this.txHashes = txHashes;
+            this.last = last;
+            this.logs = logs;
+        }
+
+        Batch withLogs(List<NeoApplicationLog> logs) {
+            return new Batch(block, txHashes, last, logs);
+        }
+
+    }
+
+}
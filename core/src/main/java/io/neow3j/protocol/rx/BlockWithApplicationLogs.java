@@ -0,0 +1,62 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A block together with the application logs of its transactions.
+ */
+public class BlockWithApplicationLogs {
+
+    private final NeoGetBlock block;
+    private final List<NeoApplicationLog> applicationLogs;
+
+    public BlockWithApplicationLogs(NeoGetBlock block, List<NeoApplicationLog> applicationLogs) {
+        this.block = block;
+        this.applicationLogs = applicationLogs;
+    }
+
+    /**
+     * @return the block.
+     */
+    public NeoGetBlock getBlock() {
+        return block;
+    }
+
+    /**
+     * @return the application logs in the order of the block's transactions.
+     */
+    public List<NeoApplicationLog> getApplicationLogs() {
+        return applicationLogs;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlockWithApplicationLogs)) {
+            return false;
+        }
+        BlockWithApplicationLogs that = (BlockWithApplicationLogs) o;
+        return Objects.equals(getBlock(), that.getBlock()) &&
+                Objects.equals(getApplicationLogs(), that.getApplicationLogs());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getBlock(), getApplicationLogs());
+    }
+
+    @Override
+    public String toString() {
+        return "BlockWithApplicationLogs{" +
+                "block=" + block +
+                ", applicationLogs=" + applicationLogs +
+                '}';
+    }
+
+}
@@ -1,16 +1,41 @@
 package io.neow3j.protocol.rx;
 
 import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.core.polling.BlockIndexPolling;
+import io.neow3j.protocol.core.polling.MemPoolChange;
+import io.neow3j.protocol.core.polling.MemPoolPolling;
+import io.neow3j.protocol.core.polling.StateRootIndexPolling;
+import io.neow3j.protocol.core.response.ContractManifest.ContractABI;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoBlock;
 import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetStateRoot;
+import io.neow3j.protocol.core.response.NeoGetTransaction;
 import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.notifications.ContractEvent;
+import io.neow3j.protocol.notifications.DecodedContractEvent;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.utils.Flowables;
 import io.neow3j.utils.Observables;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import io.reactivex.schedulers.Schedulers;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -18,25 +43,63 @@ import java.util.concurrent.ScheduledExecutorService;
  */
 public class JsonRpc2_0Rx {
 
+    private static final String ON_PERSIST_TRIGGER = "OnPersist";
+    private static final String POST_PERSIST_TRIGGER = "PostPersist";
+
     private final Neow3j neow3j;
+    private final Neow3jService neow3jService;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
 
     public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService) {
+        this(neow3j, null, scheduledExecutorService);
+    }
+
+    /**
+     * Creates a reactive API for the given {@code Neow3j} instance.
+     * <p>
+     * If the given service supports subscriptions, new blocks are pushed by the Neo node instead of being polled.
+     *
+     * @param neow3j                   the {@code Neow3j} instance.
+     * @param neow3jService            the service used by the {@code Neow3j} instance.
+     * @param scheduledExecutorService the executor service used for polling and for running observables
+     *                                 asynchronously.
+     */
+    public JsonRpc2_0Rx(Neow3j neow3j, Neow3jService neow3jService,
+            ScheduledExecutorService scheduledExecutorService) {
         this.neow3j = neow3j;
+        this.neow3jService = neow3jService;
         this.scheduledExecutorService = scheduledExecutorService;
         this.scheduler = Schedulers.from(scheduledExecutorService);
     }
 
+    private boolean supportsSubscriptions() {
+        return neow3jService != null && neow3jService.supportsSubscriptions();
+    }
+
     /**
      * Creates an observable that emits new block index as they are produced by the Neo blockchain. The observable
      * polls the Neo node in the given {@code pollingInterval} to check for the latest block index and emits all
      * indexes since the last time it polled.
+     * <p>
+     * If adaptive polling is enabled, the polling interval is the maximum delay between two polls. See
+     * {@link io.neow3j.protocol.Neow3jConfig#setAdaptivePolling(boolean)}.
+     * <p>
+     * If the service supports subscriptions, the block indexes are pushed by the Neo node and the polling interval
+     * is ignored.
      *
      * @param pollingInterval The polling interval in milliseconds.
      * @return the block index observable.
      */
     public Observable<BigInteger> blockIndexObservable(long pollingInterval) {
+        if (supportsSubscriptions()) {
+            return neow3j.subscribeToBlockAdded()
+                    .map(notification -> BigInteger.valueOf(notification.getParams().getResult().getIndex()));
+        }
+        if (neow3j.isAdaptivePolling()) {
+            return Observable.create(subscriber -> new BlockIndexPolling().runAdaptive(neow3j, subscriber,
+                    scheduledExecutorService, neow3j.getBlockInterval(), pollingInterval));
+        }
         return Observable.create(subscriber ->
                 new BlockIndexPolling().run(neow3j, subscriber, scheduledExecutorService, pollingInterval)
         );
@@ -46,6 +109,9 @@ public class JsonRpc2_0Rx {
      * Creates an observable that emits new blocks as they are produced by the Neo blockchain. The observable
      * polls the Neo node in the given {@code pollingInterval} to check for the latest block and emits all
      * blocks since the last time it polled.
+     * <p>
+     * If the underlying service supports subscriptions, the blocks are pushed by the Neo node instead. Pushed blocks
+     * always contain their transactions, which are removed if {@code fullTransactionObjects} is false.
      *
      * @param fullTransactionObjects Whether to get block information with all transaction objects or just the block
      *                               header.
@@ -53,6 +119,15 @@ public class JsonRpc2_0Rx {
      * @return the block index observable.
      */
     public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects, long pollingInterval) {
+        if (supportsSubscriptions()) {
+            // Pushed blocks already contain their transactions. Thus, no additional request is necessary.
+            return neow3j.subscribeToBlockAdded().map(notification -> {
+                NeoGetBlock neoGetBlock = new NeoGetBlock();
+                NeoBlock block = notification.getParams().getResult();
+                neoGetBlock.setResult(fullTransactionObjects ? block : withoutTransactions(block));
+                return neoGetBlock;
+            });
+        }
         return blockIndexObservable(pollingInterval)
                 .flatMap(blockIndex -> neow3j.getBlock(blockIndex, fullTransactionObjects).observable());
     }
@@ -74,6 +149,77 @@ public class JsonRpc2_0Rx {
                 .subscribeOn(scheduler);
     }
 
+    /**
+     * Creates an observable that emits blocks starting at {@code startBlock} up to {@code endBlock} and then stops.
+     * <p>
+     * Up to {@code fetchWindow} blocks are requested from the Neo node concurrently. The blocks are still emitted in
+     * order. At most {@code fetchWindow} blocks are fetched ahead of the block the subscriber is processing. Thus, a
+     * slow subscriber slows down the fetching instead of letting blocks pile up in memory.
+     *
+     * @param startBlock             The block index at which to start.
+     * @param endBlock               The block index at which to stop.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @param ascending              If the blocks should be emitted in ascending or descending order.
+     * @param fetchWindow            The maximum number of blocks that are requested concurrently.
+     * @return the block observable.
+     */
+    public Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int fetchWindow) {
+        return replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects, ascending, fetchWindow)
+                .toObservable();
+    }
+
+    /**
+     * Creates a flowable that emits blocks starting at {@code startBlock} up to {@code endBlock} and then stops.
+     * <p>
+     * Blocks are only requested from the Neo node as the subscriber requests them. Up to {@code fetchWindow} blocks
+     * are requested concurrently and in advance. Thus, no more than {@code fetchWindow} blocks are held in memory,
+     * no matter how far the subscriber falls behind.
+     *
+     * @param startBlock             The block index at which to start.
+     * @param endBlock               The block index at which to stop.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @param ascending              If the blocks should be emitted in ascending or descending order.
+     * @param fetchWindow            The maximum number of blocks that are requested concurrently.
+     * @return the block flowable.
+     */
+    public Flowable<NeoGetBlock> replayBlocksFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int fetchWindow) {
+
+        if (fetchWindow < 1) {
+            throw new IllegalArgumentException("The fetch window must be at least 1.");
+        }
+        // Subscribes to up to fetchWindow block requests at once, but emits their blocks in the order of the range.
+        return Flowables.range(startBlock, endBlock, ascending)
+                .concatMapEager(i -> fetchBlock(i, fullTransactionObjects), fetchWindow, 1);
+    }
+
+    private Flowable<NeoGetBlock> fetchBlock(BigInteger blockIndex, boolean fullTransactionObjects) {
+        return sendAsync(neow3j.getBlock(blockIndex, fullTransactionObjects)).toFlowable();
+    }
+
+    // Sends the request asynchronously, so that concurrent requests do not occupy a thread each.
+    private <T extends Response<?>> Single<T> sendAsync(Request<?, T> request) {
+        return fromFuture(request::sendAsync);
+    }
+
+    // Creates a single that starts the future when subscribed to and cancels it when disposed.
+    static <T> Single<T> fromFuture(Callable<CompletableFuture<T>> futureSupplier) {
+        return Single.create(emitter -> {
+            CompletableFuture<T> future = futureSupplier.call();
+            emitter.setCancellable(() -> future.cancel(false));
+            future.whenComplete((response, throwable) -> {
+                if (throwable == null) {
+                    emitter.onSuccess(response);
+                } else if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                    emitter.tryOnError(throwable.getCause());
+                } else {
+                    emitter.tryOnError(throwable);
+                }
+            });
+        });
+    }
+
     private Observable<NeoGetBlock> replayBlocksObservableSync(BigInteger startBlockNumber, BigInteger endBlockNumber,
             boolean fullTransactionObjects, boolean ascending) {
 
@@ -132,6 +278,73 @@ public class JsonRpc2_0Rx {
                 .flatMapIterable(b -> b.getBlock().getTransactions());
     }
 
+    /**
+     * Creates a flowable that emits blocks starting at {@code startBlockIdx} up to the most recent block and
+     * continues emitting according to {@code onCaughtUpFlowable} after that.
+     * <p>
+     * Blocks are only requested from the Neo node as the subscriber requests them. See
+     * {@link #replayBlocksFlowable(BigInteger, BigInteger, boolean, boolean, int)}.
+     *
+     * @param startBlockIdx          The block index at which to start catching up.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @param fetchWindow            The maximum number of blocks that are requested concurrently.
+     * @param onCaughtUpFlowable     The flowable to use after it caught up.
+     * @return the block flowable.
+     */
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(BigInteger startBlockIdx,
+            boolean fullTransactionObjects, int fetchWindow, Flowable<NeoGetBlock> onCaughtUpFlowable) {
+
+        if (fetchWindow < 1) {
+            throw new IllegalArgumentException("The fetch window must be at least 1.");
+        }
+        return catchUpToLatestBlockFlowableSync(startBlockIdx, fullTransactionObjects, fetchWindow,
+                onCaughtUpFlowable)
+                // We use a scheduler to run this Flowable asynchronously
+                .subscribeOn(scheduler);
+    }
+
+    private Flowable<NeoGetBlock> catchUpToLatestBlockFlowableSync(BigInteger startBlockIdx,
+            boolean fullTransactionObjects, int fetchWindow, Flowable<NeoGetBlock> onCaughtUpFlowable) {
+
+        BigInteger latestBlockIdx;
+        try {
+            latestBlockIdx = getLatestBlockIdx();
+        } catch (IOException e) {
+            return Flowable.error(e);
+        }
+
+        if (startBlockIdx.compareTo(latestBlockIdx) > -1) {
+            return onCaughtUpFlowable;
+        } else {
+            return Flowable.concat(
+                    replayBlocksFlowable(startBlockIdx, latestBlockIdx, fullTransactionObjects, true, fetchWindow),
+                    Flowable.defer(() -> catchUpToLatestBlockFlowableSync(
+                            latestBlockIdx.add(BigInteger.ONE),
+                            fullTransactionObjects,
+                            fetchWindow,
+                            onCaughtUpFlowable))
+                            // The replayed blocks complete on the threads of the service. Fetching the latest
+                            // block index blocks, so it is moved back to the scheduler.
+                            .subscribeOn(scheduler));
+        }
+    }
+
+    /**
+     * Creates a flowable that emits the transactions of the blocks starting at {@code startBlock} up to the most
+     * recent block and then stops.
+     * <p>
+     * Blocks are only requested from the Neo node as the subscriber requests their transactions. See
+     * {@link #replayBlocksFlowable(BigInteger, BigInteger, boolean, boolean, int)}.
+     *
+     * @param startBlock  The block index at which to start catching up.
+     * @param fetchWindow The maximum number of blocks that are requested concurrently.
+     * @return the transaction flowable.
+     */
+    public Flowable<Transaction> catchUpToLatestTransactionFlowable(BigInteger startBlock, int fetchWindow) {
+        return catchUpToLatestBlockFlowable(startBlock, true, fetchWindow, Flowable.empty())
+                .flatMapIterable(b -> b.getBlock().getTransactions(), 1);
+    }
+
     /**
      * Creates an observable that emits blocks starting at {@code startBlockNumber} up to the most recent block and
      * continues emitting blocks that are newly created on the Neo blockchain. The new blocks are pulled every
@@ -152,6 +365,168 @@ public class JsonRpc2_0Rx {
                 blockObservable(fullTransactionObjects, pollingInterval));
     }
 
+    /**
+     * Creates an observable that emits the validated state roots of the Neo node as they advance. The first state
+     * root is the latest validated state root at the time of subscribing. After that, every newly validated state
+     * root is emitted in order.
+     * <p>
+     * The observable polls the index of the latest validated state root in the given {@code pollingInterval}. If
+     * adaptive polling is enabled, it polls when the next state root is expected and the polling interval is the
+     * maximum delay between two polls. See {@link io.neow3j.protocol.Neow3jConfig#setAdaptivePolling(boolean)}.
+     * <p>
+     * Up to {@code fetchWindow} state roots are requested concurrently and ahead of the subscriber.
+     *
+     * @param fetchWindow     The maximum number of state roots that are requested concurrently.
+     * @param pollingInterval The polling interval in milliseconds.
+     * @return the state root observable.
+     */
+    public Observable<NeoGetStateRoot> stateRootObservable(int fetchWindow, long pollingInterval) {
+        if (fetchWindow < 1) {
+            throw new IllegalArgumentException("The fetch window must be at least 1.");
+        }
+        Observable<Long> rootIndexes;
+        if (neow3j.isAdaptivePolling()) {
+            rootIndexes = Observable.create(subscriber -> new StateRootIndexPolling().runAdaptive(neow3j,
+                    subscriber, scheduledExecutorService, neow3j.getBlockInterval(), pollingInterval));
+        } else {
+            rootIndexes = Observable.create(subscriber -> new StateRootIndexPolling().run(neow3j, subscriber,
+                    scheduledExecutorService, pollingInterval));
+        }
+        return rootIndexes.concatMapEager(i -> sendAsync(neow3j.getStateRoot(i)).toObservable(), fetchWindow, 1);
+    }
+
+    /**
+     * Creates a pipeline stage that adds the application logs of their transactions to the blocks of a block stream.
+     * <p>
+     * The application logs are requested in JSON-RPC batches of up to {@code batchSize} transactions. Up to {@code
+     * fetchWindow} batches are requested concurrently. The blocks are emitted in the order in which they were
+     * received.
+     *
+     * @param fetchWindow The maximum number of batches that are requested concurrently.
+     * @param batchSize   The maximum number of application logs per batch. Use 1 to send single requests.
+     * @return the pipeline stage.
+     */
+    public ApplicationLogStage applicationLogStage(int fetchWindow, int batchSize) {
+        return new ApplicationLogStage(neow3j, fetchWindow, batchSize);
+    }
+
+    /**
+     * Creates an observable that emits the changes of the memory pool of the Neo node. The observable polls the
+     * verified and unverified transactions in the memory pool in the given {@code pollingInterval} and emits the
+     * transactions that were added and removed since the last poll. The first change contains the whole memory pool.
+     * <p>
+     * If {@code fullTransactionObjects} is true, the added transactions are requested concurrently. Up to {@code
+     * fetchWindow} transactions are requested at once.
+     *
+     * @param fullTransactionObjects If the added transactions should be requested.
+     * @param fetchWindow            The maximum number of transactions that are requested concurrently.
+     * @param pollingInterval        The polling interval in milliseconds.
+     * @return the memory pool change observable.
+     */
+    public Observable<MemPoolChange> memPoolObservable(boolean fullTransactionObjects, int fetchWindow,
+            long pollingInterval) {
+
+        if (fetchWindow < 1) {
+            throw new IllegalArgumentException("The fetch window must be at least 1.");
+        }
+        Observable<MemPoolChange> changes = Observable.create(subscriber ->
+                new MemPoolPolling().run(neow3j, subscriber, scheduledExecutorService, pollingInterval));
+        if (!fullTransactionObjects) {
+            return changes;
+        }
+        return changes.concatMap(change -> Observable.fromIterable(change.getAdded())
+                .concatMapEager(hash -> sendAsync(neow3j.getTransaction(hash)).toObservable(), fetchWindow, 1)
+                // The Neo node returns an error if the transaction left the memory pool and was not persisted.
+                .filter(response -> !response.hasError())
+                .map(NeoGetTransaction::getTransaction)
+                .toList()
+                .map(transactions -> new MemPoolChange(change.getHeight(), change.getAdded(), change.getRemoved(),
+                        transactions))
+                .toObservable());
+    }
+
+    /**
+     * Creates an observable that emits the events that are fired by the given contract in new blocks.
+     * <p>
+     * The state of each event is decoded according to the contract's ABI. See {@link DecodedContractEvent}.
+     * <p>
+     * If the service supports subscriptions, the events are pushed by the Neo node. Otherwise, new blocks are polled
+     * in the given {@code pollingInterval} and the application logs of a block and its transactions are requested
+     * concurrently. Up to {@code fetchWindow} application logs are requested at once. The events are emitted in the
+     * order in which they were fired.
+     *
+     * @param contractHash    The contract to receive events from.
+     * @param eventName       The name of the events to receive. If null, events with any name are received.
+     * @param fetchWindow     The maximum number of application logs that are requested concurrently.
+     * @param pollingInterval The polling interval in milliseconds.
+     * @return the contract event observable.
+     */
+    public Observable<DecodedContractEvent> contractEventObservable(Hash160 contractHash, String eventName,
+            int fetchWindow, long pollingInterval) {
+
+        if (fetchWindow < 1) {
+            throw new IllegalArgumentException("The fetch window must be at least 1.");
+        }
+        // The ABI is fetched once per subscription and is used to decode all events.
+        return sendAsync(neow3j.getContractState(contractHash)).flatMapObservable(response -> {
+            Map<String, ContractABI.ContractEvent> abiEvents = new HashMap<>();
+            response.getContractState().getManifest().getAbi().getEvents()
+                    .forEach(e -> abiEvents.put(e.getName(), e));
+
+            Observable<ContractEvent> events;
+            if (supportsSubscriptions()) {
+                events = neow3j.subscribeToContractEvents(contractHash, eventName)
+                        .map(notification -> notification.getParams().getResult());
+            } else {
+                events = blockObservable(true, pollingInterval)
+                        .concatMap(neoGetBlock -> contractEventsOfBlock(neoGetBlock.getBlock(), fetchWindow))
+                        .filter(e -> e.getContract().equals(contractHash)
+                                && (eventName == null || e.getEventName().equals(eventName)));
+            }
+            return events.map(e -> DecodedContractEvent.decode(e, abiEvents.get(e.getEventName())));
+        });
+    }
+
+    // Emits the events of the block in the order of execution, i.e., the events fired when the block was persisted,
+    // then the events of the transactions and then the events fired after the block was persisted.
+    private Observable<ContractEvent> contractEventsOfBlock(NeoBlock block, int fetchWindow) {
+        List<Hash256> containers = new ArrayList<>();
+        containers.add(block.getHash());
+        if (block.getTransactions() != null) {
+            block.getTransactions().forEach(tx -> containers.add(tx.getHash()));
+        }
+        return Observable.fromIterable(containers)
+                .concatMapEager(hash -> sendAsync(neow3j.getApplicationLog(hash)).toObservable(), fetchWindow, 1)
+                .toList()
+                .flatMapObservable(responses -> {
+                    List<ContractEvent> events = new ArrayList<>();
+                    NeoApplicationLog blockLog = responses.get(0).getApplicationLog();
+                    addEvents(events, block.getHash(), blockLog, ON_PERSIST_TRIGGER);
+                    for (int i = 1; i < responses.size(); i++) {
+                        addEvents(events, containers.get(i), responses.get(i).getApplicationLog(), null);
+                    }
+                    addEvents(events, block.getHash(), blockLog, POST_PERSIST_TRIGGER);
+                    return Observable.fromIterable(events);
+                });
+    }
+
+    private static void addEvents(List<ContractEvent> events, Hash256 container, NeoApplicationLog log,
+            String trigger) {
+
+        log.getExecutions().stream()
+                .filter(execution -> trigger == null || trigger.equals(execution.getTrigger()))
+                .flatMap(execution -> execution.getNotifications().stream())
+                .forEach(n -> events.add(new ContractEvent(container, n.getContract(), n.getEventName(),
+                        n.getState())));
+    }
+
+    private static NeoBlock withoutTransactions(NeoBlock block) {
+        return new NeoBlock(block.getHash(), block.getSize(), block.getVersion(), block.getPrevBlockHash(),
+                block.getMerkleRootHash(), block.getTime(), block.getIndex(), block.getPrimary(),
+                block.getNextConsensus(), block.getWitnesses(), null, block.getConfirmations(),
+                block.getNextBlockHash());
+    }
+
     private BigInteger getLatestBlockIdx() throws IOException {
         return neow3j.getBlockCount().send().getBlockCount().subtract(BigInteger.ONE);
     }
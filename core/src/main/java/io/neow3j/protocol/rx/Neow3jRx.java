@@ -1,8 +1,17 @@
 package io.neow3j.protocol.rx;
 
+import io.neow3j.protocol.core.polling.MemPoolChange;
 import io.neow3j.protocol.core.response.NeoBlock;
 import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetStateRoot;
 import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.notifications.BlockAddedNotification;
+import io.neow3j.protocol.notifications.ContractEventNotification;
+import io.neow3j.protocol.notifications.DecodedContractEvent;
+import io.neow3j.protocol.notifications.TransactionAddedNotification;
+import io.neow3j.protocol.notifications.TransactionExecutedNotification;
+import io.neow3j.types.Hash160;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.io.IOException;
@@ -45,6 +54,42 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * Create an Observable that emits all blocks from the blockchain contained within the requested range.
+     * <p>
+     * Up to {@code fetchWindow} blocks are requested concurrently, which speeds up replaying a large range of
+     * blocks considerably. The blocks are still emitted in order. A slow subscriber slows down the fetching, so that
+     * at most {@code fetchWindow} blocks are held in memory.
+     *
+     * @param startBlock             the block number to commence with.
+     * @param endBlock               the block number to finish with.
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise transaction hashes.
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise, in descending
+     *                               order.
+     * @param fetchWindow            the maximum number of blocks that are requested concurrently.
+     * @return an Observable to emit these blocks.
+     */
+    Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int fetchWindow);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the requested range.
+     * <p>
+     * In contrast to the Observable variants, blocks are only fetched as the subscriber requests them. Up to {@code
+     * fetchWindow} blocks are fetched concurrently and in advance. Thus, memory stays bounded no matter how far
+     * behind the subscriber is.
+     *
+     * @param startBlock             the block number to commence with.
+     * @param endBlock               the block number to finish with.
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise transaction hashes.
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise, in descending
+     *                               order.
+     * @param fetchWindow            the maximum number of blocks that are fetched concurrently.
+     * @return a Flowable to emit these blocks.
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int fetchWindow);
+
     /**
      * Create an Observable that emits all transactions from the blockchain starting with a provided block number.
      * Once it has replayed up to the most current block, the provided Observable is invoked.
@@ -73,6 +118,36 @@ public interface Neow3jRx {
      */
     Observable<NeoGetBlock> catchUpToLatestBlockObservable(BigInteger startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Create a Flowable that emits all blocks from the requested block number to the most current. Once it has
+     * replayed up to the most current block, the provided Flowable is invoked.
+     * <p>
+     * Blocks are only fetched as the subscriber requests them. See
+     * {@link #replayBlocksFlowable(BigInteger, BigInteger, boolean, boolean, int)}.
+     *
+     * @param startBlock             the block number we wish to request from.
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @param fetchWindow            the maximum number of blocks that are fetched concurrently.
+     * @param onCompleteFlowable     a subsequent Flowable that should be run once the latest block was caught up
+     *                               with.
+     * @return a Flowable to emit all requested blocks.
+     */
+    Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(BigInteger startBlock, boolean fullTransactionObjects,
+            int fetchWindow, Flowable<NeoGetBlock> onCompleteFlowable);
+
+    /**
+     * Create a Flowable that emits all transactions from the requested block number to the most current block.
+     * <p>
+     * Blocks are only fetched as the subscriber requests their transactions. See
+     * {@link #replayBlocksFlowable(BigInteger, BigInteger, boolean, boolean, int)}.
+     *
+     * @param startBlock  the block number we wish to request from.
+     * @param fetchWindow the maximum number of blocks that are fetched concurrently.
+     * @return a Flowable to emit the transactions of all requested blocks.
+     */
+    Flowable<Transaction> catchUpToLatestTransactionFlowable(BigInteger startBlock, int fetchWindow);
+
     /**
      * Creates an Observable that emits all blocks from the requested block number to the most current. Once it has
      * emitted the most current block, it starts emitting new blocks as they are created.
@@ -97,4 +172,106 @@ public interface Neow3jRx {
      */
     Observable<NeoGetBlock> subscribeToNewBlocksObservable(boolean fullTransactionObjects) throws IOException;
 
+    /**
+     * Creates an Observable that emits a notification for every block that is added to the blockchain.
+     * <p>
+     * The blocks are pushed by the Neo node. This requires a service that supports subscriptions, e.g., the
+     * {@link io.neow3j.protocol.websocket.WebSocketService}.
+     *
+     * @return an Observable that emits the new blocks.
+     */
+    Observable<BlockAddedNotification> subscribeToBlockAdded();
+
+    /**
+     * Creates an Observable that emits a notification for every transaction that is added to the memory pool of the
+     * Neo node.
+     * <p>
+     * This requires a service that supports subscriptions, e.g., the
+     * {@link io.neow3j.protocol.websocket.WebSocketService}.
+     *
+     * @return an Observable that emits the new transactions.
+     */
+    Observable<TransactionAddedNotification> subscribeToTransactionAdded();
+
+    /**
+     * Creates an Observable that emits a notification for every event that is fired by a contract during the
+     * execution of a transaction or block.
+     * <p>
+     * Only the events that match the given contract and event name are emitted, even if other contract event
+     * subscriptions are open on the same connection. This requires a service that supports subscriptions, e.g., the
+     * {@link io.neow3j.protocol.websocket.WebSocketService}.
+     *
+     * @param contractHash the contract to receive events from. If null, events from all contracts are received.
+     * @param eventName    the name of the event to receive. If null, events with any name are received.
+     * @return an Observable that emits the contract events.
+     */
+    Observable<ContractEventNotification> subscribeToContractEvents(Hash160 contractHash, String eventName);
+
+    /**
+     * Creates an Observable that emits the validated state roots as they advance, starting with the latest validated
+     * state root. Light clients can use it to pin their storage reads and proofs to the latest validated state root.
+     * <p>
+     * The state height is polled like new blocks, i.e., adaptively if
+     * {@link io.neow3j.protocol.Neow3jConfig#setAdaptivePolling(boolean)} is enabled.
+     *
+     * @param fetchWindow the maximum number of state roots that are requested concurrently.
+     * @return an Observable that emits the validated state roots in order.
+     */
+    Observable<NeoGetStateRoot> stateRootObservable(int fetchWindow);
+
+    /**
+     * Creates a pipeline stage that adds the application logs of their transactions to the blocks of a block stream,
+     * e.g., {@code catchUpToLatestBlockObservable(start, true).compose(applicationLogStage(8, 20))}.
+     * <p>
+     * The application logs are requested in JSON-RPC batches with bounded concurrency. The blocks are emitted in the
+     * order in which they were received. The stage's queue depth shows how many blocks wait for their application
+     * logs.
+     *
+     * @param fetchWindow the maximum number of batches that are requested concurrently.
+     * @param batchSize   the maximum number of application logs per batch.
+     * @return the pipeline stage.
+     */
+    ApplicationLogStage applicationLogStage(int fetchWindow, int batchSize);
+
+    /**
+     * Creates an Observable that emits the transactions that are added to and removed from the memory pool of the Neo
+     * node.
+     * <p>
+     * The memory pool is polled in the given interval, which is independent of the polling interval for new blocks.
+     * The first change contains the whole memory pool.
+     *
+     * @param fullTransactionObjects if the added transactions should be requested.
+     * @param fetchWindow            the maximum number of transactions that are requested concurrently.
+     * @param pollingInterval        the polling interval in milliseconds.
+     * @return an Observable that emits the memory pool changes.
+     */
+    Observable<MemPoolChange> memPoolObservable(boolean fullTransactionObjects, int fetchWindow,
+            long pollingInterval);
+
+    /**
+     * Creates an Observable that emits the events that are fired by the given contract in new blocks. The state of
+     * each event is decoded according to the contract's ABI.
+     * <p>
+     * If the service supports subscriptions, the events are pushed by the Neo node. Otherwise, new blocks are polled
+     * and the application logs of their transactions are requested concurrently. The events are emitted in the order
+     * in which they were fired.
+     *
+     * @param contractHash the contract to receive events from.
+     * @param eventName    the name of the events to receive. If null, events with any name are received.
+     * @param fetchWindow  the maximum number of application logs that are requested concurrently when polling.
+     * @return an Observable that emits the decoded contract events.
+     */
+    Observable<DecodedContractEvent> contractEventObservable(Hash160 contractHash, String eventName,
+            int fetchWindow);
+
+    /**
+     * Creates an Observable that emits a notification for every executed transaction or block.
+     * <p>
+     * This requires a service that supports subscriptions, e.g., the
+     * {@link io.neow3j.protocol.websocket.WebSocketService}.
+     *
+     * @return an Observable that emits the executions.
+     */
+    Observable<TransactionExecutedNotification> subscribeToTransactionExecuted();
+
 }
@@ -0,0 +1,30 @@
+package io.neow3j.protocol.websocket;
+
+import java.io.IOException;
+
+/**
+ * A listener used by {@link WebSocketClient} to propagate events of the underlying connection.
+ */
+public interface WebSocketListener {
+
+    /**
+     * Called when a new WebSocket message is received.
+     *
+     * @param message the message.
+     * @throws IOException if the message could not be processed.
+     */
+    void onMessage(String message) throws IOException;
+
+    /**
+     * Called when an error occurred on the WebSocket connection.
+     *
+     * @param e the error.
+     */
+    void onError(Exception e);
+
+    /**
+     * Called when the WebSocket connection was closed.
+     */
+    void onClose();
+
+}
@@ -0,0 +1,401 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoSubscribe;
+import io.neow3j.protocol.core.response.NeoUnsubscribe;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import io.reactivex.Observable;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+/**
+ * WebSocket implementation of the Service API.
+ * <p>
+ * All requests and subscriptions are multiplexed over a single WebSocket connection. Replies are matched to their
+ * requests by id, so any number of requests can be in flight at the same time.
+ * <p>
+ * Subscriptions follow the WebSocket extension of the Neo JSON-RPC API (e.g., as implemented by neo-go). A
+ * subscription is opened with the {@code subscribe} method and closed with {@code unsubscribe}. The supported events
+ * are {@code block_added}, {@code transaction_added}, {@code notification_from_execution} and
+ * {@code transaction_executed}. Because the Neo node does not tag events with the subscription they belong to, an
+ * event is emitted to all open subscriptions of the same event type.
+ * <p>
+ * {@link #connect()} has to be called before using the service.
+ */
+public class WebSocketService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
+    public static final String DEFAULT_URL = "ws://localhost:10332/ws";
+
+    // Timeout for JSON-RPC requests in seconds.
+    static final long REQUEST_TIMEOUT = 60;
+
+    // Sent by the Neo node if it had to drop events. The node closes all subscriptions of the connection afterwards.
+    private static final String EVENT_MISSED = "event_missed";
+
+    private final WebSocketClient webSocketClient;
+    private final ScheduledExecutorService executor;
+    private final ObjectMapper objectMapper;
+    private final boolean includeRawResponses;
+    private volatile boolean closed;
+
+    private final Map<Long, WebSocketRequest<?>> requestForId = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link WebSocketService} instance.
+     *
+     * @param serverUrl           the URL of the WebSocket endpoint of the Neo node (e.g., "ws://localhost:10332/ws").
+     * @param includeRawResponses whether to include raw responses on the {@link Response} object.
+     */
+    public WebSocketService(String serverUrl, boolean includeRawResponses) {
+        this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
+    }
+
+    /**
+     * Creates a {@link WebSocketService} instance.
+     *
+     * @param webSocketClient     the WebSocket client to use.
+     * @param includeRawResponses whether to include raw responses on the {@link Response} object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
+        this(webSocketClient, Async.defaultExecutorService(), includeRawResponses);
+    }
+
+    WebSocketService(WebSocketClient webSocketClient, ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this.webSocketClient = webSocketClient;
+        this.executor = executor;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
+        this.webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) throws IOException {
+                onWebSocketMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                log.error("Received error from a WebSocket connection", e);
+            }
+
+            @Override
+            public void onClose() {
+                onWebSocketClose();
+            }
+        });
+    }
+
+    private static URI parseURI(String serverUrl) {
+        try {
+            return new URI(serverUrl);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(format("Failed to parse URL: '%s'", serverUrl), e);
+        }
+    }
+
+    /**
+     * Connects to the WebSocket endpoint of the Neo node. Blocks until the connection is established.
+     *
+     * @throws ConnectException if the connection could not be established.
+     */
+    public void connect() throws ConnectException {
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException("Failed to connect to WebSocket");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting via WebSocket protocol");
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return waitFor(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> result = registerRequest(request.getId(), responseType);
+        try {
+            sendMessage(objectMapper.writeValueAsString(request));
+        } catch (IOException e) {
+            closeRequest(request.getId(), e);
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return waitFor(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(new BatchResponse(requests, new ArrayList<>()));
+        }
+
+        List<CompletableFuture<? extends Response<?>>> replies = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            replies.add(registerRequest(request.getId(), request.getResponseType()));
+        }
+        try {
+            sendMessage(objectMapper.writeValueAsString(requests));
+        } catch (IOException e) {
+            requests.forEach(r -> closeRequest(r.getId(), e));
+        }
+
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<Response<?>> responses = new ArrayList<>(replies.size());
+            for (CompletableFuture<? extends Response<?>> reply : replies) {
+                responses.add(reply.join());
+            }
+            return new BatchResponse(requests, responses);
+        });
+    }
+
+    private <T extends Response> CompletableFuture<T> registerRequest(long requestId, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        requestForId.put(requestId, new WebSocketRequest<>(result, responseType));
+
+        ScheduledFuture<?> timeout = executor.schedule(
+                () -> closeRequest(requestId,
+                        new IOException(format("Request with id %d timed out", requestId))),
+                REQUEST_TIMEOUT, TimeUnit.SECONDS);
+        result.whenComplete((reply, throwable) -> timeout.cancel(false));
+        return result;
+    }
+
+    private void sendMessage(String message) throws IOException {
+        try {
+            webSocketClient.send(message);
+        } catch (WebsocketNotConnectedException e) {
+            throw new IOException("WebSocket is not connected", e);
+        }
+    }
+
+    private void closeRequest(long requestId, Throwable e) {
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private <T> T waitFor(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted WebSocket request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    /**
+     * Subscribes to a stream of events.
+     * <p>
+     * Every subscriber of the returned observable opens its own subscription on the Neo node. Disposing the
+     * subscriber closes the subscription with the given unsubscribe method.
+     *
+     * @param request           the subscribe request. Its first parameter is the name of the event.
+     * @param unsubscribeMethod the method that will be called to unsubscribe from a stream of notifications.
+     * @param responseType      the class of incoming events objects in a stream.
+     * @param <T>               the type of incoming event objects.
+     * @return an Observable that emits incoming events.
+     */
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+
+        List<?> params = request.getParams();
+        String eventName = String.valueOf(params.get(0));
+        return Observable.create(emitter -> {
+            WebSocketSubscription<T> subscription =
+                    new WebSocketSubscription<>(emitter.serialize(), responseType, eventName);
+            emitter.setCancellable(() -> closeSubscription(subscription, unsubscribeMethod));
+
+            // A new request object is used for every subscriber, because the request id has to be unique.
+            Request<?, NeoSubscribe> subscribeRequest =
+                    new Request<>(request.getMethod(), params, this, NeoSubscribe.class);
+            sendAsync(subscribeRequest, NeoSubscribe.class).whenComplete((reply, throwable) -> {
+                if (throwable != null) {
+                    subscription.getEmitter().tryOnError(throwable);
+                } else if (reply.hasError()) {
+                    subscription.getEmitter().tryOnError(new RpcResponseErrorException(reply.getError()));
+                } else {
+                    String subscriptionId = reply.getSubscriptionId();
+                    subscription.setSubscriptionId(subscriptionId);
+                    subscriptionForId.put(subscriptionId, subscription);
+                    if (subscription.isClosed()) {
+                        // The subscriber was disposed before the Neo node confirmed the subscription.
+                        closeSubscription(subscription, unsubscribeMethod);
+                    }
+                }
+            });
+        });
+    }
+
+    private void closeSubscription(WebSocketSubscription<?> subscription, String unsubscribeMethod) {
+        subscription.close();
+        String subscriptionId = subscription.getSubscriptionId();
+        if (subscriptionId != null && subscriptionForId.remove(subscriptionId, subscription)) {
+            unsubscribe(subscriptionId, unsubscribeMethod);
+        }
+    }
+
+    private void unsubscribe(String subscriptionId, String unsubscribeMethod) {
+        Request<String, NeoUnsubscribe> request = new Request<>(unsubscribeMethod, singletonList(subscriptionId),
+                this, NeoUnsubscribe.class);
+        sendAsync(request, NeoUnsubscribe.class).whenComplete((reply, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to unsubscribe from subscription with id {}", subscriptionId, throwable);
+            } else if (reply.hasError()) {
+                log.error("Failed to unsubscribe from subscription with id {}: {}", subscriptionId,
+                        reply.getError());
+            }
+        });
+    }
+
+    void onWebSocketMessage(String message) throws IOException {
+        JsonNode messageJson = objectMapper.readTree(message);
+        if (messageJson.isArray()) {
+            for (JsonNode replyJson : messageJson) {
+                processReply(replyJson);
+            }
+        } else if (messageJson.has("id")) {
+            processReply(messageJson);
+        } else if (messageJson.has("method")) {
+            processEvent(messageJson);
+        } else {
+            throw new IOException("Unknown message type");
+        }
+    }
+
+    private void processReply(JsonNode replyJson) {
+        long replyId = replyJson.path("id").asLong();
+        WebSocketRequest<?> request = requestForId.remove(replyId);
+        if (request == null) {
+            log.warn("Received reply for unknown request id {}", replyId);
+            return;
+        }
+        completeRequest(request, replyJson);
+    }
+
+    private <T extends Response> void completeRequest(WebSocketRequest<T> request, JsonNode replyJson) {
+        try {
+            T reply = objectMapper.treeToValue(replyJson, request.getResponseType());
+            if (includeRawResponses) {
+                reply.setRawResponse(replyJson.toString());
+            }
+            request.getOnReply().complete(reply);
+        } catch (IOException e) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void processEvent(JsonNode eventJson) {
+        String eventName = eventJson.path("method").asText();
+        if (EVENT_MISSED.equals(eventName)) {
+            closeSubscriptions(new IOException("The Neo node missed events and closed all subscriptions."));
+            return;
+        }
+        for (WebSocketSubscription<?> subscription : subscriptionForId.values()) {
+            if (subscription.getEventName().equals(eventName)) {
+                emitEvent(subscription, eventJson);
+            }
+        }
+    }
+
+    private <T extends Notification<?>> void emitEvent(WebSocketSubscription<T> subscription, JsonNode eventJson) {
+        // The Neo node sends the event payload as the only element of the params array. It is converted to the
+        // params object of the notification, together with the id of the subscription it is emitted to.
+        ObjectNode notificationJson = objectMapper.createObjectNode();
+        notificationJson.set("jsonrpc", eventJson.get("jsonrpc"));
+        notificationJson.set("method", eventJson.get("method"));
+        ObjectNode params = notificationJson.putObject("params");
+        params.set("result", eventJson.path("params").get(0));
+        params.put("subscription", subscription.getSubscriptionId());
+        try {
+            subscription.getEmitter().onNext(objectMapper.treeToValue(notificationJson,
+                    subscription.getResponseType()));
+        } catch (IOException e) {
+            subscription.getEmitter().tryOnError(e);
+        }
+    }
+
+    private void closeSubscriptions(Throwable e) {
+        for (String subscriptionId : subscriptionForId.keySet()) {
+            WebSocketSubscription<?> subscription = subscriptionForId.remove(subscriptionId);
+            if (subscription != null) {
+                subscription.close();
+                if (e == null) {
+                    subscription.getEmitter().onComplete();
+                } else {
+                    subscription.getEmitter().tryOnError(e);
+                }
+            }
+        }
+    }
+
+    void onWebSocketClose() {
+        IOException e = new IOException("Connection was closed");
+        for (Long requestId : requestForId.keySet()) {
+            closeRequest(requestId, e);
+        }
+        // Only a connection closed by the user ends the subscriptions normally. Otherwise, subscribers have to be
+        // able to tell that they may have missed notifications.
+        closeSubscriptions(closed ? null : e);
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        webSocketClient.close();
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.neow3j.protocol.websocket;
+
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.ObservableEmitter;
+
+/**
+ * A subscription to a stream of events of a certain type that is open on a WebSocket connection.
+ *
+ * @param <T> the type of the notifications.
+ */
+class WebSocketSubscription<T extends Notification<?>> {
+
+    private final ObservableEmitter<T> emitter;
+    private final Class<T> responseType;
+    private final String eventName;
+    private volatile String subscriptionId;
+    private volatile boolean closed;
+
+    WebSocketSubscription(ObservableEmitter<T> emitter, Class<T> responseType, String eventName) {
+        this.emitter = emitter;
+        this.responseType = responseType;
+        this.eventName = eventName;
+    }
+
+    ObservableEmitter<T> getEmitter() {
+        return emitter;
+    }
+
+    Class<T> getResponseType() {
+        return responseType;
+    }
+
+    String getEventName() {
+        return eventName;
+    }
+
+    String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    void setSubscriptionId(String subscriptionId) {
+        this.subscriptionId = subscriptionId;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+}
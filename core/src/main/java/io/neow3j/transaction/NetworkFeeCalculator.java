@@ -0,0 +1,119 @@
+package io.neow3j.transaction;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.cache.ChainParameterCache;
+import io.neow3j.script.InteropService;
+import io.neow3j.script.OpCode;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.script.VerificationScript;
+import io.neow3j.serialization.IOUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.neow3j.constants.NeoConstants.SIGNATURE_SIZE;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+
+/**
+ * Calculates the network fee of transactions on the client instead of using the {@code calculatenetworkfee} RPC.
+ * <p>
+ * The network fee of a witness with a single-sig or multi-sig verification script only depends on the size of the
+ * transaction, the fee per byte, the execution fee factor and the prices of the opcodes and interop services executed
+ * during verification. This calculator computes it the same way as the Neo node does. The fee per byte and the
+ * execution fee factor are read from the {@link ChainParameterCache} of the {@link Neow3j} instance.
+ * <p>
+ * If a transaction has a witness with any other verification script, e.g., the witness of a contract signer whose
+ * {@code verify} method has to be executed, the network fee is calculated by the Neo node instead.
+ * <p>
+ * Use {@link Neow3jConfig#setLocalNetworkFeeCalculation(boolean)} to let {@link TransactionBuilder}s use the
+ * calculator of their {@link Neow3j} instance.
+ */
+public class NetworkFeeCalculator {
+
+    // The size of the invocation script part for one signature, i.e., PUSHDATA1, the signature length and the
+    // signature.
+    private static final int INVOCATION_SIZE_PER_SIGNATURE = 2 + SIGNATURE_SIZE;
+
+    private final Neow3j neow3j;
+    private final ChainParameterCache chainParameterCache;
+
+    /**
+     * Constructs a network fee calculator that reads the policy values from the chain parameter cache of the given
+     * {@link Neow3j} instance.
+     *
+     * @param neow3j the {@link Neow3j} instance to fetch the policy values and non-standard network fees with.
+     */
+    public NetworkFeeCalculator(Neow3j neow3j) {
+        this.neow3j = neow3j;
+        this.chainParameterCache = neow3j.getChainParameterCache();
+    }
+
+    /**
+     * Calculates the network fee of the given transaction.
+     * <p>
+     * The transaction must contain one witness per signer. Only the verification scripts of the witnesses are
+     * considered, the invocation scripts may be empty. The network fee is calculated locally if all verification
+     * scripts are single-sig or multi-sig scripts. Otherwise, it is calculated by the Neo node.
+     *
+     * @param tx the transaction.
+     * @return the network fee in fractions of GAS.
+     */
+    public CompletableFuture<Long> calculateNetworkFee(Transaction tx) {
+        if (!hasOnlySignatureWitnesses(tx)) {
+            return neow3j.calculateNetworkFee(toHexStringNoPrefix(tx.toArray())).sendAsync()
+                    .thenApply(response -> response.getNetworkFee().getNetworkFee().longValue());
+        }
+        return chainParameterCache.getFeePerByte().thenCombine(chainParameterCache.getExecFeeFactor(),
+                (feePerByte, execFeeFactor) -> calculateNetworkFee(tx, feePerByte, execFeeFactor));
+    }
+
+    /**
+     * Calculates the network fee of the given transaction with the given policy values.
+     * <p>
+     * The transaction must contain one witness per signer, and each witness must have a single-sig or multi-sig
+     * verification script. The invocation scripts may be empty.
+     *
+     * @param tx            the transaction.
+     * @param feePerByte    the fee per transaction byte.
+     * @param execFeeFactor the execution fee factor.
+     * @return the network fee in fractions of GAS.
+     * @throws IllegalArgumentException if a witness does not have a single-sig or multi-sig verification script.
+     */
+    public static long calculateNetworkFee(Transaction tx, long feePerByte, long execFeeFactor) {
+        long size = tx.toArrayWithoutWitnesses().length + IOUtils.getVarSize(tx.getWitnesses().size());
+        long verificationCost = 0;
+        for (Witness witness : tx.getWitnesses()) {
+            VerificationScript verificationScript = witness.getVerificationScript();
+            int invocationSize;
+            if (verificationScript.isSingleSigScript()) {
+                invocationSize = INVOCATION_SIZE_PER_SIGNATURE;
+                verificationCost += OpCode.PUSHDATA1.getPrice() * 2 + OpCode.SYSCALL.getPrice() +
+                        InteropService.SYSTEM_CRYPTO_CHECKSIG.getPrice();
+            } else if (verificationScript.isMultiSigScript()) {
+                int m = verificationScript.getSigningThreshold();
+                int n = verificationScript.getNrOfAccounts();
+                invocationSize = INVOCATION_SIZE_PER_SIGNATURE * m;
+                verificationCost += OpCode.PUSHDATA1.getPrice() * (m + n) + getPushIntegerPrice(m) +
+                        getPushIntegerPrice(n) + OpCode.SYSCALL.getPrice() +
+                        InteropService.SYSTEM_CRYPTO_CHECKSIG.getPrice() * n;
+            } else {
+                throw new IllegalArgumentException("The network fee can only be calculated locally for witnesses " +
+                        "with a single-sig or multi-sig verification script.");
+            }
+            size += IOUtils.getVarSize(invocationSize) + invocationSize + verificationScript.getSize();
+        }
+        return size * feePerByte + verificationCost * execFeeFactor;
+    }
+
+    private static boolean hasOnlySignatureWitnesses(Transaction tx) {
+        return tx.getWitnesses().stream()
+                .map(Witness::getVerificationScript)
+                .allMatch(v -> v.isSingleSigScript() || v.isMultiSigScript());
+    }
+
+    private static long getPushIntegerPrice(int value) {
+        byte opCode = new ScriptBuilder().pushInteger(value).toArray()[0];
+        return OpCode.get(opCode).getPrice();
+    }
+
+}
@@ -35,6 +35,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -317,8 +318,9 @@ public class Transaction extends NeoSerializable {
             throw new IllegalStateException("Cannot subscribe before transaction has been sent.");
         }
 
+        Hash256 txId = getTxId();
         Predicate<NeoGetBlock> pred = neoGetBlock -> neoGetBlock.getBlock().getTransactions() != null &&
-                neoGetBlock.getBlock().getTransactions().stream().anyMatch(tx -> tx.getHash().equals(getTxId()));
+                neoGetBlock.getBlock().getTransactions().stream().anyMatch(tx -> tx.getHash().equals(txId));
 
         return neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(blockCountWhenSent, true)
                 .takeUntil(pred)
@@ -326,6 +328,23 @@ public class Transaction extends NeoSerializable {
                 .map(neoGetBlock -> neoGetBlock.getBlock().getIndex());
     }
 
+    /**
+     * Tracks this transaction with the given tracker until it is included in a block. In contrast to
+     * {@link #track()}, many transactions can be tracked with a single block stream.
+     *
+     * @param tracker the transaction tracker.
+     * @return a future that completes with the index of the block that includes this transaction or completes
+     * exceptionally with a {@link io.neow3j.transaction.exceptions.TransactionExpiredException} if this transaction
+     * expired.
+     * @throws IllegalStateException if this transaction has not yet been sent.
+     */
+    public CompletableFuture<Long> track(TransactionTracker tracker) {
+        if (blockCountWhenSent == null) {
+            throw new IllegalStateException("Cannot subscribe before transaction has been sent.");
+        }
+        return tracker.track(this);
+    }
+
     /**
      * Gets the application log of this transaction.
      * <p>
@@ -20,6 +20,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -287,41 +289,98 @@ public class TransactionBuilder {
      *                                           sender cannot cover the transaction fees.
      */
     public Transaction getUnsignedTransaction() throws Throwable {
+        try {
+            return getUnsignedTransactionAsync().get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Builds the transaction without signing it.
+     * <p>
+     * The RPC calls required to build the transaction are made concurrently where they do not depend on each other.
+     * The block count (if no {@code validUntilBlock} is set), the committee (if the transaction has high priority),
+     * the system fee and the sender's GAS balance (if the fee coverage is checked) are requested at once. Only the
+     * network fee calculation waits for the block count, because it requires the final {@code validUntilBlock}.
+     * <p>
+     * If the build fails, the returned future is completed exceptionally with the same exception that
+     * {@link TransactionBuilder#getUnsignedTransaction()} would throw.
+     *
+     * @return the unsigned transaction.
+     */
+    public CompletableFuture<Transaction> getUnsignedTransactionAsync() {
         if (script == null || script.length == 0) {
-            throw new TransactionConfigurationException("Cannot build a transaction without a script.");
+            return failedFuture(new TransactionConfigurationException("Cannot build a transaction without a script."));
+        }
+        if (signers.isEmpty()) {
+            return failedFuture(new IllegalStateException("Cannot create a transaction without signers. At least one " +
+                    "signer with witness scope fee-only or higher is required."));
         }
 
+        CompletableFuture<Long> validUntilBlockFuture;
         if (validUntilBlock == null) {
             // If validUntilBlock is not set explicitly, then set it to the current max. It can
             // happen that the Neo node rejects the transaction when we set the validUntilBlock
             // to the max. To be sure that this does not happen, we decrement the max by 1.
-            this.validUntilBlock(fetchCurrentBlockCount() + neow3j.getMaxValidUntilBlockIncrement() - 1);
+            validUntilBlockFuture = fetchCurrentBlockCount().thenApply(blockCount -> {
+                validUntilBlock(blockCount + neow3j.getMaxValidUntilBlockIncrement() - 1);
+                return validUntilBlock;
+            });
+        } else {
+            validUntilBlockFuture = CompletableFuture.completedFuture(validUntilBlock);
         }
 
-        if (signers.isEmpty()) {
-            throw new IllegalStateException("Cannot create a transaction without signers. At least one signer with " +
-                    "witness scope fee-only or higher is required.");
+        CompletableFuture<Void> highPriorityCheck = CompletableFuture.completedFuture(null);
+        if (isHighPriority()) {
+            highPriorityCheck = fetchCommittee().thenAccept(committee -> {
+                if (!isAllowedForHighPriority(committee)) {
+                    throw new IllegalStateException("This transaction does not have a committee member as signer. " +
+                            "Only committee members can send transactions with high priority.");
+                }
+            });
         }
 
-        if (isHighPriority() && !isAllowedForHighPriority()) {
-            throw new IllegalStateException("This transaction does not have a committee member as signer. Only " +
-                    "committee members can send transactions with high priority.");
+        CompletableFuture<Long> systemFeeFuture = getSystemFeeForScript()
+                .thenApply(fee -> fee + additionalSystemFee);
+        CompletableFuture<Long> networkFeeFuture = validUntilBlockFuture.thenCompose(this::calcNetworkFee)
+                .thenApply(fee -> fee + additionalNetworkFee);
+        CompletableFuture<BigInteger> senderGasBalanceFuture = CompletableFuture.completedFuture(null);
+        if (supplier != null || consumer != null) {
+            senderGasBalanceFuture = getSenderGasBalance();
         }
 
-        long systemFee = getSystemFeeForScript() + additionalSystemFee;
-        long networkFee = calcNetworkFee() + additionalNetworkFee;
-        BigInteger fees = BigInteger.valueOf(systemFee + networkFee);
+        // Wait for all calls before evaluating them, so that failures are reported in the same order as when the
+        // calls were made one after the other.
+        CompletableFuture<Void> checkedHighPriority = highPriorityCheck;
+        CompletableFuture<BigInteger> senderGasBalance = senderGasBalanceFuture;
+        return CompletableFuture.allOf(validUntilBlockFuture, highPriorityCheck, systemFeeFuture, networkFeeFuture,
+                        senderGasBalance)
+                .handle((ignored, throwable) -> null)
+                .<Transaction>thenCompose(ignored -> {
+                    long blockNr = validUntilBlockFuture.join();
+                    checkedHighPriority.join();
+                    long systemFee = systemFeeFuture.join();
+                    long networkFee = networkFeeFuture.join();
+                    BigInteger fees = BigInteger.valueOf(systemFee + networkFee);
+
+                    if (supplier != null && fees.compareTo(senderGasBalance.join()) >= 0) {
+                        return failedFuture(supplier.get());
+                    } else if (consumer != null) {
+                        BigInteger gasBalance = senderGasBalance.join();
+                        if (fees.compareTo(gasBalance) > 0) {
+                            consumer.accept(fees, gasBalance);
+                        }
+                    }
+                    return CompletableFuture.completedFuture(new Transaction(neow3j, version, nonce, blockNr, signers,
+                            systemFee, networkFee, attributes, script, new ArrayList<>()));
+                });
+    }
 
-        if (supplier != null && !canSenderCoverFees(fees)) {
-            throw supplier.get();
-        } else if (consumer != null) {
-            BigInteger senderGasBalance = getSenderGasBalance();
-            if (fees.compareTo(senderGasBalance) > 0) {
-                consumer.accept(fees, senderGasBalance);
-            }
-        }
-        return new Transaction(neow3j, version, nonce, validUntilBlock, signers, systemFee, networkFee, attributes,
-                script, new ArrayList<>());
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
     }
 
     // Checks if this transaction builder contains a high priority attribute.
@@ -329,15 +388,22 @@ public class TransactionBuilder {
         return attributes.stream().anyMatch(t -> t.getType() == HIGH_PRIORITY);
     }
 
-    // Checks if this transaction contains a signer that is a committee member.
-    private boolean isAllowedForHighPriority() throws IOException {
-        List<Hash160> committee = neow3j.getCommittee().send()
-                .getCommittee()
+    private CompletableFuture<List<Hash160>> fetchCommittee() {
+        if (neow3j.isChainParameterCaching()) {
+            return neow3j.getChainParameterCache().getCommittee().thenApply(committee -> committee.stream()
+                    .map(key -> key.getEncoded(true))
+                    .map(Hash160::fromPublicKey)
+                    .collect(Collectors.toList()));
+        }
+        return neow3j.getCommittee().sendAsync().thenApply(response -> response.getCommittee()
                 .stream().map(ECPublicKey::new)
                 .map(key -> key.getEncoded(true))
                 .map(Hash160::fromPublicKey)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
 
+    // Checks if this transaction contains a signer that is a committee member.
+    private boolean isAllowedForHighPriority(List<Hash160> committee) {
         boolean signersContainCommitteeMember = signers.stream()
                 .map(Signer::getScriptHash).anyMatch(committee::contains);
         if (signersContainCommitteeMember) {
@@ -370,31 +436,37 @@ public class TransactionBuilder {
         return false;
     }
 
-    private long fetchCurrentBlockCount() throws IOException {
-        return neow3j.getBlockCount().send().getBlockCount().longValue();
+    private CompletableFuture<Long> fetchCurrentBlockCount() {
+        if (neow3j.isChainParameterCaching()) {
+            return neow3j.getChainParameterCache().getBlockCount();
+        }
+        return neow3j.getBlockCount().sendAsync().thenApply(response -> response.getBlockCount().longValue());
     }
 
     /*
      * Fetches the GAS consumed by this transaction. It does this by making an RPC call to the Neo node.
      * The returned GAS amount is in fractions of GAS (10^-8).
      */
-    private long getSystemFeeForScript() throws IOException {
+    private CompletableFuture<Long> getSystemFeeForScript() {
         // The signers are required for `invokescript` calls that will hit a CheckWitness check in the smart contract.
         Signer[] signers = this.signers.toArray(new Signer[0]);
         String script = toHexStringNoPrefix(this.script);
-        NeoInvokeScript response = neow3j.invokeScript(script, signers).send();
-        if (response.getResult().hasStateFault() && !neow3j.transmissionOnFaultIsAllowed()) {
-            throw new TransactionConfigurationException(
-                    "The vm exited due to the following exception: " + response.getResult().getException());
-        }
-        return new BigInteger(response.getInvocationResult().getGasConsumed()).longValue();
+        return neow3j.invokeScript(script, signers).sendAsync().thenApply(response -> {
+            if (response.getResult().hasStateFault() && !neow3j.transmissionOnFaultIsAllowed()) {
+                throw new TransactionConfigurationException(
+                        "The vm exited due to the following exception: " + response.getResult().getException());
+            }
+            return new BigInteger(response.getInvocationResult().getGasConsumed()).longValue();
+        });
     }
 
     // For each signer a witness is added to a temporary transaction object that is serialized and sent with the
     // `getnetworkfee` RPC method. Signers that are contracts do not need a verification script. Instead, their
     // `verify` method will be consulted by the Neo node. The static method createContractWitness is used to
-    // instantiate a witness with the parameters for the verify method in its invocation script.
-    private long calcNetworkFee() throws IOException {
+    // instantiate a witness with the parameters for the verify method in its invocation script. If the local network
+    // fee calculation is enabled, the fee of the temporary transaction is calculated locally unless it has a contract
+    // signer.
+    private CompletableFuture<Long> calcNetworkFee(long validUntilBlock) {
         Transaction tx = new Transaction(neow3j, version, nonce, validUntilBlock, signers, 0, 0, attributes, script,
                 new ArrayList<>());
         boolean hasAtLeastOneSigningAccount = false;
@@ -418,8 +490,12 @@ public class TransactionBuilder {
             throw new TransactionConfigurationException("A transaction requires at least one signing account (i.e. an" +
                     " AccountSigner). None was provided.");
         }
+        if (neow3j.isLocalNetworkFeeCalculation()) {
+            return neow3j.getNetworkFeeCalculator().calculateNetworkFee(tx);
+        }
         String txHex = toHexStringNoPrefix(tx.toArray());
-        return neow3j.calculateNetworkFee(txHex).send().getNetworkFee().getNetworkFee().longValue();
+        return neow3j.calculateNetworkFee(txHex).sendAsync()
+                .thenApply(response -> response.getNetworkFee().getNetworkFee().longValue());
     }
 
     private VerificationScript createFakeSingleSigVerificationScript() {
@@ -539,19 +615,15 @@ public class TransactionBuilder {
         return this;
     }
 
-    private BigInteger getSenderGasBalance() throws IOException {
+    private CompletableFuture<BigInteger> getSenderGasBalance() {
         return neow3j.invokeFunction(GAS_TOKEN_HASH, BALANCE_OF_FUNCTION, asList(hash160(getSender())))
-                .send().getInvocationResult().getStack().get(0).getInteger();
+                .sendAsync().thenApply(response -> response.getInvocationResult().getStack().get(0).getInteger());
     }
 
     private Hash160 getSender() {
         return signers.get(0).getScriptHash();
     }
 
-    private boolean canSenderCoverFees(BigInteger fees) throws IOException {
-        return fees.compareTo(getSenderGasBalance()) < 0;
-    }
-
     // Required for testability
     public byte[] getScript() {
         return script;
@@ -0,0 +1,490 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.metrics.SubmissionMetrics;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
+import io.neow3j.utils.Async;
+import io.neow3j.wallet.Account;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+
+/**
+ * Submits signed transactions to the Neo node and tracks them until they are included in a block.
+ * <p>
+ * At most {@link #setMaxInFlight(int) max in flight} submitted transactions are unconfirmed at the same time. Further
+ * transactions are queued and sent in the order they were submitted as soon as the window has room.
+ * <p>
+ * Sending is retried with an exponentially growing delay if the request fails on the transport level or the memory
+ * pool of the Neo node is full. A transaction that the Neo node already knows is tracked like a sent one.
+ * <p>
+ * All transactions are tracked by one {@link TransactionTracker}, i.e., one block stream. A transaction that expired,
+ * i.e., that neither the block stream nor the Neo node found in a block up to its {@code validUntilBlock}, is rebuilt
+ * with a new {@code validUntilBlock} and sent again (see {@link #setRebuilder(Rebuilder)}). Rebuilds run on their
+ * own executor (see {@link #setRebuildExecutor(Executor)}), so that they don't hold up the scheduled executor of the
+ * {@link Neow3j} instance, which runs the retries and the block stream.
+ * <p>
+ * The number of sent, retried, rebuilt, confirmed and failed transactions, the throughput and the confirmation
+ * latencies are recorded in the {@link #getMetrics() metrics} of the submitter.
+ */
+public class TransactionSubmitter implements AutoCloseable {
+
+    /**
+     * The default maximum number of unconfirmed transactions.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 500;
+
+    /**
+     * The default maximum number of retries per transaction after transient errors.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+
+    /**
+     * The default delay before the first retry in milliseconds. The delay doubles with every further retry.
+     */
+    public static final long DEFAULT_RETRY_DELAY = 1000;
+
+    /**
+     * The default maximum number of rebuilds per transaction.
+     */
+    public static final int DEFAULT_MAX_REBUILDS = 3;
+
+    // The error codes of Neo nodes since version 3.6. Older nodes only return the reason in the error message.
+    private static final int ALREADY_EXISTS = -501;
+    private static final int MEMPOOL_CAP_REACHED = -502;
+    private static final int ALREADY_IN_POOL = -503;
+    private static final int EXPIRED_TRANSACTION = -510;
+
+    private final Neow3j neow3j;
+    private final TransactionTracker tracker;
+    private final SubmissionMetrics metrics = new SubmissionMetrics();
+    private final Queue<Submission> queue = new ConcurrentLinkedQueue<>();
+    private final Set<Submission> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    // The pending block count request shared by all transactions that are rebuilt at the same time.
+    private final AtomicReference<CompletableFuture<Long>> blockCountRequest = new AtomicReference<>();
+
+    private volatile int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private volatile int maxRetries = DEFAULT_MAX_RETRIES;
+    private volatile long retryDelay = DEFAULT_RETRY_DELAY;
+    private volatile int maxRebuilds = DEFAULT_MAX_REBUILDS;
+    private volatile Rebuilder rebuilder = this::resign;
+    private volatile Executor rebuildExecutor = Async.getDefaultExecutor();
+    private volatile boolean closed;
+
+    /**
+     * Creates a transaction submitter.
+     *
+     * @param neow3j the {@code Neow3j} instance used to send and track the transactions.
+     */
+    public TransactionSubmitter(Neow3j neow3j) {
+        this.neow3j = neow3j;
+        this.tracker = new TransactionTracker(neow3j);
+    }
+
+    /**
+     * Sets the maximum number of submitted transactions that are sent but neither included in a block nor failed
+     * yet.
+     *
+     * @param maxInFlight the maximum number of unconfirmed transactions.
+     * @return this.
+     */
+    public TransactionSubmitter setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The maximum number of unconfirmed transactions must be greater than " +
+                    "0.");
+        }
+        this.maxInFlight = maxInFlight;
+        dispatch();
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of retries per transaction after transient errors, i.e., transport errors and a full
+     * memory pool.
+     *
+     * @param maxRetries the maximum number of retries.
+     * @return this.
+     */
+    public TransactionSubmitter setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The maximum number of retries must not be negative.");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Sets the delay before the first retry. The delay doubles with every further retry of the same transaction.
+     *
+     * @param retryDelay the delay in milliseconds.
+     * @return this.
+     */
+    public TransactionSubmitter setRetryDelay(long retryDelay) {
+        if (retryDelay < 0) {
+            throw new IllegalArgumentException("The retry delay must not be negative.");
+        }
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of times an expired transaction is rebuilt.
+     *
+     * @param maxRebuilds the maximum number of rebuilds. Set it to 0 to let expired transactions fail.
+     * @return this.
+     */
+    public TransactionSubmitter setMaxRebuilds(int maxRebuilds) {
+        if (maxRebuilds < 0) {
+            throw new IllegalArgumentException("The maximum number of rebuilds must not be negative.");
+        }
+        this.maxRebuilds = maxRebuilds;
+        return this;
+    }
+
+    /**
+     * Sets how expired transactions are rebuilt.
+     * <p>
+     * By default, the expired transaction is copied with a new {@code validUntilBlock} and signed again. This only
+     * works if all signers are {@link AccountSigner}s of single-sig accounts that hold a private key. For other
+     * signers, set a rebuilder that builds and signs a new transaction, e.g., with a {@link TransactionBuilder}.
+     *
+     * @param rebuilder the rebuilder.
+     * @return this.
+     */
+    public TransactionSubmitter setRebuilder(Rebuilder rebuilder) {
+        this.rebuilder = rebuilder;
+        return this;
+    }
+
+    /**
+     * Sets the executor on which expired transactions are rebuilt. By default, the executor of
+     * {@link Async#getDefaultExecutor()} is used.
+     *
+     * @param rebuildExecutor the executor.
+     * @return this.
+     */
+    public TransactionSubmitter setRebuildExecutor(Executor rebuildExecutor) {
+        if (rebuildExecutor == null) {
+            throw new IllegalArgumentException("The rebuild executor must not be null.");
+        }
+        this.rebuildExecutor = rebuildExecutor;
+        return this;
+    }
+
+    /**
+     * Submits a signed transaction.
+     *
+     * @param transaction the transaction.
+     * @return a future that completes with the index of the block that includes the transaction or its rebuilt
+     * version. It completes exceptionally with a {@link RpcResponseErrorException} if the Neo node rejects the
+     * transaction, with the last transport error if all retries failed, or with a
+     * {@link TransactionExpiredException} if the transaction expired and cannot be rebuilt.
+     * @throws TransactionConfigurationException if the number of signers and witnesses on the transaction are not
+     *                                           equal.
+     */
+    public CompletableFuture<Long> submit(Transaction transaction) {
+        if (transaction.getSigners().size() != transaction.getWitnesses().size()) {
+            throw new TransactionConfigurationException("The transaction does not have the same number of signers and" +
+                    " witnesses. For every signer there has to be one witness, even if that witness is empty.");
+        }
+        Submission submission = new Submission(transaction);
+        if (closed) {
+            submission.future.completeExceptionally(new IllegalStateException("The transaction submitter is closed."));
+            return submission.future;
+        }
+        metrics.recordSubmitted();
+        queue.add(submission);
+        dispatch();
+        return submission.future;
+    }
+
+    /**
+     * @return the number of submitted transactions that are sent but neither included in a block nor failed yet.
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * @return the number of submitted transactions that wait for room in the window of unconfirmed transactions.
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the metrics of this submitter.
+     */
+    public SubmissionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops submitting and tracking. The futures of queued and unconfirmed transactions are cancelled.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Submission queued;
+        while ((queued = queue.poll()) != null) {
+            queued.future.cancel(false);
+        }
+        inFlight.forEach(submission -> {
+            submission.future.cancel(false);
+            release(submission);
+        });
+        tracker.close();
+    }
+
+    private void dispatch() {
+        while (!closed && !queue.isEmpty()) {
+            int count = inFlightCount.get();
+            if (count >= maxInFlight) {
+                return;
+            }
+            if (!inFlightCount.compareAndSet(count, count + 1)) {
+                continue;
+            }
+            Submission submission = queue.poll();
+            if (submission == null) {
+                // Another thread took the last queued transaction.
+                inFlightCount.decrementAndGet();
+                continue;
+            }
+            inFlight.add(submission);
+            submission.startTime = System.nanoTime();
+            send(submission);
+        }
+    }
+
+    private void send(Submission submission) {
+        if (submission.future.isDone()) {
+            release(submission);
+            return;
+        }
+        metrics.recordSendAttempt();
+        String hex = toHexStringNoPrefix(submission.transaction.toArray());
+        neow3j.sendRawTransaction(hex).sendAsync().whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = unwrap(throwable);
+                if (cause instanceof IOException) {
+                    retryOrFail(submission, cause);
+                } else {
+                    fail(submission, cause);
+                }
+            } else if (!response.hasError() || isAlreadyKnown(response.getError())) {
+                track(submission);
+            } else if (isMemoryPoolFull(response.getError())) {
+                retryOrFail(submission, new RpcResponseErrorException(response.getError()));
+            } else if (isExpired(response.getError())) {
+                rebuildOrFail(submission, new RpcResponseErrorException(response.getError()));
+            } else {
+                fail(submission, new RpcResponseErrorException(response.getError()));
+            }
+        });
+    }
+
+    private void track(Submission submission) {
+        if (submission.future.isDone()) {
+            release(submission);
+            return;
+        }
+        tracker.track(submission.transaction).whenComplete((blockIndex, throwable) -> {
+            if (throwable == null) {
+                confirm(submission, blockIndex);
+                return;
+            }
+            Throwable cause = unwrap(throwable);
+            if (cause instanceof TransactionExpiredException) {
+                rebuildOrFail(submission, cause);
+            } else {
+                fail(submission, cause);
+            }
+        });
+    }
+
+    private void confirm(Submission submission, long blockIndex) {
+        if (submission.future.complete(blockIndex)) {
+            metrics.recordConfirmed(System.nanoTime() - submission.startTime);
+        }
+        release(submission);
+    }
+
+    private void retryOrFail(Submission submission, Throwable cause) {
+        if (submission.retries >= maxRetries || closed) {
+            fail(submission, cause);
+            return;
+        }
+        long delay = retryDelay << Math.min(submission.retries, 16);
+        submission.retries++;
+        metrics.recordRetry();
+        neow3j.getScheduledExecutorService().schedule(() -> send(submission), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void rebuildOrFail(Submission submission, Throwable cause) {
+        Rebuilder currentRebuilder = rebuilder;
+        if (submission.rebuilds >= maxRebuilds || currentRebuilder == null || closed) {
+            fail(submission, cause);
+            return;
+        }
+        submission.rebuilds++;
+        submission.retries = 0;
+        metrics.recordRebuild();
+        rebuildExecutor.execute(() -> {
+            try {
+                submission.transaction = currentRebuilder.rebuild(submission.transaction);
+            } catch (Throwable t) {
+                fail(submission, t);
+                return;
+            }
+            send(submission);
+        });
+    }
+
+    private void fail(Submission submission, Throwable cause) {
+        if (submission.future.completeExceptionally(cause)) {
+            metrics.recordFailed();
+        }
+        release(submission);
+    }
+
+    private void release(Submission submission) {
+        if (inFlight.remove(submission)) {
+            inFlightCount.decrementAndGet();
+            dispatch();
+        }
+    }
+
+    // Copies the expired transaction with a new validUntilBlock and signs it again. The size of the transaction does
+    // not change, so the network fee stays the same.
+    private Transaction resign(Transaction expired) throws Throwable {
+        long blockCount;
+        try {
+            blockCount = fetchBlockCount().get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+        long validUntilBlock = blockCount + neow3j.getMaxValidUntilBlockIncrement() - 1;
+        Transaction tx = new Transaction(neow3j, expired.getVersion(), expired.getNonce(), validUntilBlock,
+                expired.getSigners(), expired.getSystemFee(), expired.getNetworkFee(), expired.getAttributes(),
+                expired.getScript(), new ArrayList<>());
+        byte[] hashData = tx.getHashData();
+        for (Signer signer : tx.getSigners()) {
+            Account account = signer instanceof AccountSigner ? ((AccountSigner) signer).getAccount() : null;
+            ECKeyPair keyPair = account == null || account.isMultiSig() ? null : account.getECKeyPair();
+            if (keyPair == null) {
+                throw new TransactionConfigurationException("The expired transaction cannot be signed again " +
+                        "automatically, because not all of its signers are single-sig accounts holding a private " +
+                        "key.");
+            }
+            tx.addWitness(Witness.create(hashData, keyPair));
+        }
+        return tx;
+    }
+
+    // Transactions expire in waves, because many of them are sent at about the same time with the same
+    // validUntilBlock. Thus, the block count is read from the chain parameter cache or, if caching is disabled, all
+    // rebuilds that wait for the block count at the same time share one request.
+    private CompletableFuture<Long> fetchBlockCount() {
+        if (neow3j.isChainParameterCaching()) {
+            return neow3j.getChainParameterCache().getBlockCount();
+        }
+        while (true) {
+            CompletableFuture<Long> current = blockCountRequest.get();
+            if (current != null && !current.isDone()) {
+                return current;
+            }
+            CompletableFuture<Long> request = new CompletableFuture<>();
+            if (blockCountRequest.compareAndSet(current, request)) {
+                neow3j.getBlockCount().sendAsync().whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        request.completeExceptionally(throwable);
+                    } else if (response.hasError()) {
+                        request.completeExceptionally(new RpcResponseErrorException(response.getError()));
+                    } else {
+                        request.complete(response.getBlockCount().longValue());
+                    }
+                });
+                return request;
+            }
+        }
+    }
+
+    private static boolean isAlreadyKnown(Response.Error error) {
+        return error.getCode() == ALREADY_EXISTS || error.getCode() == ALREADY_IN_POOL ||
+                messageContains(error, "alreadyexists") || messageContains(error, "already exists") ||
+                messageContains(error, "already in pool");
+    }
+
+    private static boolean isMemoryPoolFull(Response.Error error) {
+        return error.getCode() == MEMPOOL_CAP_REACHED || messageContains(error, "outofmemory") ||
+                messageContains(error, "capacity reached");
+    }
+
+    private static boolean isExpired(Response.Error error) {
+        return error.getCode() == EXPIRED_TRANSACTION || messageContains(error, "expired");
+    }
+
+    private static boolean messageContains(Response.Error error, String reason) {
+        return error.getMessage() != null && error.getMessage().toLowerCase().contains(reason);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    /**
+     * Rebuilds a transaction that expired before it was included in a block.
+     */
+    @FunctionalInterface
+    public interface Rebuilder {
+
+        /**
+         * Rebuilds the given expired transaction. The returned transaction must be signed and have a
+         * {@code validUntilBlock} higher than the current block count.
+         *
+         * @param expired the expired transaction.
+         * @return the rebuilt transaction.
+         * @throws Throwable if the transaction cannot be rebuilt. The submitted transaction fails with this
+         *                   exception.
+         */
+        Transaction rebuild(Transaction expired) throws Throwable;
+
+    }
+
+    private static class Submission {
+
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        // Only accessed by one thread at a time, because the steps of a submission run one after another.
+        private Transaction transaction;
+        private long startTime;
+        private int retries;
+        private int rebuilds;
+
+        Submission(Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+    }
+
+}
@@ -0,0 +1,323 @@
+package io.neow3j.transaction;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
+import io.neow3j.types.Hash256;
+import io.reactivex.disposables.Disposable;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Tracks many transactions until they are included in a block, using a single block stream.
+ * <p>
+ * In contrast to {@link Transaction#track()}, which opens a block stream per transaction, all transactions tracked by
+ * this tracker share one stream. Each block is matched against the set of pending transaction hashes, so the cost per
+ * block does not depend on the number of tracked transactions.
+ * <p>
+ * A transaction that was not included in a block up to its {@code validUntilBlock} expires. Before it is reported as
+ * expired, the Neo node is asked whether it knows the transaction, in case the block stream missed the block that
+ * includes it.
+ * <p>
+ * The block stream is started when the first transaction is tracked and stopped when no transactions are pending. If
+ * the block stream fails, it is started again after an exponentially growing delay, beginning with the block after
+ * the last processed one. The pending transactions keep being tracked in the meantime.
+ */
+public class TransactionTracker implements AutoCloseable {
+
+    // The maximum delay in milliseconds before the block stream is started again after consecutive failures.
+    private static final long MAX_RESUBSCRIBE_DELAY = 60_000;
+
+    // The error codes for unknown transactions of Neo nodes before and since version 3.6.
+    private static final int UNKNOWN_TRANSACTION_LEGACY = -100;
+    private static final int UNKNOWN_TRANSACTION = -103;
+
+    private final Neow3j neow3j;
+    private final Map<Hash256, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+
+    // Guarded by this.
+    private Disposable blockStream;
+    // Whether the block stream is running, starting, or about to be started again after a failure.
+    private boolean streamActive;
+    // Incremented whenever the block stream stops, so that callbacks of a previous stream are ignored.
+    private int streamGeneration;
+    // The index of the next block to process or -1 if the block stream has not determined its start block yet.
+    private long nextBlockIndex = -1;
+    private int streamFailures;
+    private boolean closed;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param neow3j the {@code Neow3j} instance used to fetch the blocks.
+     */
+    public TransactionTracker(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Tracks the given transaction. The transaction should have been sent already.
+     *
+     * @param transaction the transaction.
+     * @return a future that completes with the index of the block that includes the transaction or completes
+     * exceptionally with a {@link TransactionExpiredException} if the transaction expired.
+     */
+    public CompletableFuture<Long> track(Transaction transaction) {
+        return track(transaction.getTxId(), transaction.getValidUntilBlock());
+    }
+
+    /**
+     * Tracks the transaction with the given hash. The transaction should have been sent already.
+     *
+     * @param txHash          the transaction hash.
+     * @param validUntilBlock the last block index at which the transaction can be included in a block.
+     * @return a future that completes with the index of the block that includes the transaction or completes
+     * exceptionally with a {@link TransactionExpiredException} if the transaction expired.
+     */
+    public CompletableFuture<Long> track(Hash256 txHash, long validUntilBlock) {
+        PendingTransaction pending = new PendingTransaction(validUntilBlock);
+        PendingTransaction existing = pendingTransactions.putIfAbsent(txHash, pending);
+        if (existing != null) {
+            return existing.future;
+        }
+        boolean startBlockKnown;
+        try {
+            startBlockKnown = ensureBlockStream();
+        } catch (RuntimeException e) {
+            pendingTransactions.remove(txHash, pending);
+            pending.future.completeExceptionally(e);
+            return pending.future;
+        }
+        // The transaction may already have been included in a block before the start block of the block stream. If
+        // the start block is not known yet, the transaction is probed as soon as it is.
+        if (startBlockKnown) {
+            probe(txHash, pending);
+        }
+        return pending.future;
+    }
+
+    /**
+     * @return the number of transactions that are neither included in a block nor expired yet.
+     */
+    public int getPendingCount() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * Stops tracking. The futures of pending transactions are cancelled.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            stopBlockStream();
+        }
+        Iterator<PendingTransaction> iterator = pendingTransactions.values().iterator();
+        while (iterator.hasNext()) {
+            PendingTransaction pending = iterator.next();
+            iterator.remove();
+            pending.future.cancel(false);
+        }
+    }
+
+    // Returns whether the start block of the block stream is known.
+    private boolean ensureBlockStream() {
+        int generation;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The transaction tracker is closed.");
+            }
+            if (streamActive) {
+                return nextBlockIndex >= 0;
+            }
+            streamActive = true;
+            generation = ++streamGeneration;
+        }
+        subscribe(generation);
+        return false;
+    }
+
+    private void subscribe(int generation) {
+        long startBlock;
+        synchronized (this) {
+            if (generation != streamGeneration) {
+                return;
+            }
+            startBlock = nextBlockIndex;
+        }
+        if (startBlock < 0) {
+            // The block count is requested asynchronously, because transactions are tracked from the callbacks of
+            // other requests.
+            neow3j.getBlockCount().sendAsync().whenComplete((response, throwable) -> {
+                if (throwable != null || response.hasError()) {
+                    onBlockStreamFailure(generation);
+                    return;
+                }
+                synchronized (this) {
+                    if (generation != streamGeneration) {
+                        return;
+                    }
+                    nextBlockIndex = response.getBlockCount().longValue();
+                }
+                pendingTransactions.forEach(this::probe);
+                subscribe(generation);
+            });
+            return;
+        }
+        Disposable stream = neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(BigInteger.valueOf(startBlock),
+                true).subscribe(this::processBlock, t -> onBlockStreamFailure(generation),
+                () -> onBlockStreamFailure(generation));
+        synchronized (this) {
+            if (generation == streamGeneration) {
+                blockStream = stream;
+            } else {
+                // The stream was stopped or failed while subscribing.
+                stream.dispose();
+            }
+        }
+    }
+
+    private synchronized void onBlockStreamFailure(int generation) {
+        if (generation != streamGeneration) {
+            return;
+        }
+        blockStream = null;
+        int nextGeneration = ++streamGeneration;
+        if (closed || pendingTransactions.isEmpty()) {
+            streamActive = false;
+            nextBlockIndex = -1;
+            return;
+        }
+        long delay = Math.min((long) neow3j.getPollingInterval() << Math.min(streamFailures, 16),
+                MAX_RESUBSCRIBE_DELAY);
+        streamFailures++;
+        neow3j.getScheduledExecutorService().schedule(() -> subscribe(nextGeneration), delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void stopBlockStream() {
+        streamGeneration++;
+        streamActive = false;
+        nextBlockIndex = -1;
+        streamFailures = 0;
+        if (blockStream != null) {
+            blockStream.dispose();
+            blockStream = null;
+        }
+    }
+
+    private void probe(Hash256 txHash, PendingTransaction pending) {
+        neow3j.getTransactionHeight(txHash).sendAsync().whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                // The probe did not reach the Neo node. Without retrying, a transaction that was included before the
+                // block stream started would never be found.
+                retryLater(txHash, pending, () -> probe(txHash, pending));
+                return;
+            }
+            // The Neo node returns an error while the transaction is not included in a block.
+            if (!response.hasError() && response.getHeight() != null) {
+                complete(txHash, pending, response.getHeight().longValue());
+            }
+        });
+    }
+
+    // The block stream may have missed the block that includes the transaction, e.g., because it started after the
+    // transaction was probed. Thus, the transaction only expires if the Neo node does not know it either.
+    private void confirmExpiry(Hash256 txHash, PendingTransaction pending) {
+        neow3j.getTransactionHeight(txHash).sendAsync().whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                retryLater(txHash, pending, () -> confirmExpiry(txHash, pending));
+            } else if (!response.hasError() && response.getHeight() != null) {
+                complete(txHash, pending, response.getHeight().longValue());
+            } else if (!response.hasError() || isUnknownTransaction(response.getError())) {
+                fail(txHash, pending, new TransactionExpiredException(
+                        format("The transaction %s was not included in a block up to its valid until block %d.",
+                                txHash, pending.validUntilBlock)));
+            } else {
+                fail(txHash, pending, new RpcResponseErrorException(response.getError()));
+            }
+        });
+    }
+
+    private void retryLater(Hash256 txHash, PendingTransaction pending, Runnable retry) {
+        synchronized (this) {
+            if (closed || pendingTransactions.get(txHash) != pending) {
+                return;
+            }
+        }
+        neow3j.getScheduledExecutorService().schedule(retry, neow3j.getPollingInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    private void processBlock(NeoGetBlock neoGetBlock) {
+        NeoBlock block = neoGetBlock.getBlock();
+        long blockIndex = block.getIndex();
+        if (block.getTransactions() != null) {
+            block.getTransactions().forEach(tx -> {
+                PendingTransaction pending = pendingTransactions.remove(tx.getHash());
+                if (pending != null) {
+                    pending.future.complete(blockIndex);
+                }
+            });
+        }
+        pendingTransactions.forEach((txHash, pending) -> {
+            if (pending.validUntilBlock <= blockIndex && pending.confirmingExpiry.compareAndSet(false, true)) {
+                confirmExpiry(txHash, pending);
+            }
+        });
+        synchronized (this) {
+            nextBlockIndex = Math.max(nextBlockIndex, blockIndex + 1);
+            streamFailures = 0;
+        }
+        stopBlockStreamIfIdle();
+    }
+
+    private void complete(Hash256 txHash, PendingTransaction pending, long blockIndex) {
+        if (pendingTransactions.remove(txHash, pending)) {
+            pending.future.complete(blockIndex);
+            stopBlockStreamIfIdle();
+        }
+    }
+
+    private void fail(Hash256 txHash, PendingTransaction pending, Throwable throwable) {
+        if (pendingTransactions.remove(txHash, pending)) {
+            pending.future.completeExceptionally(throwable);
+            stopBlockStreamIfIdle();
+        }
+    }
+
+    private synchronized void stopBlockStreamIfIdle() {
+        // Checked while holding the lock, so that no transaction is added between the check and stopping the stream.
+        if (pendingTransactions.isEmpty()) {
+            stopBlockStream();
+        }
+    }
+
+    static boolean isUnknownTransaction(Response.Error error) {
+        return error.getCode() == UNKNOWN_TRANSACTION_LEGACY || error.getCode() == UNKNOWN_TRANSACTION ||
+                error.getMessage() != null && error.getMessage().toLowerCase().contains("unknown transaction");
+    }
+
+    private static class PendingTransaction {
+
+        private final long validUntilBlock;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        private final AtomicBoolean confirmingExpiry = new AtomicBoolean();
+
+        PendingTransaction(long validUntilBlock) {
+            this.validUntilBlock = validUntilBlock;
+        }
+
+    }
+
+}
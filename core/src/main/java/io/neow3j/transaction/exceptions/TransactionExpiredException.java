@@ -0,0 +1,21 @@
+package io.neow3j.transaction.exceptions;
+
+/**
+ * Is thrown if a tracked {@link io.neow3j.transaction.Transaction} was not included in a block before its
+ * {@code validUntilBlock} passed. The transaction can no longer be included in a block.
+ */
+public class TransactionExpiredException extends RuntimeException {
+
+    public TransactionExpiredException() {
+        super();
+    }
+
+    public TransactionExpiredException(String message) {
+        super(message);
+    }
+
+    public TransactionExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
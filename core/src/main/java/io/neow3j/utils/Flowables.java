@@ -0,0 +1,56 @@
+package io.neow3j.utils;
+
+import io.reactivex.Flowable;
+
+import java.math.BigInteger;
+
+/**
+ * Flowable utility functions.
+ */
+public class Flowables {
+
+    public static Flowable<BigInteger> range(final BigInteger startValue, final BigInteger endValue) {
+        return range(startValue, endValue, true);
+    }
+
+    /**
+     * Simple Flowable implementation to emit a range of BigInteger values. In contrast to
+     * {@link Observables#range(BigInteger, BigInteger, boolean)}, values are only emitted as they are requested by
+     * the subscriber.
+     *
+     * @param startValue the first value to emit in range.
+     * @param endValue   the final value to emit in range.
+     * @param ascending  the direction to iterate through range.
+     * @return a Flowable to emit this range of values.
+     */
+    public static Flowable<BigInteger> range(final BigInteger startValue, final BigInteger endValue,
+            final boolean ascending) {
+
+        if (startValue.compareTo(BigInteger.ZERO) < 0) {
+            throw new IllegalArgumentException("Negative start index cannot be used");
+        } else if (startValue.compareTo(endValue) > 0) {
+            throw new IllegalArgumentException("Negative start index cannot be greater then end index");
+        }
+
+        if (ascending) {
+            return Flowable.generate(() -> startValue, (i, emitter) -> {
+                if (i.compareTo(endValue) > 0) {
+                    emitter.onComplete();
+                } else {
+                    emitter.onNext(i);
+                }
+                return i.add(BigInteger.ONE);
+            });
+        } else {
+            return Flowable.generate(() -> endValue, (i, emitter) -> {
+                if (i.compareTo(startValue) < 0) {
+                    emitter.onComplete();
+                } else {
+                    emitter.onNext(i);
+                }
+                return i.subtract(BigInteger.ONE);
+            });
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.neow3j.protocol;
+
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoConnectionCount;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class Neow3jServiceTest {
+
+    // A service that only implements the methods without a default implementation.
+    private final Neow3jService service = new Neow3jService() {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Response> T send(Request request, Class<T> responseType) {
+            if (responseType == NeoBlockCount.class) {
+                NeoBlockCount response = new NeoBlockCount();
+                response.setResult(BigInteger.TEN);
+                return (T) response;
+            }
+            NeoConnectionCount response = new NeoConnectionCount();
+            response.setResult(3);
+            return (T) response;
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+            return CompletableFuture.completedFuture(send(request, responseType));
+        }
+
+        @Override
+        public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+                Class<T> responseType) {
+            return Observable.empty();
+        }
+
+        @Override
+        public void close() {
+        }
+
+    };
+
+    private BatchRequest batch(Request<?, NeoBlockCount> blockCount, Request<?, NeoConnectionCount> connectionCount) {
+        return new BatchRequest(service).add(blockCount).add(connectionCount);
+    }
+
+    @Test
+    public void testDefaultSendBatchSendsRequestsSeparately() throws IOException {
+        Request<?, NeoBlockCount> blockCount =
+                new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+        Request<?, NeoConnectionCount> connectionCount =
+                new Request<>("getconnectioncount", emptyList(), service, NeoConnectionCount.class);
+
+        BatchResponse response = batch(blockCount, connectionCount).send();
+
+        assertThat(response.getResponse(blockCount).getBlockCount(), is(BigInteger.TEN));
+        assertThat(response.getResponse(connectionCount).getCount(), is(3));
+    }
+
+    @Test
+    public void testDefaultSendBatchAsyncSendsRequestsSeparately() throws Exception {
+        Request<?, NeoBlockCount> blockCount =
+                new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+        Request<?, NeoConnectionCount> connectionCount =
+                new Request<>("getconnectioncount", emptyList(), service, NeoConnectionCount.class);
+
+        BatchResponse response = batch(blockCount, connectionCount).sendAsync().get();
+
+        assertThat(response.getResponses().size(), is(2));
+        assertThat(response.getResponse(blockCount).getBlockCount(), is(BigInteger.TEN));
+        assertThat(response.getResponse(connectionCount).getCount(), is(3));
+    }
+
+    @Test
+    public void testDoesNotSupportSubscriptionsByDefault() {
+        assertThat(service.supportsSubscriptions(), is(false));
+    }
+
+}
@@ -40,6 +40,10 @@ public abstract class ResponseTester {
         neow3jService = new HttpService(okHttpClient, includeRawResponses);
     }
 
+    protected HttpService getNeow3jService() {
+        return neow3jService;
+    }
+
     protected <T extends Response> T deserialiseResponse(Class<T> type) {
         T response = null;
         try {
@@ -0,0 +1,190 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.cache.ChainParameterCache.Parameter;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetCommittee;
+import io.neow3j.protocol.core.response.NeoInvokeFunction;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.core.stackitem.IntegerStackItem;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.NeoVMStateType;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.neow3j.types.ContractParameter.integer;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChainParameterCacheTest {
+
+    private static final Hash160 POLICY_CONTRACT_HASH = new Hash160("cc5e4edd9f5f8dba8bb65734541df7a1c081c67b");
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private ChainParameterCache cache;
+
+    private final AtomicInteger blockCountRequests = new AtomicInteger();
+    private final AtomicInteger committeeRequests = new AtomicInteger();
+    private final AtomicInteger policyRequests = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        neow3jService = mock(Neow3jService.class);
+        neow3j = Neow3j.build(neow3jService, new Neow3jConfig().setNetworkMagic(769));
+        cache = neow3j.getChainParameterCache();
+
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount response = new NeoBlockCount();
+            response.setResult(BigInteger.valueOf(1000 + blockCountRequests.incrementAndGet()));
+            return CompletableFuture.completedFuture(response);
+        });
+        List<String> committee = IntStream.range(0, 3)
+                .mapToObj(i -> Account.create().getECKeyPair().getPublicKey().getEncodedCompressedHex())
+                .collect(Collectors.toList());
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetCommittee.class))).thenAnswer(invocation -> {
+            committeeRequests.incrementAndGet();
+            NeoGetCommittee response = new NeoGetCommittee();
+            response.setResult(committee);
+            return CompletableFuture.completedFuture(response);
+        });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoInvokeFunction.class))).thenAnswer(invocation -> {
+            policyRequests.incrementAndGet();
+            NeoInvokeFunction response = new NeoInvokeFunction();
+            response.setResult(new InvocationResult(null, NeoVMStateType.HALT, "0", null, null, null,
+                    singletonList(new IntegerStackItem(BigInteger.valueOf(1000))), null, null, null));
+            return CompletableFuture.completedFuture(response);
+        });
+    }
+
+    private static NeoBlock block(long index, String... scripts) {
+        List<Transaction> transactions = Arrays.stream(scripts)
+                .map(script -> new Transaction(Hash256.ZERO, 0, 0, 0L, null, "0", "0", 0L, null, null, script,
+                        null))
+                .collect(Collectors.toList());
+        return new NeoBlock(Hash256.ZERO, 0L, 0, null, null, 0L, index, 0, "nonce", null, transactions, 1, null);
+    }
+
+    @Test
+    public void testCachesUntilTtlExpires() throws Exception {
+        assertThat(cache.getBlockCount().get(), is(1001L));
+        assertThat(cache.getBlockCount().get(), is(1001L));
+        assertThat(blockCountRequests.get(), is(1));
+
+        cache.setTtl(Parameter.BLOCK_COUNT, 0);
+        cache.invalidate(Parameter.BLOCK_COUNT);
+        assertThat(cache.getBlockCount().get(), is(1002L));
+        assertThat(cache.getBlockCount().get(), is(1003L));
+    }
+
+    @Test
+    public void testConcurrentReadsShareOneRequest() throws Exception {
+        CompletableFuture<NeoBlockCount> pending = new CompletableFuture<>();
+        doReturn(pending).when(neow3jService).sendAsync(any(Request.class), eq(NeoBlockCount.class));
+
+        CompletableFuture<Long> first = cache.getBlockCount();
+        CompletableFuture<Long> second = cache.getBlockCount();
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.TEN);
+        pending.complete(response);
+
+        assertThat(first.get(), is(10L));
+        assertThat(second.get(), is(10L));
+    }
+
+    @Test
+    public void testDoesNotCacheFailures() throws Exception {
+        CompletableFuture<NeoBlockCount> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("node unavailable"));
+        doReturn(failed).when(neow3jService).sendAsync(any(Request.class), eq(NeoBlockCount.class));
+        assertThrows(ExecutionException.class, () -> cache.getBlockCount().get());
+
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.TEN);
+        doReturn(CompletableFuture.completedFuture(response))
+                .when(neow3jService).sendAsync(any(Request.class), eq(NeoBlockCount.class));
+        assertThat(cache.getBlockCount().get(), is(10L));
+    }
+
+    @Test
+    public void testBlocksUpdateBlockCountAndRefreshCommittee() throws Exception {
+        assertThat(cache.getCommittee().get(), hasSize(3));
+
+        cache.onBlock(block(1004));
+        assertThat(cache.getBlockCount().get(), is(1005L));
+        assertThat(blockCountRequests.get(), is(0));
+        // Blocks of a replay don't move the block count back.
+        cache.onBlock(block(10));
+        assertThat(cache.getBlockCount().get(), is(1005L));
+
+        cache.getCommittee().get();
+        assertThat(committeeRequests.get(), is(1));
+
+        // The committee is refreshed at every block index that is a multiple of the committee size.
+        cache.onBlock(block(1005));
+        cache.getCommittee().get();
+        assertThat(committeeRequests.get(), is(2));
+    }
+
+    @Test
+    public void testPolicySetterInvalidatesPolicyValue() throws Exception {
+        cache.getFeePerByte().get();
+        cache.getExecFeeFactor().get();
+        assertThat(policyRequests.get(), is(2));
+
+        String setFeePerByte = Base64.encode(new ScriptBuilder()
+                .contractCall(POLICY_CONTRACT_HASH, "setFeePerByte", singletonList(integer(2000)))
+                .toArray());
+        cache.onBlock(block(1, setFeePerByte));
+
+        cache.getFeePerByte().get();
+        cache.getExecFeeFactor().get();
+        assertThat(policyRequests.get(), is(3));
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        cache.warmUp().get();
+        assertThat(blockCountRequests.get(), is(1));
+        assertThat(committeeRequests.get(), is(1));
+        assertThat(policyRequests.get(), is(2));
+        assertThat(cache.getNetworkMagic().get(), is(769L));
+
+        cache.warmUp().get();
+        assertThat(blockCountRequests.get(), is(1));
+        assertThat(committeeRequests.get(), is(1));
+        assertThat(policyRequests.get(), is(2));
+    }
+
+    @Test
+    public void testInvalidTtl() {
+        assertThrows(IllegalArgumentException.class, () -> cache.setTtl(Parameter.COMMITTEE, -1));
+    }
+
+}
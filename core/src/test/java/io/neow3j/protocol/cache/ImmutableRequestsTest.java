@@ -0,0 +1,42 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static io.neow3j.protocol.cache.ImmutableRequests.isImmutable;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImmutableRequestsTest {
+
+    private static final Hash256 HASH =
+            new Hash256("0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6");
+
+    private final Neow3j neow3j = Neow3j.build(new HttpService());
+
+    @Test
+    public void testImmutableRequests() {
+        assertTrue(isImmutable(neow3j.getRawBlock(HASH)));
+        assertTrue(isImmutable(neow3j.getRawBlockHeader(HASH)));
+        assertTrue(isImmutable(neow3j.getRawTransaction(HASH)));
+        assertTrue(isImmutable(neow3j.getApplicationLog(HASH)));
+        assertTrue(isImmutable(neow3j.getBlockHash(BigInteger.TEN)));
+    }
+
+    @Test
+    public void testMutableRequests() {
+        assertFalse(isImmutable(neow3j.getBlock(HASH, true)));
+        assertFalse(isImmutable(neow3j.getRawBlock(BigInteger.TEN)));
+        assertFalse(isImmutable(neow3j.getBlockHeader(HASH)));
+        assertFalse(isImmutable(neow3j.getTransaction(HASH)));
+        assertFalse(isImmutable(neow3j.getBlockCount()));
+        assertFalse(isImmutable(neow3j.getNativeContracts()));
+        assertFalse(isImmutable(neow3j.getTransactionHeight(HASH)));
+        assertFalse(isImmutable(neow3j.sendRawTransaction("00")));
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.neow3j.protocol.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LruResponseCacheTest {
+
+    private static final long NETWORK_MAGIC = 894710606L;
+
+    @Test
+    public void testGetAndPut() {
+        LruResponseCache cache = new LruResponseCache();
+        assertThat(cache.get("getblockhash[1]"), is(nullValue()));
+
+        cache.put("getblockhash[1]", new byte[]{1, 2, 3});
+
+        assertThat(cache.get("getblockhash[1]"), is(new byte[]{1, 2, 3}));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getSize(), is(3L));
+        assertThat(cache.getEntryCount(), is(1));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedBySize() {
+        LruResponseCache cache = new LruResponseCache(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        // Accessing "a" makes "b" the least recently used entry.
+        cache.get("a");
+        cache.put("c", new byte[4]);
+
+        assertThat(cache.get("b"), is(nullValue()));
+        assertThat(cache.get("a"), is(new byte[4]));
+        assertThat(cache.get("c"), is(new byte[4]));
+        assertThat(cache.getSize(), is(8L));
+        assertThat(cache.getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void testEvictsMultipleEntriesForLargeResponse() {
+        LruResponseCache cache = new LruResponseCache(10);
+        cache.put("a", new byte[3]);
+        cache.put("b", new byte[3]);
+        cache.put("c", new byte[3]);
+        cache.put("d", new byte[9]);
+
+        assertThat(cache.getEntryCount(), is(1));
+        assertThat(cache.getSize(), is(9L));
+        assertThat(cache.getEvictionCount(), is(3L));
+    }
+
+    @Test
+    public void testDoesNotCacheResponsesLargerThanMaxSize() {
+        LruResponseCache cache = new LruResponseCache(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[11]);
+
+        assertThat(cache.get("b"), is(nullValue()));
+        assertThat(cache.get("a"), is(new byte[4]));
+    }
+
+    @Test
+    public void testDiskTier(@TempDir Path directory) throws Exception {
+        LruResponseCache cache = new LruResponseCache(4, directory, NETWORK_MAGIC);
+        cache.put("a", new byte[]{1, 1, 1, 1});
+        cache.put("b", new byte[]{2, 2, 2, 2});
+        try (Stream<Path> files = Files.list(directory.resolve(Long.toString(NETWORK_MAGIC)))) {
+            assertThat(files.count(), is(2L));
+        }
+
+        // "a" was evicted from the heap but is still on disk.
+        assertThat(cache.get("a"), is(new byte[]{1, 1, 1, 1}));
+        assertThat(cache.getDiskHitCount(), is(1L));
+        assertThat(cache.getHitCount(), is(0L));
+
+        // A new cache instance finds the responses written by a previous one.
+        LruResponseCache otherCache = new LruResponseCache(4, directory, NETWORK_MAGIC);
+        assertThat(otherCache.get("b"), is(new byte[]{2, 2, 2, 2}));
+        assertThat(otherCache.get("b"), is(new byte[]{2, 2, 2, 2}));
+        assertThat(otherCache.getDiskHitCount(), is(1L));
+        assertThat(otherCache.getHitCount(), is(1L));
+        assertThat(otherCache.get("c"), is(nullValue()));
+        assertThat(otherCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void testDiskTierIsSeparatedByNetwork(@TempDir Path directory) {
+        LruResponseCache cache = new LruResponseCache(4, directory, NETWORK_MAGIC);
+        cache.put("a", new byte[]{1, 1, 1, 1});
+
+        LruResponseCache otherNetworkCache = new LruResponseCache(4, directory, 860833102L);
+        assertThat(otherNetworkCache.get("a"), is(nullValue()));
+        assertThat(otherNetworkCache.getDiskHitCount(), is(0L));
+    }
+
+    @Test
+    public void testInvalidNamespace(@TempDir Path directory) {
+        assertThrows(IllegalArgumentException.class, () -> new LruResponseCache(4, directory, "../other"));
+        assertThrows(IllegalArgumentException.class, () -> new LruResponseCache(4, directory, ""));
+    }
+
+}
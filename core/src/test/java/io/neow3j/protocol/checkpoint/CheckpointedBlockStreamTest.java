@@ -0,0 +1,128 @@
+package io.neow3j.protocol.checkpoint;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.utils.TestHashes.hash256;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CheckpointedBlockStreamTest {
+
+    private static final long BLOCK_COUNT = 20;
+
+    @TempDir
+    Path tempDir;
+
+    private Neow3j neow3j;
+    private FileCheckpointStore store;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Neow3jService neow3jService = mock(Neow3jService.class);
+        neow3j = Neow3j.build(neow3jService);
+        store = new FileCheckpointStore(tempDir.resolve("checkpoint"));
+
+        NeoBlockCount neoBlockCount = new NeoBlockCount();
+        neoBlockCount.setResult(BigInteger.valueOf(BLOCK_COUNT));
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(neoBlockCount);
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            long index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).longValue();
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(hash256(index), 0L, 0, hash256(index - 1), null, 0L, index, 0,
+                    "nonce", null, null, 1, null));
+            return neoGetBlock;
+        });
+    }
+
+    private static BlockCheckpoint checkpoint(long index) {
+        return new BlockCheckpoint(BigInteger.valueOf(index), hash256(index));
+    }
+
+    private static List<Long> processBlocks(CheckpointedBlockStream stream, int count) {
+        List<Long> indexes = new ArrayList<>();
+        stream.process(neoGetBlock -> indexes.add(neoGetBlock.getBlock().getIndex()))
+                .take(count)
+                .blockingSubscribe();
+        return indexes;
+    }
+
+    @Test
+    public void testStartsAtStartBlockWithoutCheckpoint() throws IOException {
+        CheckpointedBlockStream stream = new CheckpointedBlockStream(neow3j, store, BigInteger.valueOf(5), false);
+
+        assertThat(processBlocks(stream, 3), contains(5L, 6L, 7L));
+        assertThat(stream.getCheckpoint(), is(checkpoint(7)));
+    }
+
+    @Test
+    public void testEmitsCheckpoints() {
+        CheckpointedBlockStream stream = new CheckpointedBlockStream(neow3j, store, BigInteger.ZERO, false);
+
+        List<BlockCheckpoint> checkpoints = stream.process(neoGetBlock -> { }).take(2).toList().blockingGet();
+
+        assertThat(checkpoints, contains(checkpoint(0), checkpoint(1)));
+    }
+
+    @Test
+    public void testResumesAfterCheckpoint() throws IOException {
+        processBlocks(new CheckpointedBlockStream(neow3j, store, BigInteger.ZERO, false), 4);
+
+        // Simulates a restart.
+        CheckpointedBlockStream stream = new CheckpointedBlockStream(neow3j,
+                new FileCheckpointStore(tempDir.resolve("checkpoint")), BigInteger.ZERO, false);
+
+        assertThat(processBlocks(stream, 2), contains(4L, 5L));
+        assertThat(stream.getCheckpoint(), is(checkpoint(5)));
+    }
+
+    @Test
+    public void testDoesNotCheckpointBlockThatFailedProcessing() throws IOException {
+        CheckpointedBlockStream stream = new CheckpointedBlockStream(neow3j, store, BigInteger.ZERO, false);
+
+        Throwable error = stream.process(neoGetBlock -> {
+            if (neoGetBlock.getBlock().getIndex() == 3) {
+                throw new IOException("processing failed");
+            }
+        }).ignoreElements().blockingGet(5, TimeUnit.SECONDS);
+
+        assertThat(error, instanceOf(IOException.class));
+        assertThat(stream.getCheckpoint(), is(checkpoint(2)));
+        assertThat(processBlocks(stream, 1), contains(3L));
+    }
+
+    @Test
+    public void testFailsIfBlockDoesNotFollowCheckpoint() throws IOException {
+        store.save(new BlockCheckpoint(BigInteger.valueOf(9), hash256(100)));
+        CheckpointedBlockStream stream = new CheckpointedBlockStream(neow3j, store, BigInteger.ZERO, false);
+        List<Long> indexes = new ArrayList<>();
+
+        Throwable error = stream.process(neoGetBlock -> indexes.add(neoGetBlock.getBlock().getIndex()))
+                .ignoreElements().blockingGet(5, TimeUnit.SECONDS);
+
+        assertThat(error, instanceOf(IllegalStateException.class));
+        assertThat(indexes.isEmpty(), is(true));
+        assertThat(stream.getCheckpoint(), is(new BlockCheckpoint(BigInteger.valueOf(9), hash256(100))));
+    }
+
+}
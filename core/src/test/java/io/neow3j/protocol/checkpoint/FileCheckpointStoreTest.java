@@ -0,0 +1,85 @@
+package io.neow3j.protocol.checkpoint;
+
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileCheckpointStoreTest {
+
+    private static final Hash256 HASH_1 =
+            new Hash256("0x830816f0c801bcabf919dfa1a90d7b9a4f867482cb4d18d0631a5aa6daefab6a");
+    private static final Hash256 HASH_2 =
+            new Hash256("0x03a1ee0a7e1a9f5c4ab3e3bc3ad2d8e4e5d9d5e9b2f6d0e4a3c2b1a0f9e8d7c6");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLoadWithoutCheckpoint() throws IOException {
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint"));
+        assertThat(store.load(), is(nullValue()));
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint"));
+        store.save(new BlockCheckpoint(BigInteger.valueOf(1000), HASH_1));
+        store.save(new BlockCheckpoint(BigInteger.valueOf(1001), HASH_2));
+
+        assertThat(store.load(), is(new BlockCheckpoint(BigInteger.valueOf(1001), HASH_2)));
+        assertThat(new FileCheckpointStore(tempDir.resolve("checkpoint")).load(),
+                is(new BlockCheckpoint(BigInteger.valueOf(1001), HASH_2)));
+        // No temporary files are left behind.
+        assertThat(Files.list(tempDir).map(p -> p.getFileName().toString()).toArray(),
+                is(new Object[]{"checkpoint"}));
+    }
+
+    @Test
+    public void testFileFormat() throws IOException {
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint"));
+        store.save(new BlockCheckpoint(BigInteger.valueOf(1000), HASH_1));
+
+        assertThat(Files.readAllLines(store.getFile(), StandardCharsets.UTF_8),
+                contains("1000 830816f0c801bcabf919dfa1a90d7b9a4f867482cb4d18d0631a5aa6daefab6a"));
+    }
+
+    @Test
+    public void testLoadCorruptedCheckpoint() throws IOException {
+        Path file = tempDir.resolve("checkpoint");
+        Files.write(file, "1000".getBytes(StandardCharsets.UTF_8));
+        FileCheckpointStore store = new FileCheckpointStore(file);
+
+        assertThrows(IOException.class, store::load);
+    }
+
+    // Windows does not support flushing a directory.
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void testSaveFailsIfInterruptedWhileFlushingDirectory() {
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint"));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(ClosedByInterruptException.class,
+                    () -> store.save(new BlockCheckpoint(BigInteger.valueOf(1000), HASH_1)));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+}
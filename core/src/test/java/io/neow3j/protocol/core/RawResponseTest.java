@@ -37,6 +37,41 @@ public class RawResponseTest extends ResponseTester {
         assertThat(web3ClientVersion.getRawResponse(), nullValue());
     }
 
+    @Test
+    public void testRawResponseWithTrailingWhitespace() {
+        configureWeb3Service(true);
+        buildResponse(RAW_RESPONSE + "\n\n");
+        final NeoGetVersion web3ClientVersion = deserialiseResponse(NeoGetVersion.class);
+        assertThat(web3ClientVersion.getRawResponse(), is(RAW_RESPONSE + "\n\n"));
+        assertThat(web3ClientVersion.getResult().getNonce(), is(12345678L));
+    }
+
+    @Test
+    public void testRawResponseOfExcludedMethod() {
+        configureWeb3Service(true);
+        getNeow3jService().setRawResponseMethods("getblock");
+        final NeoGetVersion web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getRawResponse(), nullValue());
+        assertThat(web3ClientVersion.getResult().getNonce(), is(12345678L));
+    }
+
+    @Test
+    public void testRawResponseWithinSizeLimit() {
+        configureWeb3Service(true);
+        getNeow3jService().setMaxRawResponseSize(RAW_RESPONSE.length());
+        final NeoGetVersion web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getRawResponse(), is(RAW_RESPONSE));
+    }
+
+    @Test
+    public void testRawResponseExceedingSizeLimit() {
+        configureWeb3Service(true);
+        getNeow3jService().setMaxRawResponseSize(RAW_RESPONSE.length() - 1);
+        final NeoGetVersion web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getRawResponse(), nullValue());
+        assertThat(web3ClientVersion.getResult().getNonce(), is(12345678L));
+    }
+
     private NeoGetVersion deserialiseWeb3ClientVersionResponse() {
         buildResponse(RAW_RESPONSE);
 
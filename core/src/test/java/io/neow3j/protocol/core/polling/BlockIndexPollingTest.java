@@ -0,0 +1,124 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+public class BlockIndexPollingTest {
+
+    private static final long BLOCK_INTERVAL = 1000;
+    private static final long MAX_POLLING_INTERVAL = 400;
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private ScheduledExecutorService executor;
+
+    private final AtomicLong blockCount = new AtomicLong();
+    private final AtomicLong blockTime = new AtomicLong();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        neow3jService = mock(Neow3jService.class);
+        neow3j = Neow3j.build(neow3jService);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return neoBlockCount;
+        });
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(null, 0L, 0, null, null, blockTime.get(), blockCount.get() - 1, 0,
+                    "nonce", null, null, 1, null));
+            return neoGetBlock;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Observable<BigInteger> adaptivePolling() {
+        return Observable.create(emitter -> new BlockIndexPolling().runAdaptive(neow3j, emitter, executor,
+                BLOCK_INTERVAL, MAX_POLLING_INTERVAL));
+    }
+
+    private long blockCountRequests() {
+        return mockingDetails(neow3jService).getInvocations().stream()
+                .filter(invocation -> invocation.getArguments().length == 2 &&
+                        invocation.getArguments()[1] == NeoBlockCount.class)
+                .count();
+    }
+
+    @Test
+    public void testWaitsUntilNextBlockIsExpected() throws Exception {
+        blockCount.set(10);
+        blockTime.set(System.currentTimeMillis());
+        TestObserver<BigInteger> observer = adaptivePolling().test();
+
+        Thread.sleep(BLOCK_INTERVAL / 2);
+        assertThat(blockCountRequests(), is(1L));
+
+        blockTime.set(System.currentTimeMillis());
+        blockCount.set(12);
+        observer.awaitCount(2, () -> { }, 2 * BLOCK_INTERVAL);
+        observer.assertValues(BigInteger.valueOf(10), BigInteger.valueOf(11));
+        observer.dispose();
+    }
+
+    @Test
+    public void testBacksOffWhileBlockIsOverdue() throws Exception {
+        blockCount.set(10);
+        blockTime.set(System.currentTimeMillis() - 10 * BLOCK_INTERVAL);
+        TestObserver<BigInteger> observer = adaptivePolling().test();
+
+        // Polls after 0, 50, 150, 350, 750, 1150 and 1550 milliseconds.
+        Thread.sleep(1300);
+        observer.dispose();
+
+        observer.assertNoValues();
+        assertThat(blockCountRequests(), greaterThanOrEqualTo(4L));
+        assertThat(blockCountRequests(), lessThanOrEqualTo(7L));
+    }
+
+    @Test
+    public void testStopsPollingOnError() throws Exception {
+        blockCount.set(10);
+        blockTime.set(System.currentTimeMillis() - 10 * BLOCK_INTERVAL);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenThrow(new IOException("error"));
+
+        TestObserver<BigInteger> observer = adaptivePolling().test();
+
+        observer.await(1, TimeUnit.SECONDS);
+        observer.assertError(IOException.class);
+        Thread.sleep(200);
+        assertThat(blockCountRequests(), is(1L));
+    }
+
+}
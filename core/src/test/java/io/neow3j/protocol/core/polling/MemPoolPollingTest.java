@@ -0,0 +1,127 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoGetMemPool;
+import io.neow3j.protocol.core.response.NeoGetTransaction;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.types.Hash256;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.neow3j.utils.TestHashes.hash256;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MemPoolPollingTest {
+
+    private static final long POLLING_INTERVAL = 50;
+
+    private static final Hash256 TX_HASH_1 = hash256(1);
+    private static final Hash256 TX_HASH_2 = hash256(2);
+    private static final Hash256 TX_HASH_3 = hash256(3);
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private ScheduledExecutorService executor;
+
+    // The verified and unverified transactions in the memory pool.
+    private final AtomicReference<List<Hash256>> verified = new AtomicReference<>(emptyList());
+    private final AtomicReference<List<Hash256>> unverified = new AtomicReference<>(emptyList());
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        neow3jService = mock(Neow3jService.class);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        neow3j = Neow3j.build(neow3jService, new Neow3jConfig().setScheduledExecutorService(executor));
+        when(neow3jService.send(any(Request.class), eq(NeoGetMemPool.class))).thenAnswer(invocation -> {
+            NeoGetMemPool neoGetMemPool = new NeoGetMemPool();
+            neoGetMemPool.setResult(new NeoGetMemPool.MemPoolDetails(100L, verified.get(), unverified.get()));
+            return neoGetMemPool;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Observable<MemPoolChange> memPoolPolling() {
+        return Observable.create(emitter -> new MemPoolPolling().run(neow3j, emitter, executor, POLLING_INTERVAL));
+    }
+
+    @Test
+    public void testEmitsAddedAndRemovedTransactions() throws Exception {
+        verified.set(singletonList(TX_HASH_1));
+        unverified.set(singletonList(TX_HASH_2));
+        TestObserver<MemPoolChange> observer = memPoolPolling().test();
+        observer.awaitCount(1);
+
+        verified.set(asList(TX_HASH_2, TX_HASH_3));
+        unverified.set(emptyList());
+        observer.awaitCount(2);
+        Thread.sleep(3 * POLLING_INTERVAL);
+        observer.dispose();
+
+        // The transaction that moved from the unverified to the verified list did not change.
+        observer.assertValues(
+                new MemPoolChange(100L, asList(TX_HASH_1, TX_HASH_2), emptyList()),
+                new MemPoolChange(100L, singletonList(TX_HASH_3), singletonList(TX_HASH_1)));
+    }
+
+    @Test
+    public void testEmitsEmptyMemPoolOnFirstPoll() {
+        TestObserver<MemPoolChange> observer = memPoolPolling().test();
+
+        observer.awaitCount(1);
+        observer.dispose();
+
+        observer.assertValue(new MemPoolChange(100L, emptyList(), emptyList()));
+    }
+
+    @Test
+    public void testFetchesAddedTransactions() {
+        Transaction tx1 = new Transaction(TX_HASH_1, 0, 0, 0L, null, "0", "0", 0L, null, null, null, null);
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetTransaction.class))).thenAnswer(invocation -> {
+            Hash256 txHash = (Hash256) invocation.<Request<?, ?>>getArgument(0).getParams().get(0);
+            NeoGetTransaction response = new NeoGetTransaction();
+            if (txHash.equals(TX_HASH_1)) {
+                response.setResult(tx1);
+            } else {
+                response.setError(new Response.Error(-100, "Unknown transaction"));
+            }
+            return CompletableFuture.completedFuture(response);
+        });
+        verified.set(asList(TX_HASH_1, TX_HASH_2));
+
+        TestObserver<MemPoolChange> observer = neow3j.memPoolObservable(true, 2, POLLING_INTERVAL).test();
+        observer.awaitCount(1);
+        observer.dispose();
+
+        MemPoolChange change = observer.values().get(0);
+        assertThat(change.getAdded(), is(asList(TX_HASH_1, TX_HASH_2)));
+        // The second transaction left the memory pool before it was fetched.
+        assertThat(change.getAddedTransactions(), is(singletonList(tx1)));
+    }
+
+}
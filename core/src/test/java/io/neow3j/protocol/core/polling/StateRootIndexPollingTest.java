@@ -0,0 +1,112 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoGetStateHeight;
+import io.neow3j.protocol.core.response.NeoGetStateRoot;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+public class StateRootIndexPollingTest {
+
+    private static final long BLOCK_INTERVAL = 1000;
+    private static final long MAX_POLLING_INTERVAL = 400;
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private ScheduledExecutorService executor;
+
+    private final AtomicLong validatedRootIndex = new AtomicLong(10);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        neow3jService = mock(Neow3jService.class);
+        executor = Executors.newScheduledThreadPool(2);
+        neow3j = Neow3j.build(neow3jService, new Neow3jConfig()
+                .setPollingInterval(50)
+                .setScheduledExecutorService(executor));
+        when(neow3jService.send(any(Request.class), eq(NeoGetStateHeight.class))).thenAnswer(invocation -> {
+            NeoGetStateHeight neoGetStateHeight = new NeoGetStateHeight();
+            neoGetStateHeight.setResult(new NeoGetStateHeight.StateHeight(validatedRootIndex.get() + 1,
+                    validatedRootIndex.get()));
+            return neoGetStateHeight;
+        });
+        // Later state roots are returned faster, so that the responses arrive out of order.
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetStateRoot.class))).thenAnswer(invocation -> {
+            long index = (Long) invocation.<Request<?, ?>>getArgument(0).getParams().get(0);
+            NeoGetStateRoot neoGetStateRoot = new NeoGetStateRoot();
+            neoGetStateRoot.setResult(new NeoGetStateRoot.StateRoot(0, index, null, null));
+            CompletableFuture<NeoGetStateRoot> future = new CompletableFuture<>();
+            executor.schedule(() -> future.complete(neoGetStateRoot), (20 - index) * 5, TimeUnit.MILLISECONDS);
+            return future;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private long stateHeightRequests() {
+        return mockingDetails(neow3jService).getInvocations().stream()
+                .filter(invocation -> invocation.getArguments().length == 2 &&
+                        invocation.getArguments()[1] == NeoGetStateHeight.class)
+                .count();
+    }
+
+    @Test
+    public void testEmitsLatestAndNewStateRootsInOrder() {
+        TestObserver<NeoGetStateRoot> observer = neow3j.stateRootObservable(4).test();
+        observer.awaitCount(1);
+
+        validatedRootIndex.set(14);
+        observer.awaitCount(5);
+        observer.dispose();
+
+        List<Long> indexes = observer.values().stream()
+                .map(r -> r.getStateRoot().getIndex())
+                .collect(Collectors.toList());
+        assertThat(indexes, contains(10L, 11L, 12L, 13L, 14L));
+    }
+
+    @Test
+    public void testAdaptivePollingWaitsForNextStateRoot() throws Exception {
+        TestObserver<Long> observer = Observable.<Long>create(emitter -> new StateRootIndexPolling()
+                .runAdaptive(neow3j, emitter, executor, BLOCK_INTERVAL, MAX_POLLING_INTERVAL)).test();
+        observer.awaitCount(1);
+
+        Thread.sleep(BLOCK_INTERVAL / 2);
+        assertThat(stateHeightRequests(), is(1L));
+
+        validatedRootIndex.set(11);
+        observer.awaitCount(2, () -> { }, 2 * BLOCK_INTERVAL);
+        observer.dispose();
+        observer.assertValues(10L, 11L);
+        assertThat(stateHeightRequests(), lessThanOrEqualTo(5L));
+    }
+
+}
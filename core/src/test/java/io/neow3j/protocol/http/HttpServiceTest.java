@@ -1,13 +1,27 @@
 package io.neow3j.protocol.http;
 
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.cache.LruResponseCache;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoConnectionCount;
+import io.neow3j.protocol.core.response.NeoGetRawTransaction;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.InMemoryRpcMetrics;
+import io.neow3j.protocol.metrics.RpcCall;
+import io.neow3j.protocol.metrics.RpcMetricsSnapshot;
+import io.neow3j.types.Hash256;
 import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -15,21 +29,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class HttpServiceTest {
@@ -149,6 +170,397 @@ public class HttpServiceTest {
         assertThat(executor.isCalled(), is(true));
     }
 
+    @Test
+    public void testSendAsyncEnqueuesCall() throws Exception {
+        Response response = new Response.Builder()
+                .code(200)
+                .message("")
+                .body(ResponseBody.create("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}", JSON_MEDIA_TYPE))
+                .request(new okhttp3.Request.Builder()
+                        .url(HttpService.DEFAULT_URL)
+                        .build())
+                .protocol(Protocol.HTTP_1_1)
+                .build();
+
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Call call = Mockito.mock(Call.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        Mockito.doAnswer(invocation -> {
+            Callback callback = invocation.getArgument(0);
+            callback.onResponse(call, response);
+            return null;
+        }).when(call).enqueue(Mockito.any());
+
+        HttpService service = new HttpService(httpClient);
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+
+        NeoBlockCount blockCount = service.sendAsync(request, NeoBlockCount.class).get();
+        assertThat(blockCount.getBlockCount(), is(BigInteger.valueOf(1234)));
+        Mockito.verify(call, Mockito.never()).execute();
+    }
+
+    @Test
+    public void testSendAsyncFailure() {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Call call = Mockito.mock(Call.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        Mockito.doAnswer(invocation -> {
+            Callback callback = invocation.getArgument(0);
+            callback.onFailure(call, new IOException("Connection refused"));
+            return null;
+        }).when(call).enqueue(Mockito.any());
+
+        HttpService service = new HttpService(httpClient);
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> service.sendAsync(request, NeoBlockCount.class).get());
+        assertThat(thrown.getCause().getMessage(), is("Connection refused"));
+    }
+
+    @Test
+    public void testSendAsyncCancelsCall() {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Call call = Mockito.mock(Call.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+
+        HttpService service = new HttpService(httpClient);
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+
+        service.sendAsync(request, NeoBlockCount.class).cancel(true);
+        Mockito.verify(call).cancel();
+    }
+
+    @Test
+    public void testSendBatch() throws Exception {
+        // The responses are deliberately returned in a different order than the requests.
+        String content = "["
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":10},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}"
+                + "]";
+        BatchInterceptor interceptor = new BatchInterceptor(content);
+        HttpService service = new HttpService(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+
+        Request<String, NeoBlockCount> blockCountRequest = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+        blockCountRequest.setId(1);
+        Request<String, NeoConnectionCount> connectionCountRequest = new Request<>("getconnectioncount",
+                Collections.emptyList(), service, NeoConnectionCount.class);
+        connectionCountRequest.setId(2);
+
+        BatchResponse batchResponse = new BatchRequest(service)
+                .add(blockCountRequest)
+                .add(connectionCountRequest)
+                .send();
+
+        assertThat(interceptor.getRequestBody(), is("["
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":1},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getconnectioncount\",\"params\":[],\"id\":2}"
+                + "]"));
+        assertThat(batchResponse.size(), is(2));
+        assertThat(batchResponse.getResponse(blockCountRequest).getBlockCount(), is(BigInteger.valueOf(1234)));
+        assertThat(batchResponse.getResponse(connectionCountRequest).getCount(), is(10));
+        assertThat(batchResponse.getResponses().get(0), is(batchResponse.getResponse(blockCountRequest)));
+    }
+
+    @Test
+    public void testSendBatchAsync() throws Exception {
+        String content = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}]";
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(new BatchInterceptor(content))
+                .build());
+
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request.setId(1);
+
+        BatchResponse batchResponse = new BatchRequest(service).add(request).sendAsync().get();
+        assertThat(batchResponse.getResponse(request).getBlockCount(), is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testSendBatchWithMissingResponse() {
+        String content = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}]";
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(new BatchInterceptor(content))
+                .build());
+
+        Request<String, NeoBlockCount> request1 = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request1.setId(1);
+        Request<String, NeoBlockCount> request2 = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request2.setId(2);
+
+        ClientConnectionException thrown = assertThrows(ClientConnectionException.class,
+                () -> new BatchRequest(service).add(request1).add(request2).send());
+        assertThat(thrown.getMessage(), is("The batch response is missing the response to the request with id 2."));
+    }
+
+    @Test
+    public void testBatchWithDuplicateRequestId() {
+        Request<String, NeoBlockCount> request1 = new Request<>("getblockcount", Collections.emptyList(),
+                httpService, NeoBlockCount.class);
+        Request<String, NeoBlockCount> request2 = new Request<>("getblockcount", Collections.emptyList(),
+                httpService, NeoBlockCount.class);
+        request2.setId(request1.getId());
+
+        BatchRequest batchRequest = new BatchRequest(httpService).add(request1);
+        assertThrows(IllegalArgumentException.class, () -> batchRequest.add(request2));
+    }
+
+    @Test
+    public void testResponseCache() throws Exception {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"00d1\"}";
+        BatchInterceptor interceptor = new BatchInterceptor(content);
+        HttpService service = new HttpService(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+        LruResponseCache cache = new LruResponseCache();
+        service.setResponseCache(cache);
+
+        Hash256 txHash = new Hash256("0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6");
+        Neow3j neow3j = Neow3j.build(service);
+        NeoGetRawTransaction first = neow3j.getRawTransaction(txHash).send();
+        NeoGetRawTransaction second = neow3j.getRawTransaction(txHash).send();
+        Request<?, NeoGetRawTransaction> third = neow3j.getRawTransaction(txHash);
+        NeoGetRawTransaction thirdResponse = third.sendAsync().get();
+
+        assertThat(interceptor.getRequestCount(), is(1));
+        assertThat(first.getRawTransaction(), is("00d1"));
+        assertThat(second.getRawTransaction(), is("00d1"));
+        assertThat(thirdResponse.getRawTransaction(), is("00d1"));
+        assertThat(thirdResponse.getId(), is(third.getId()));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void testResponseCacheIgnoresMutableRequestsAndErrors() throws Exception {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-100,\"message\":\"Unknown " +
+                "transaction\"}}";
+        BatchInterceptor interceptor = new BatchInterceptor(content);
+        HttpService service = new HttpService(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+        LruResponseCache cache = new LruResponseCache();
+        service.setResponseCache(cache);
+
+        Hash256 txHash = new Hash256("0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6");
+        Neow3j neow3j = Neow3j.build(service);
+        neow3j.getRawTransaction(txHash).send();
+        neow3j.getRawTransaction(txHash).send();
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        assertThat(interceptor.getRequestCount(), is(4));
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(cache.getHitCount(), is(0L));
+        assertThat(cache.getMissCount(), is(2L));
+    }
+
+    @Test
+    public void testCoalescesIdenticalRequestsInFlight() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    calls.incrementAndGet();
+                    try {
+                        latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return new BatchInterceptor("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}")
+                            .intercept(chain);
+                })
+                .build());
+        service.setCoalescedMethods("getblockcount");
+        Neow3j neow3j = Neow3j.build(service);
+
+        List<CompletableFuture<NeoBlockCount>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(neow3j.getBlockCount().sendAsync());
+        }
+        // Cancelling one of the callers does not affect the others.
+        futures.get(0).cancel(true);
+        latch.countDown();
+
+        for (int i = 1; i < 5; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getBlockCount(), is(BigInteger.valueOf(1234)));
+        }
+        assertThat(calls.get(), is(1));
+
+        // Requests sent after the response was received go over the wire again.
+        assertThat(neow3j.getBlockCount().send().getBlockCount(), is(BigInteger.valueOf(1234)));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void testCoalescedRequestFailure() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    try {
+                        latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("Connection refused");
+                })
+                .build());
+        service.setCoalescedMethods(HttpService.DEFAULT_COALESCED_METHODS);
+        Neow3j neow3j = Neow3j.build(service);
+
+        CompletableFuture<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        CompletableFuture<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+        latch.countDown();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause().getMessage(), is("Connection refused"));
+        thrown = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause().getMessage(), is("Connection refused"));
+    }
+
+    @Test
+    public void testDoesNotCoalesceOtherMethods() throws Exception {
+        BatchInterceptor interceptor = new BatchInterceptor("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":10}");
+        HttpService service = new HttpService(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+        service.setCoalescedMethods("getblockcount");
+        Neow3j neow3j = Neow3j.build(service);
+
+        CompletableFuture<NeoConnectionCount> first = neow3j.getConnectionCount().sendAsync();
+        CompletableFuture<NeoConnectionCount> second = neow3j.getConnectionCount().sendAsync();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(interceptor.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void testMetricsListener() throws Exception {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(new BatchInterceptor(content))
+                .build());
+        InMemoryRpcMetrics metrics = new InMemoryRpcMetrics();
+        service.setMetricsListener(metrics);
+        Neow3j neow3j = Neow3j.build(service);
+
+        Request<?, NeoBlockCount> request = neow3j.getBlockCount();
+        assertThat(request.send().getBlockCount(), is(BigInteger.valueOf(1234)));
+        assertThat(neow3j.getBlockCount().sendAsync().get().getBlockCount(), is(BigInteger.valueOf(1234)));
+
+        RpcMetricsSnapshot.MethodStatistics statistics = metrics.snapshot().getMethod("getblockcount");
+        assertThat(statistics.getCalls(), is(2L));
+        assertThat(statistics.getFailures(), is(0L));
+        assertThat(statistics.getRequestBytes(),
+                is(2L * ObjectMapperFactory.getObjectMapper().writeValueAsString(request).length()));
+        assertThat(statistics.getResponseBytes(), is(2L * content.length()));
+        assertThat(statistics.getErrorCodes().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testMetricsListenerReportsErrors() throws Exception {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-100,\"message\":\"Unknown " +
+                "transaction\"}}";
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(new BatchInterceptor(content))
+                .build());
+        List<RpcCall> calls = new CopyOnWriteArrayList<>();
+        service.setMetricsListener(calls::add);
+        Neow3j neow3j = Neow3j.build(service);
+
+        Hash256 txHash = new Hash256("0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6");
+        neow3j.getRawTransaction(txHash).send();
+        neow3j.getRawTransaction(txHash).sendAsync().get();
+
+        assertThat(calls.size(), is(2));
+        for (RpcCall call : calls) {
+            assertThat(call.getMethod(), is("getrawtransaction"));
+            assertThat(call.getError().getCode(), is(-100));
+            assertThat(call.isError(), is(true));
+        }
+    }
+
+    @Test
+    public void testMetricsListenerReportsFailures() {
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    throw new IOException("Connection refused");
+                })
+                .build());
+        List<RpcCall> calls = new CopyOnWriteArrayList<>();
+        service.setMetricsListener(calls::add);
+        Neow3j neow3j = Neow3j.build(service);
+
+        assertThrows(IOException.class, () -> neow3j.getBlockCount().send());
+        assertThrows(ExecutionException.class, () -> neow3j.getBlockCount().sendAsync().get());
+
+        assertThat(calls.size(), is(2));
+        for (RpcCall call : calls) {
+            assertThat(call.getFailure().getMessage(), is("Connection refused"));
+            assertThat(call.getResponseSize(), is(0L));
+        }
+    }
+
+    @Test
+    public void testMetricsListenerReportsBatches() throws Exception {
+        String content = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}]";
+        HttpService service = new HttpService(new OkHttpClient.Builder()
+                .addInterceptor(new BatchInterceptor(content))
+                .build());
+        List<RpcCall> calls = new CopyOnWriteArrayList<>();
+        service.setMetricsListener(calls::add);
+
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request.setId(1);
+        new BatchRequest(service).add(request).send();
+        new BatchRequest(service).add(request).sendAsync().get();
+
+        assertThat(calls.size(), is(2));
+        assertThat(calls.get(0).getMethod(), is(RpcCall.BATCH));
+        assertThat(calls.get(1).getMethod(), is(RpcCall.BATCH));
+        assertThat(calls.get(0).getResponseSize(), is((long) content.length()));
+    }
+
+    private static class BatchInterceptor implements Interceptor {
+
+        private final String content;
+        private String requestBody;
+        private final AtomicInteger requestCount = new AtomicInteger();
+
+        BatchInterceptor(String content) {
+            this.content = content;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Chain chain) throws IOException {
+            Buffer buffer = new Buffer();
+            chain.request().body().writeTo(buffer);
+            requestBody = buffer.readUtf8();
+            requestCount.incrementAndGet();
+
+            return new Response.Builder()
+                    .body(ResponseBody.create(content, JSON_MEDIA_TYPE))
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("")
+                    .build();
+        }
+
+        String getRequestBody() {
+            return requestBody;
+        }
+
+        int getRequestCount() {
+            return requestCount.get();
+        }
+
+    }
+
     private class TestExecutorService implements ExecutorService {
 
         private boolean isCalled = false;
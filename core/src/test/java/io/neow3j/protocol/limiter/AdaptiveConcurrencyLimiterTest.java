@@ -0,0 +1,137 @@
+package io.neow3j.protocol.limiter;
+
+import io.neow3j.protocol.exceptions.ConcurrencyLimitExceededException;
+import io.neow3j.protocol.limiter.AdaptiveConcurrencyLimiter.Permit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static List<Permit> acquire(AdaptiveConcurrencyLimiter limiter, int count) {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire().join());
+        }
+        return permits;
+    }
+
+    @Test
+    public void testIncreasesLimitWhileLatencyIsStable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        // The first request started with 1 of 4 slots in use. The others started with at least half of the limit in
+        // use, so each of them increases the limit.
+        for (Permit permit : acquire(limiter, 4)) {
+            permit.release(FAST, false);
+        }
+        assertThat(limiter.getLimit(), is(7));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testDoesNotIncreaseLimitIfItIsNotUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        for (int i = 0; i < 10; i++) {
+            acquire(limiter, 1).get(0).release(FAST, false);
+        }
+        assertThat(limiter.getLimit(), is(10));
+    }
+
+    @Test
+    public void testDecreasesLimitOnHighLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        acquire(limiter, 1).get(0).release(FAST, false);
+        acquire(limiter, 1).get(0).release(SLOW, false);
+        assertThat(limiter.getLimit(), is(9));
+    }
+
+    @Test
+    public void testDecreasesLimitOncePerRoundTrip() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        acquire(limiter, 1).get(0).release(FAST, false);
+        // All requests were in flight during the same latency spike. Only the first one decreases the limit.
+        for (Permit permit : acquire(limiter, 5)) {
+            permit.release(SLOW, false);
+        }
+        assertThat(limiter.getLimit(), is(9));
+
+        // A request started after the decrease can decrease the limit again.
+        acquire(limiter, 1).get(0).release(SLOW, false);
+        assertThat(limiter.getLimit(), is(8));
+    }
+
+    @Test
+    public void testDecreasesLimitOnDroppedRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10).setBackoffRatio(0.5).setMinLimit(2);
+        acquire(limiter, 1).get(0).release(FAST, true);
+        assertThat(limiter.getLimit(), is(5));
+        acquire(limiter, 1).get(0).release(FAST, true);
+        acquire(limiter, 1).get(0).release(FAST, true);
+        assertThat(limiter.getLimit(), is(2));
+    }
+
+    @Test
+    public void testQueuesRequestsExceedingTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2).setMaxLimit(2);
+        List<Permit> permits = acquire(limiter, 2);
+        CompletableFuture<Permit> queued = limiter.acquire();
+
+        assertFalse(queued.isDone());
+        assertThat(limiter.getQueueSize(), is(1));
+
+        permits.get(0).release(FAST, false);
+        assertTrue(queued.isDone());
+        assertThat(limiter.getQueueSize(), is(0));
+        assertThat(limiter.getInFlight(), is(2));
+    }
+
+    @Test
+    public void testRejectsRequestsIfQueueIsFull() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxQueueSize(1);
+        acquire(limiter, 1);
+        CompletableFuture<Permit> queued = limiter.acquire();
+        CompletableFuture<Permit> rejected = limiter.acquire();
+
+        assertFalse(queued.isDone());
+        ExecutionException thrown = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(thrown.getCause(), instanceOf(ConcurrencyLimitExceededException.class));
+        assertThat(limiter.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    public void testPassesOnSlotOfCancelledRequest() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxLimit(1);
+        Permit permit = acquire(limiter, 1).get(0);
+        CompletableFuture<Permit> cancelled = limiter.acquire();
+        CompletableFuture<Permit> waiting = limiter.acquire();
+        cancelled.cancel(true);
+
+        permit.release(FAST, false);
+        assertTrue(waiting.isDone());
+        assertThat(limiter.getInFlight(), is(1));
+    }
+
+    @Test
+    public void testReleasingTwiceHasNoEffect() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5);
+        List<Permit> permits = acquire(limiter, 2);
+        permits.get(0).release(false);
+        permits.get(0).release(false);
+        assertThat(limiter.getInFlight(), is(1));
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.neow3j.protocol.limiter;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConcurrencyLimitedServiceTest {
+
+    private final Neow3jService delegate = mock(Neow3jService.class);
+
+    private Request<?, NeoBlockCount> request() {
+        return new Request<>("getblockcount", Collections.emptyList(), delegate, NeoBlockCount.class);
+    }
+
+    @Test
+    public void testSendAsyncWaitsForFreeSlot() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxLimit(1);
+        ConcurrencyLimitedService service = new ConcurrencyLimitedService(delegate, limiter);
+        CompletableFuture<NeoBlockCount> first = new CompletableFuture<>();
+        CompletableFuture<NeoBlockCount> second = new CompletableFuture<>();
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(first, second);
+
+        CompletableFuture<NeoBlockCount> firstResult = service.sendAsync(request(), NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> secondResult = service.sendAsync(request(), NeoBlockCount.class);
+
+        verify(delegate, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+        assertThat(limiter.getInFlight(), is(1));
+        assertThat(limiter.getQueueSize(), is(1));
+
+        NeoBlockCount response = new NeoBlockCount();
+        first.complete(response);
+        assertThat(firstResult.get(), is(sameInstance(response)));
+        verify(delegate, times(2)).sendAsync(any(), eq(NeoBlockCount.class));
+        assertFalse(secondResult.isDone());
+
+        second.complete(response);
+        assertTrue(secondResult.isDone());
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testCancelledRequestLeavesQueue() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxLimit(1);
+        ConcurrencyLimitedService service = new ConcurrencyLimitedService(delegate, limiter);
+        CompletableFuture<NeoBlockCount> first = new CompletableFuture<>();
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(first);
+
+        service.sendAsync(request(), NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> waiting = service.sendAsync(request(), NeoBlockCount.class);
+        assertThat(limiter.getQueueSize(), is(1));
+
+        waiting.cancel(false);
+        assertThat(limiter.getQueueSize(), is(0));
+
+        first.complete(new NeoBlockCount());
+        verify(delegate, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testSendReleasesSlot() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxLimit(1);
+        ConcurrencyLimitedService service = new ConcurrencyLimitedService(delegate, limiter);
+        NeoBlockCount response = new NeoBlockCount();
+        when(delegate.send(any(), eq(NeoBlockCount.class))).thenReturn(response).thenThrow(new IOException());
+
+        assertThat(service.send(request(), NeoBlockCount.class), is(sameInstance(response)));
+        assertThrows(IOException.class, () -> service.send(request(), NeoBlockCount.class));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testDroppedRequestDecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        ConcurrencyLimitedService service = new ConcurrencyLimitedService(delegate, limiter);
+        CompletableFuture<NeoBlockCount> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("timeout"));
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(failed);
+
+        CompletableFuture<NeoBlockCount> result = service.sendAsync(request(), NeoBlockCount.class);
+
+        assertTrue(result.isCompletedExceptionally());
+        assertThat(limiter.getLimit(), is(9));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testRejectsIfQueueIsFull() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxQueueSize(0);
+        ConcurrencyLimitedService service = new ConcurrencyLimitedService(delegate, limiter);
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(new CompletableFuture<>());
+
+        service.sendAsync(request(), NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> rejected = service.sendAsync(request(), NeoBlockCount.class);
+
+        assertTrue(rejected.isCompletedExceptionally());
+        verify(delegate, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+        verify(delegate, never()).send(any(), any());
+    }
+
+}
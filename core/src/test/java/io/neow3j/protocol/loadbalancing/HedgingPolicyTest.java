@@ -0,0 +1,76 @@
+package io.neow3j.protocol.loadbalancing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void testDefaultMethods() {
+        HedgingPolicy policy = new HedgingPolicy();
+        assertTrue(policy.isHedged("getblock"));
+        assertTrue(policy.isHedged("getstorage"));
+        assertFalse(policy.isHedged("invokefunction"));
+        assertFalse(policy.isHedged("invokescript"));
+        assertFalse(policy.isHedged("sendrawtransaction"));
+        assertFalse(policy.isHedged("submitblock"));
+    }
+
+    @Test
+    public void testStateChangingMethodsCannotBeHedged() {
+        HedgingPolicy policy = new HedgingPolicy();
+        assertThrows(IllegalArgumentException.class, () -> policy.setMethods("getblock", "sendrawtransaction"));
+        assertThrows(IllegalArgumentException.class, () -> policy.setMethods("submitblock"));
+        assertTrue(policy.isHedged("getblock"));
+    }
+
+    @Test
+    public void testInitialDelayUntilEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy().setInitialDelay(80);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES - 1; i++) {
+            policy.recordLatency("getblock", TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertThat(policy.getDelay("getblock"), is(80L));
+        assertThat(policy.getDelay("getstorage"), is(80L));
+    }
+
+    @Test
+    public void testPercentileDelay() {
+        HedgingPolicy policy = new HedgingPolicy().setPercentile(95).setMinDelay(0);
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency("getblock", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(policy.getDelay("getblock"), is(95L));
+
+        policy.setPercentile(50);
+        assertThat(policy.getDelay("getblock"), is(50L));
+    }
+
+    @Test
+    public void testMinDelay() {
+        HedgingPolicy policy = new HedgingPolicy().setMinDelay(20);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.recordLatency("getblock", TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertThat(policy.getDelay("getblock"), is(20L));
+    }
+
+    @Test
+    public void testCounters() {
+        HedgingPolicy policy = new HedgingPolicy();
+        policy.hedgeFired("getblock");
+        policy.hedgeFired("getblock");
+        policy.hedgeWon("getblock");
+        assertThat(policy.getHedgesFired("getblock"), is(2L));
+        assertThat(policy.getHedgesWon("getblock"), is(1L));
+        assertThat(policy.getHedgesFired("getstorage"), is(0L));
+    }
+
+}
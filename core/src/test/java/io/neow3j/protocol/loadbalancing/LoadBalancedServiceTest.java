@@ -0,0 +1,325 @@
+package io.neow3j.protocol.loadbalancing;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetTransactionHeight;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.protocol.limiter.AdaptiveConcurrencyLimiter;
+import io.neow3j.protocol.limiter.ConcurrencyLimitedService;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.Arrays.asList;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadBalancedServiceTest {
+
+    private static final String TX_HASH = "0x830816f0c801bcabf919dfa1a90d7b9a4f867482cb4d18d0631a5aa6daefab6a";
+    private static final String CONTRACT_HASH = "ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5";
+    private static final String SESSION_ID = "a7b35b13-bdfc-4ab3-a398-88a9db9da4fe";
+
+    @RegisterExtension
+    static WireMockExtension node1 = WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    @RegisterExtension
+    static WireMockExtension node2 = WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private ScheduledExecutorService executor;
+    private LoadBalancedService service;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (service != null) {
+            service.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private LoadBalancedService createService(LoadBalancingPolicy policy) {
+        service = new LoadBalancedService(
+                asList(new HttpService(node1.baseUrl()), new HttpService(node2.baseUrl())), policy, executor);
+        return service;
+    }
+
+    private static void stubMethod(WireMockExtension node, String method, String result) {
+        node.stubFor(post(anyUrl())
+                .withRequestBody(containing("\"method\":\"" + method + "\""))
+                .willReturn(aResponse().withStatus(200).withBody(
+                        "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + result + "}")));
+    }
+
+    private static void stubFailure(WireMockExtension node) {
+        node.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(500)));
+    }
+
+    private static int requestCount(WireMockExtension node) {
+        return node.findAll(postRequestedFor(anyUrl())).size();
+    }
+
+    // Always selects the first endpoint that is eligible.
+    private static LoadBalancingPolicy firstEndpoint() {
+        return endpoints -> endpoints.get(0);
+    }
+
+    @Test
+    public void testSpreadsRequestsOverEndpoints() throws IOException {
+        stubMethod(node1, "getblockcount", "1000");
+        stubMethod(node2, "getblockcount", "1000");
+        Neow3j neow3j = Neow3j.build(createService(new LeastOutstandingRequestsPolicy()));
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(neow3j.getBlockCount().send().getBlockCount(), is(BigInteger.valueOf(1000)));
+        }
+        assertThat(requestCount(node1), greaterThan(0));
+        assertThat(requestCount(node2), greaterThan(0));
+        assertThat(service.getEndpoints().get(0).getOutstandingRequests(), is(0));
+        assertThat(service.getEndpoints().get(1).getOutstandingRequests(), is(0));
+    }
+
+    @Test
+    public void testEwmaLatencyPolicy() throws IOException {
+        stubMethod(node1, "getblockcount", "1000");
+        stubMethod(node2, "getblockcount", "1000");
+        Neow3j neow3j = Neow3j.build(createService(new EwmaLatencyPolicy()));
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(neow3j.getBlockCount().send().getBlockCount(), is(BigInteger.valueOf(1000)));
+        }
+        assertThat(requestCount(node1) + requestCount(node2), is(20));
+    }
+
+    @Test
+    public void testFailsOverAndEjectsUnhealthyEndpoint() throws IOException {
+        stubFailure(node1);
+        stubMethod(node2, "getblockcount", "1000");
+        createService(firstEndpoint()).setFailureThreshold(3).setEjectionTime(60_000);
+        Neow3j neow3j = Neow3j.build(service);
+
+        for (int i = 0; i < 10; i++) {
+            NeoBlockCount blockCount = neow3j.getBlockCount().send();
+            assertThat(blockCount.getBlockCount(), is(BigInteger.valueOf(1000)));
+        }
+        assertThat(requestCount(node1), is(3));
+        assertThat(requestCount(node2), is(10));
+        assertFalse(service.getEndpoints().get(0).isHealthy());
+        assertTrue(service.getEndpoints().get(1).isHealthy());
+    }
+
+    @Test
+    public void testSendAsyncFailsOver() throws Exception {
+        stubFailure(node1);
+        stubMethod(node2, "getblockcount", "1000");
+        Neow3j neow3j = Neow3j.build(createService(firstEndpoint()));
+
+        NeoBlockCount blockCount = neow3j.getBlockCount().sendAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(blockCount.getBlockCount(), is(BigInteger.valueOf(1000)));
+        assertThat(requestCount(node1), is(1));
+        assertThat(service.getEndpoints().get(0).getConsecutiveFailures(), is(1));
+        assertThat(service.getEndpoints().get(0).getOutstandingRequests(), is(0));
+    }
+
+    @Test
+    public void testFailsIfAllEndpointsFail() {
+        stubFailure(node1);
+        stubFailure(node2);
+        Neow3j neow3j = Neow3j.build(createService(firstEndpoint()));
+
+        assertThrows(IOException.class, () -> neow3j.getBlockCount().send());
+        assertThat(requestCount(node1), is(1));
+        assertThat(requestCount(node2), is(1));
+    }
+
+    @Test
+    public void testReinstatesEndpointAfterSuccessfulProbe() throws IOException {
+        stubFailure(node1);
+        stubMethod(node2, "getblockcount", "1000");
+        createService(firstEndpoint()).setFailureThreshold(1).setEjectionTime(100);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getBlockCount().send();
+        assertFalse(service.getEndpoints().get(0).isHealthy());
+
+        node1.resetAll();
+        stubMethod(node1, "getblockcount", "1001");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> service.getEndpoints().get(0).isHealthy());
+
+        assertThat(neow3j.getBlockCount().send().getBlockCount(), is(BigInteger.valueOf(1001)));
+    }
+
+    @Test
+    public void testLocalRejectionDoesNotCountAsFailure() throws Exception {
+        node1.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withFixedDelay(500)
+                .withBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}")));
+        stubMethod(node2, "getblockcount", "1001");
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1).setMaxLimit(1).setMaxQueueSize(0);
+        service = new LoadBalancedService(asList(
+                new ConcurrencyLimitedService(new HttpService(node1.baseUrl()), limiter),
+                new HttpService(node2.baseUrl())), firstEndpoint(), executor).setFailureThreshold(1);
+        Neow3j neow3j = Neow3j.build(service);
+
+        // Occupies the only slot of node1, so that the following requests are rejected locally.
+        CompletableFuture<NeoBlockCount> slow = neow3j.getBlockCount().sendAsync();
+        for (int i = 0; i < 3; i++) {
+            assertThat(neow3j.getBlockCount().send().getBlockCount(), is(BigInteger.valueOf(1001)));
+        }
+
+        assertThat(slow.get(5, TimeUnit.SECONDS).getBlockCount(), is(BigInteger.valueOf(1000)));
+        assertTrue(service.getEndpoints().get(0).isHealthy());
+        assertThat(service.getEndpoints().get(0).getConsecutiveFailures(), is(0));
+        assertThat(requestCount(node1), is(1));
+        assertThat(requestCount(node2), is(3));
+    }
+
+    @Test
+    public void testTransactionStickiness() throws IOException {
+        stubMethod(node1, "sendrawtransaction", "{\"hash\":\"" + TX_HASH + "\"}");
+        stubMethod(node1, "gettransactionheight", "1223");
+        stubMethod(node2, "gettransactionheight", "1223");
+        // Alternates between the endpoints, so that without stickiness the second request would go to node2.
+        AtomicInteger counter = new AtomicInteger();
+        Neow3j neow3j = Neow3j.build(createService(
+                endpoints -> endpoints.get(counter.getAndIncrement() % endpoints.size())));
+
+        NeoSendRawTransaction sendRawTransaction = neow3j.sendRawTransaction("00").send();
+        Hash256 txHash = sendRawTransaction.getSendRawTransaction().getHash();
+        NeoGetTransactionHeight height = neow3j.getTransactionHeight(txHash).send();
+
+        assertThat(height.getHeight(), is(BigInteger.valueOf(1223)));
+        assertThat(requestCount(node1), is(2));
+        assertThat(requestCount(node2), is(0));
+    }
+
+    @Test
+    public void testSessionStickiness() throws IOException {
+        stubMethod(node1, "invokefunction", "{\"script\":\"00\",\"state\":\"HALT\",\"gasconsumed\":\"1\","
+                + "\"stack\":[],\"session\":\"" + SESSION_ID + "\"}");
+        stubMethod(node1, "traverseiterator", "[]");
+        stubMethod(node1, "terminatesession", "true");
+        stubMethod(node2, "traverseiterator", "[]");
+        stubMethod(node2, "terminatesession", "true");
+        // Alternates between the endpoints, so that without stickiness the session requests would go to node2.
+        AtomicInteger counter = new AtomicInteger();
+        Neow3j neow3j = Neow3j.build(createService(
+                endpoints -> endpoints.get(counter.getAndIncrement() % endpoints.size())));
+
+        String sessionId = neow3j.invokeFunction(new Hash160(CONTRACT_HASH), "tokens").send()
+                .getInvocationResult().getSessionId();
+        neow3j.traverseIterator(sessionId, "iteratorId", 10).send();
+        neow3j.traverseIterator(sessionId, "iteratorId", 10).send();
+        neow3j.terminateSession(sessionId).send();
+
+        assertThat(requestCount(node1), is(4));
+        assertThat(requestCount(node2), is(0));
+    }
+
+    @Test
+    public void testHedgesSlowRequest() throws IOException {
+        node1.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withFixedDelay(3000)
+                .withBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}")));
+        stubMethod(node2, "getblockcount", "1001");
+        HedgingPolicy hedgingPolicy = new HedgingPolicy().setInitialDelay(50);
+        createService(firstEndpoint()).setHedgingPolicy(hedgingPolicy);
+        Neow3j neow3j = Neow3j.build(service);
+
+        long start = System.currentTimeMillis();
+        NeoBlockCount blockCount = neow3j.getBlockCount().send();
+
+        assertThat(blockCount.getBlockCount(), is(BigInteger.valueOf(1001)));
+        assertThat(System.currentTimeMillis() - start, lessThan(3000L));
+        assertThat(hedgingPolicy.getHedgesFired("getblockcount"), is(1L));
+        assertThat(hedgingPolicy.getHedgesWon("getblockcount"), is(1L));
+        // The slow original request is cancelled once the hedged request answered.
+        await().atMost(1, TimeUnit.SECONDS).until(() -> service.getEndpoints().get(0).getOutstandingRequests() == 0);
+    }
+
+    @Test
+    public void testRecordsLatencyOfCancelledOriginalRequest() throws IOException {
+        node1.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withFixedDelay(3000)
+                .withBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1000}")));
+        stubMethod(node2, "getblockcount", "1001");
+        HedgingPolicy hedgingPolicy = new HedgingPolicy().setInitialDelay(20);
+        createService(firstEndpoint()).setHedgingPolicy(hedgingPolicy);
+        Neow3j neow3j = Neow3j.build(service);
+
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            neow3j.getBlockCount().send();
+        }
+
+        assertThat(hedgingPolicy.getHedgesWon("getblockcount"), is((long) HedgingPolicy.MIN_SAMPLES));
+        // The delay is based on the samples of the cancelled requests instead of the initial delay.
+        hedgingPolicy.setInitialDelay(60_000);
+        assertThat(hedgingPolicy.getDelay("getblockcount"), lessThan(3000L));
+    }
+
+    @Test
+    public void testDoesNotHedgeFastRequest() throws Exception {
+        stubMethod(node1, "getblockcount", "1000");
+        stubMethod(node2, "getblockcount", "1001");
+        HedgingPolicy hedgingPolicy = new HedgingPolicy().setInitialDelay(2000);
+        createService(firstEndpoint()).setHedgingPolicy(hedgingPolicy);
+        Neow3j neow3j = Neow3j.build(service);
+
+        NeoBlockCount blockCount = neow3j.getBlockCount().sendAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(blockCount.getBlockCount(), is(BigInteger.valueOf(1000)));
+        assertThat(hedgingPolicy.getHedgesFired("getblockcount"), is(0L));
+        assertThat(requestCount(node2), is(0));
+    }
+
+    @Test
+    public void testNeverHedgesSendRawTransaction() throws IOException {
+        node1.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withFixedDelay(300)
+                .withBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"hash\":\"" + TX_HASH + "\"}}")));
+        HedgingPolicy hedgingPolicy = new HedgingPolicy().setInitialDelay(10).setMinDelay(0);
+        createService(firstEndpoint()).setHedgingPolicy(hedgingPolicy);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.sendRawTransaction("00").send();
+
+        assertThat(hedgingPolicy.getHedgesFired("sendrawtransaction"), is(0L));
+        assertThat(requestCount(node1), is(1));
+        assertThat(requestCount(node2), is(0));
+    }
+
+    @Test
+    public void testCloseDoesNotShutDownSuppliedExecutor() throws IOException {
+        createService(firstEndpoint()).close();
+        service = null;
+
+        assertFalse(executor.isShutdown());
+    }
+
+}
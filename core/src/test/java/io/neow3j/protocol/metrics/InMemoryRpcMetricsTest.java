@@ -0,0 +1,97 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class InMemoryRpcMetricsTest {
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    public void testAggregatesPerMethod() {
+        InMemoryRpcMetrics metrics = new InMemoryRpcMetrics();
+        metrics.onCall(new RpcCall("getblock", 100, 2000, millis(10), millis(5), null, null));
+        metrics.onCall(new RpcCall("getblock", 100, 4000, millis(30), millis(15), null, null));
+        metrics.onCall(new RpcCall("getblockcount", 50, 40, millis(1), 0, null, null));
+
+        RpcMetricsSnapshot snapshot = metrics.snapshot();
+        RpcMetricsSnapshot.MethodStatistics getBlock = snapshot.getMethod("getblock");
+
+        assertThat(snapshot.getMethods().size(), is(2));
+        assertThat(getBlock.getCalls(), is(2L));
+        assertThat(getBlock.getFailures(), is(0L));
+        assertThat(getBlock.getRequestBytes(), is(200L));
+        assertThat(getBlock.getResponseBytes(), is(6000L));
+        assertThat(getBlock.getNetworkTime(), is(millis(40)));
+        assertThat(getBlock.getDeserializationTime(), is(millis(20)));
+        assertThat(getBlock.getMeanNetworkTimeMillis(), is(20.0));
+        assertThat(getBlock.getMeanDeserializationTimeMillis(), is(10.0));
+        assertThat(snapshot.getMethod("getblockcount").getCalls(), is(1L));
+        assertThat(snapshot.getMethod("getversion"), is(nullValue()));
+    }
+
+    @Test
+    public void testErrorsAndFailures() {
+        InMemoryRpcMetrics metrics = new InMemoryRpcMetrics();
+        metrics.onCall(new RpcCall("getrawtransaction", 100, 80, millis(1), 0,
+                new Response.Error(-100, "Unknown transaction"), null));
+        metrics.onCall(new RpcCall("getrawtransaction", 100, 80, millis(1), 0,
+                new Response.Error(-100, "Unknown transaction"), null));
+        metrics.onCall(new RpcCall("getrawtransaction", 100, 0, millis(1), 0, null,
+                new IOException("Connection refused")));
+
+        RpcMetricsSnapshot.MethodStatistics statistics = metrics.snapshot().getMethod("getrawtransaction");
+        assertThat(statistics.getCalls(), is(3L));
+        assertThat(statistics.getFailures(), is(1L));
+        assertThat(statistics.getErrorCodes().get(-100), is(2L));
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        InMemoryRpcMetrics metrics = new InMemoryRpcMetrics();
+        for (int i = 0; i < 98; i++) {
+            metrics.onCall(new RpcCall("getblock", 0, 0, millis(3), 0, null, null));
+        }
+        metrics.onCall(new RpcCall("getblock", 0, 0, millis(100), 0, null, null));
+        metrics.onCall(new RpcCall("getblock", 0, 0, millis(100_000), 0, null, null));
+
+        RpcMetricsSnapshot.MethodStatistics statistics = metrics.snapshot().getMethod("getblock");
+        long[] histogram = statistics.getLatencyHistogram();
+        assertThat(histogram.length, is(InMemoryRpcMetrics.BUCKET_COUNT));
+        assertThat(histogram[2], is(98L));
+        assertThat(histogram[7], is(1L));
+        assertThat(histogram[InMemoryRpcMetrics.BUCKET_COUNT - 1], is(1L));
+        assertThat(statistics.getLatencyPercentileMillis(50), is(4L));
+        assertThat(statistics.getLatencyPercentileMillis(99), is(128L));
+        assertThat(statistics.getLatencyPercentileMillis(100), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testBucketIndex() {
+        assertThat(InMemoryRpcMetrics.bucketIndex(0), is(0));
+        assertThat(InMemoryRpcMetrics.bucketIndex(millis(1)), is(0));
+        assertThat(InMemoryRpcMetrics.bucketIndex(millis(1) + 1), is(1));
+        assertThat(InMemoryRpcMetrics.bucketIndex(millis(2)), is(1));
+        assertThat(InMemoryRpcMetrics.bucketIndex(millis(1024)), is(10));
+        assertThat(InMemoryRpcMetrics.bucketIndex(millis(1025)), is(11));
+        assertThat(InMemoryRpcMetrics.bucketIndex(Long.MAX_VALUE / 2), is(InMemoryRpcMetrics.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void testReset() {
+        InMemoryRpcMetrics metrics = new InMemoryRpcMetrics();
+        metrics.onCall(new RpcCall("getblock", 0, 0, 0, 0, null, null));
+        metrics.reset();
+        assertThat(metrics.snapshot().getMethods().isEmpty(), is(true));
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.neow3j.protocol.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SubmissionMetricsTest {
+
+    private static long seconds(long seconds) {
+        return TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Test
+    public void testConfirmationLatencyHistogram() {
+        SubmissionMetrics metrics = new SubmissionMetrics();
+        // Most transactions are confirmed within one or two blocks of 15 seconds.
+        for (int i = 0; i < 60; i++) {
+            metrics.recordConfirmed(seconds(12));
+        }
+        for (int i = 0; i < 38; i++) {
+            metrics.recordConfirmed(seconds(28));
+        }
+        // Confirmed after retries while the memory pool was full.
+        metrics.recordConfirmed(seconds(100));
+        // Confirmed after it was rebuilt.
+        metrics.recordConfirmed(TimeUnit.HOURS.toNanos(2));
+
+        SubmissionMetricsSnapshot snapshot = metrics.snapshot();
+        long[] histogram = snapshot.getConfirmationLatencyHistogram();
+        long[] bounds = snapshot.getConfirmationLatencyBucketBoundsMillis();
+        assertThat(histogram.length, is(bounds.length + 1));
+        assertThat(histogram[4], is(60L));
+        assertThat(histogram[6], is(38L));
+        assertThat(histogram[10], is(1L));
+        assertThat(histogram[17], is(1L));
+        assertThat(snapshot.getConfirmationLatencyPercentileMillis(50), is(15_000L));
+        assertThat(snapshot.getConfirmationLatencyPercentileMillis(90), is(30_000L));
+        assertThat(snapshot.getConfirmationLatencyPercentileMillis(99), is(120_000L));
+        assertThat(snapshot.getConfirmationLatencyPercentileMillis(100), is(7_200_000L));
+    }
+
+    @Test
+    public void testLatenciesAboveOneDayAreInLastBucket() {
+        SubmissionMetrics metrics = new SubmissionMetrics();
+        metrics.recordConfirmed(TimeUnit.DAYS.toNanos(2));
+
+        SubmissionMetricsSnapshot snapshot = metrics.snapshot();
+        long[] histogram = snapshot.getConfirmationLatencyHistogram();
+        assertThat(histogram[histogram.length - 1], is(1L));
+        assertThat(snapshot.getConfirmationLatencyPercentileMillis(50), is(Long.MAX_VALUE));
+    }
+
+}
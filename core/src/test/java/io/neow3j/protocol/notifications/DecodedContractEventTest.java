@@ -0,0 +1,69 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.response.ContractManifest.ContractABI;
+import io.neow3j.protocol.core.stackitem.ArrayStackItem;
+import io.neow3j.protocol.core.stackitem.ByteStringStackItem;
+import io.neow3j.protocol.core.stackitem.IntegerStackItem;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.ContractParameterType;
+import io.neow3j.types.Hash160;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+public class DecodedContractEventTest {
+
+    private static final Hash160 CONTRACT = new Hash160("d2a4cff31913016155e38e474a2c06d08be276cf");
+    private static final Hash160 ACCOUNT = new Hash160("69ecca587293047be4c59159bf8bc399985c160d");
+
+    private static final ContractABI.ContractEvent TRANSFER = new ContractABI.ContractEvent("Transfer",
+            Arrays.asList(new ContractParameter("to", ContractParameterType.HASH160),
+                    new ContractParameter("amount", ContractParameterType.INTEGER)));
+
+    private static ContractEvent event(StackItem... items) {
+        return new ContractEvent(null, CONTRACT, "Transfer", new ArrayStackItem(Arrays.asList(items)));
+    }
+
+    @Test
+    public void testDecodesState() {
+        DecodedContractEvent decoded = DecodedContractEvent.decode(event(
+                new ByteStringStackItem(ACCOUNT.toLittleEndianArray()),
+                new IntegerStackItem(BigInteger.TEN)), TRANSFER);
+
+        assertThat(decoded.getParameters(), is(TRANSFER.getParameters()));
+        assertThat(decoded.getValue("to", Hash160.class), is(ACCOUNT));
+        assertThat(decoded.getValue("amount", BigInteger.class), is(BigInteger.TEN));
+    }
+
+    @Test
+    public void testKeepsStackItemsOfInvalidHash() {
+        List<StackItem> items = Arrays.asList(new ByteStringStackItem(new byte[]{0x01, 0x02, 0x03}),
+                new IntegerStackItem(BigInteger.TEN));
+
+        DecodedContractEvent decoded = DecodedContractEvent.decode(event(items.toArray(new StackItem[0])),
+                TRANSFER);
+
+        assertThat(decoded.getParameters(), is(empty()));
+        assertThat(decoded.getValues(), is(items));
+    }
+
+    @Test
+    public void testKeepsStackItemsOfUncastableItem() {
+        List<StackItem> items = Arrays.asList(new ByteStringStackItem(ACCOUNT.toLittleEndianArray()),
+                new ArrayStackItem(Arrays.asList(new IntegerStackItem(BigInteger.ONE))));
+
+        DecodedContractEvent decoded = DecodedContractEvent.decode(event(items.toArray(new StackItem[0])),
+                TRANSFER);
+
+        assertThat(decoded.getParameters(), is(empty()));
+        assertThat(decoded.getValues(), is(items));
+    }
+
+}
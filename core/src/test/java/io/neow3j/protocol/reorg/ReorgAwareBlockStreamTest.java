@@ -0,0 +1,143 @@
+package io.neow3j.protocol.reorg;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.types.Hash256;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+public class ReorgAwareBlockStreamTest {
+
+    private Neow3j neow3j;
+    private ScheduledExecutorService executor;
+
+    private final AtomicLong blockCount = new AtomicLong(10);
+    // The Neo node's chain differs from the original chain from this block index on.
+    private final AtomicLong forkIndex = new AtomicLong(Long.MAX_VALUE);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Neow3jService neow3jService = mock(Neow3jService.class);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        neow3j = Neow3j.build(neow3jService, new Neow3jConfig()
+                .setPollingInterval(50)
+                .setScheduledExecutorService(executor));
+
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return neoBlockCount;
+        });
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            long index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).longValue();
+            return block(index);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // The hash of the block with the given index on the current chain of the Neo node.
+    private Hash256 hash(long index) {
+        return new Hash256(format("%02x%062x", index >= forkIndex.get() ? 1 : 0, index));
+    }
+
+    private NeoGetBlock block(long index) {
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        neoGetBlock.setResult(new NeoBlock(hash(index), 0L, 0, hash(index - 1), null, 0L, index, 0, "nonce",
+                null, null, 1, null));
+        return neoGetBlock;
+    }
+
+    private static List<Long> blockIndexes(List<BlockStreamEvent> events) {
+        return events.stream()
+                .map(e -> e.getType() == BlockStreamEvent.Type.BLOCK ? e.getBlock().getBlock().getIndex() : -1L)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testEmitsRollbackBeforeNewChain() {
+        TestObserver<BlockStreamEvent> observer = new ReorgAwareBlockStream(neow3j, BigInteger.valueOf(5), true, 5)
+                .observable().test();
+        observer.awaitCount(5);
+        Hash256 hash8 = hash(8);
+        Hash256 hash9 = hash(9);
+
+        forkIndex.set(8);
+        blockCount.set(11);
+        observer.awaitCount(9);
+        observer.dispose();
+
+        List<BlockStreamEvent> events = observer.values();
+        assertThat(blockIndexes(events), contains(5L, 6L, 7L, 8L, 9L, -1L, 8L, 9L, 10L));
+        assertThat(events.get(5), is(BlockStreamEvent.rollback(7, asList(hash9, hash8))));
+        assertThat(events.get(6).getBlock().getBlock().getHash(), is(hash(8)));
+    }
+
+    @Test
+    public void testDropsAlreadyEmittedBlocks() {
+        // Like a block stream that resubscribed from an earlier block.
+        Neow3j resubscribingNeow3j = spy(neow3j);
+        doReturn(Observable.just(block(5), block(6), block(7), block(6), block(7), block(8)))
+                .when(resubscribingNeow3j).catchUpToLatestAndSubscribeToNewBlocksObservable(any(), anyBoolean());
+
+        List<BlockStreamEvent> events = new ReorgAwareBlockStream(resubscribingNeow3j, BigInteger.valueOf(5), true, 5)
+                .observable().toList().blockingGet();
+
+        assertThat(blockIndexes(events), contains(5L, 6L, 7L, 8L));
+    }
+
+    @Test
+    public void testFailsIfRollbackIsTooDeep() {
+        TestObserver<BlockStreamEvent> observer = new ReorgAwareBlockStream(neow3j, BigInteger.valueOf(5), true, 1)
+                .observable().test();
+        observer.awaitCount(5);
+
+        forkIndex.set(8);
+        blockCount.set(11);
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+
+        observer.assertError(IllegalStateException.class);
+        assertThat(observer.valueCount(), is(5));
+    }
+
+    @Test
+    public void testFailsOnInvalidRollbackDepth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReorgAwareBlockStream(neow3j, BigInteger.ZERO, true, 0));
+    }
+
+}
@@ -0,0 +1,208 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.types.Hash256;
+import io.neow3j.utils.TestHashes;
+import io.reactivex.Observable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static io.neow3j.utils.TestHashes.hash256;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+public class ApplicationLogStageTest {
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private ScheduledExecutorService executor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    // The number of application logs requested per request.
+    private final List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        neow3jService = mock(Neow3jService.class);
+        neow3j = Neow3j.build(neow3jService);
+        executor = Executors.newSingleThreadScheduledExecutor();
+
+        // Later requests are answered faster, so that the responses arrive out of order.
+        AtomicInteger requestCount = new AtomicInteger();
+        when(neow3jService.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            List<Request<?, ? extends Response<?>>> requests =
+                    invocation.<BatchRequest>getArgument(0).getRequests();
+            List<Response<?>> responses = requests.stream()
+                    .<Response<?>>map(ApplicationLogStageTest::applicationLog)
+                    .collect(Collectors.toList());
+            return respond(new BatchResponse(requests, responses), requests.size(), requestCount);
+        });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetApplicationLog.class))).thenAnswer(
+                invocation -> respond(applicationLog(invocation.getArgument(0)), 1, requestCount));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> respond(T response, int size, AtomicInteger requestCount) {
+        requestSizes.add(size);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.schedule(() -> {
+            inFlight.decrementAndGet();
+            future.complete(response);
+        }, Math.max(0, 50 - 10 * requestCount.getAndIncrement()), TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private static NeoGetApplicationLog applicationLog(Request<?, ?> request) {
+        NeoGetApplicationLog response = new NeoGetApplicationLog();
+        response.setResult(new NeoApplicationLog((Hash256) request.getParams().get(0), Collections.emptyList()));
+        return response;
+    }
+
+    private static NeoGetBlock block(long index, long... txIds) {
+        List<Transaction> transactions = LongStream.of(txIds)
+                .mapToObj(txId -> new Transaction(hash256(txId), 0, 0, 0L, null, "0", "0", 0L, null, null, null, null))
+                .collect(Collectors.toList());
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        neoGetBlock.setResult(new NeoBlock(hash256(1000 + index), 0L, 0, null, null, 0L, index, 0, "nonce", null,
+                transactions, 1, null));
+        return neoGetBlock;
+    }
+
+    private static List<Hash256> txIds(BlockWithApplicationLogs block) {
+        return block.getApplicationLogs().stream()
+                .map(NeoApplicationLog::getTransactionId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testAddsApplicationLogsInBlockOrder() {
+        ApplicationLogStage stage = neow3j.applicationLogStage(3, 2);
+
+        List<BlockWithApplicationLogs> results = Observable.just(block(0, 1, 2, 3, 4, 5), block(1), block(2, 6))
+                .compose(stage)
+                .toList().blockingGet();
+
+        assertThat(results.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(results.get(i).getBlock().getBlock().getIndex(), is((long) i));
+        }
+        assertThat(txIds(results.get(0)), is(LongStream.rangeClosed(1, 5)
+                .mapToObj(TestHashes::hash256)
+                .collect(Collectors.toList())));
+        assertThat(txIds(results.get(1)), is(empty()));
+        assertThat(txIds(results.get(2)), is(Collections.singletonList(hash256(6))));
+
+        assertThat(requestSizes, containsInAnyOrder(2, 2, 1, 1));
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(3));
+        assertThat(stage.getQueueDepth(), is(0));
+    }
+
+    @Test
+    public void testRequestsApplicationLogsSeparatelyWithoutBatchSupport() {
+        Neow3j withoutBatches = spy(neow3j);
+        doThrow(new UnsupportedOperationException("No batch requests.")).when(withoutBatches).newBatch();
+        ApplicationLogStage stage = new ApplicationLogStage(withoutBatches, 2, 3);
+
+        List<BlockWithApplicationLogs> results = Observable.just(block(0, 1, 2, 3, 4), block(1, 5))
+                .compose(stage)
+                .toList().blockingGet();
+
+        assertThat(results.size(), is(2));
+        assertThat(txIds(results.get(0)), is(LongStream.rangeClosed(1, 4)
+                .mapToObj(TestHashes::hash256)
+                .collect(Collectors.toList())));
+        assertThat(txIds(results.get(1)), is(Collections.singletonList(hash256(5))));
+        assertThat(requestSizes, containsInAnyOrder(1, 1, 1, 1, 1));
+    }
+
+    @Test
+    public void testQueueDepthCountsBlocksWaitingForApplicationLogs() {
+        ApplicationLogStage stage = neow3j.applicationLogStage(1, 10);
+        CompletableFuture<BatchResponse> pending = new CompletableFuture<>();
+        doReturn(pending).when(neow3jService).sendBatchAsync(any(BatchRequest.class));
+
+        Observable.just(block(0, 1, 2), block(1, 3, 4)).compose(stage).test();
+
+        assertThat(stage.getQueueDepth(), is(2));
+    }
+
+    @Test
+    public void testFailsOnErrorResponse() {
+        NeoGetApplicationLog error = new NeoGetApplicationLog();
+        error.setError(new Response.Error(-32601, "Method not found"));
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetApplicationLog.class)))
+                .thenReturn(CompletableFuture.completedFuture(error));
+        ApplicationLogStage stage = neow3j.applicationLogStage(1, 10);
+
+        Observable.just(block(0, 1)).compose(stage).test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertNoValues()
+                .assertError(RpcResponseErrorException.class);
+    }
+
+    @Test
+    public void testFailsOnErrorResponseInBatch() {
+        when(neow3jService.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            List<Request<?, ? extends Response<?>>> requests =
+                    invocation.<BatchRequest>getArgument(0).getRequests();
+            NeoGetApplicationLog error = new NeoGetApplicationLog();
+            error.setError(new Response.Error(-100, "Unknown transaction"));
+            return CompletableFuture.completedFuture(new BatchResponse(requests,
+                    Arrays.asList(applicationLog(requests.get(0)), error)));
+        });
+        ApplicationLogStage stage = neow3j.applicationLogStage(1, 10);
+
+        Observable.just(block(0, 1, 2)).compose(stage).test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertNoValues()
+                .assertError(RpcResponseErrorException.class);
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> neow3j.applicationLogStage(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> neow3j.applicationLogStage(1, 0));
+    }
+
+}
@@ -2,7 +2,10 @@ package io.neow3j.protocol.rx;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -14,18 +17,48 @@ import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.Neow3jConfig;
 import io.neow3j.protocol.Neow3jService;
 import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.ContractManifest;
+import io.neow3j.protocol.core.response.ContractManifest.ContractABI;
+import io.neow3j.protocol.core.response.ContractState;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
 import io.neow3j.protocol.core.response.NeoBlock;
 import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetApplicationLog;
 import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetContractState;
+import io.neow3j.protocol.core.response.Notification;
+import io.neow3j.protocol.core.stackitem.AnyStackItem;
+import io.neow3j.protocol.core.stackitem.ArrayStackItem;
+import io.neow3j.protocol.core.stackitem.ByteStringStackItem;
+import io.neow3j.protocol.core.stackitem.IntegerStackItem;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.protocol.notifications.ContractEvent;
+import io.neow3j.protocol.notifications.ContractEventNotification;
+import io.neow3j.protocol.notifications.DecodedContractEvent;
+import io.neow3j.protocol.notifications.NotificationParams;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.ContractParameterType;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.NeoVMStateType;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -338,6 +371,250 @@ public class JsonRpc2_0RxTest {
         assertTrue(disposable.isDisposed());
     }
 
+    @Test
+    public void testReplayBlocksObservableWithFetchWindow() throws Exception {
+        int blockCount = 20;
+        int fetchWindow = 4;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(fetchWindow);
+        // Later blocks are returned faster, so that the responses arrive out of order.
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            int index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).intValue();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<NeoGetBlock> future = new CompletableFuture<>();
+            executor.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.complete(createBlock(index));
+            }, (blockCount - index) * 5L, TimeUnit.MILLISECONDS);
+            return future;
+        });
+
+        List<NeoGetBlock> results = neow3j.replayBlocksObservable(BigInteger.ZERO,
+                BigInteger.valueOf(blockCount - 1), true, true, fetchWindow)
+                .toList().blockingGet();
+        executor.shutdown();
+
+        assertThat(results.size(), is(blockCount));
+        for (int i = 0; i < blockCount; i++) {
+            assertThat(results.get(i).getBlock().getIndex(), is((long) i));
+        }
+        assertThat(maxInFlight.get(), is(fetchWindow));
+    }
+
+    @Test
+    public void testReplayBlocksObservableWithFetchWindowSlowSubscriber() throws Exception {
+        int fetchWindow = 3;
+        AtomicInteger requested = new AtomicInteger();
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            int index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).intValue();
+            requested.incrementAndGet();
+            return CompletableFuture.completedFuture(createBlock(index));
+        });
+
+        List<Integer> requestedAhead = new ArrayList<>();
+        CountDownLatch completedLatch = new CountDownLatch(1);
+        neow3j.replayBlocksObservable(BigInteger.ZERO, BigInteger.valueOf(9), true, false, fetchWindow)
+                .subscribe(neoGetBlock -> {
+                            int processed = 10 - (int) neoGetBlock.getBlock().getIndex();
+                            requestedAhead.add(requested.get() - processed);
+                            Thread.sleep(10);
+                        },
+                        throwable -> fail(throwable.getMessage()),
+                        completedLatch::countDown);
+
+        assertTrue(completedLatch.await(5, TimeUnit.SECONDS));
+        assertThat(requestedAhead.size(), is(10));
+        assertThat(Collections.max(requestedAhead), lessThanOrEqualTo(fetchWindow - 1));
+    }
+
+    @Test
+    public void testReplayBlocksObservableWithInvalidFetchWindow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> neow3j.replayBlocksObservable(BigInteger.ZERO, BigInteger.TEN, true, true, 0));
+    }
+
+    @Test
+    public void testReplayBlocksFlowableFetchesOnDemand() throws Exception {
+        int fetchWindow = 2;
+        AtomicInteger requested = new AtomicInteger();
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            int index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).intValue();
+            requested.incrementAndGet();
+            return CompletableFuture.completedFuture(createBlock(index));
+        });
+
+        TestSubscriber<NeoGetBlock> subscriber = neow3j.replayBlocksFlowable(BigInteger.ZERO,
+                BigInteger.valueOf(99), true, true, fetchWindow).test(3);
+
+        subscriber.awaitCount(3);
+        assertThat(subscriber.valueCount(), is(3));
+        // Only the requested blocks plus the blocks in the fetch window were fetched.
+        assertThat(requested.get(), is(3 + fetchWindow));
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.awaitDone(5, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        assertThat(subscriber.valueCount(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(subscriber.values().get(i).getBlock().getIndex(), is((long) i));
+        }
+        assertThat(requested.get(), is(100));
+    }
+
+    @Test
+    public void testCatchUpToLatestBlockFlowable() throws Exception {
+        NeoBlockCount neoBlockCount = new NeoBlockCount();
+        neoBlockCount.setResult(BigInteger.valueOf(5));
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(neoBlockCount);
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            int index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).intValue();
+            return CompletableFuture.completedFuture(createBlock(index));
+        });
+
+        List<NeoGetBlock> results = neow3j.catchUpToLatestBlockFlowable(BigInteger.valueOf(2), true, 2,
+                Flowable.empty()).toList().blockingGet();
+
+        assertThat(results.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(results.get(i).getBlock().getIndex(), is((long) i + 2));
+        }
+    }
+
+    @Test
+    public void testContractEventObservable() throws Exception {
+        Hash160 token = new Hash160("d2a4cff31913016155e38e474a2c06d08be276cf");
+        Hash160 otherContract = new Hash160("ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+        Hash160 account = new Hash160("69ecca587293047be4c59159bf8bc399985c160d");
+        Hash256 blockHash = new Hash256("a1d1d1f25f9e4a0da8bc8a7bcbafdb0f14b1bd5fd9d5cf0a8ba1e6bbb1b1a1d1");
+        Hash256 txHash = new Hash256("b2d2d2f25f9e4a0da8bc8a7bcbafdb0f14b1bd5fd9d5cf0a8ba1e6bbb1b1b2d2");
+
+        ContractABI.ContractEvent transfer = new ContractABI.ContractEvent("Transfer", Arrays.asList(
+                new ContractParameter("from", ContractParameterType.HASH160),
+                new ContractParameter("to", ContractParameterType.HASH160),
+                new ContractParameter("amount", ContractParameterType.INTEGER)));
+        NeoGetContractState contractState = new NeoGetContractState();
+        contractState.setResult(new ContractState(1, 0, token, null, new ContractManifest("Token", null, null,
+                null, new ContractABI(null, Collections.singletonList(transfer)), null, null, null)));
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetContractState.class)))
+                .thenReturn(CompletableFuture.completedFuture(contractState));
+
+        AtomicLong blockCount = new AtomicLong(5);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return neoBlockCount;
+        });
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        neoGetBlock.setResult(new NeoBlock(blockHash, 0L, 0, null, null, 123456789, 5, 0, "nonce", null,
+                Collections.singletonList(new io.neow3j.protocol.core.response.Transaction(txHash, 0, 0, 0L, null,
+                        "0", "0", 0L, null, null, null, null)), 1, null));
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenReturn(neoGetBlock);
+
+        // The block's log is returned last, so that the responses arrive out of order.
+        StackItem mint = transferState(new AnyStackItem(), account, 10);
+        StackItem send = transferState(new ByteStringStackItem(account.toLittleEndianArray()), token, 20);
+        NeoGetApplicationLog blockLog = new NeoGetApplicationLog();
+        blockLog.setResult(new NeoApplicationLog(null, Arrays.asList(
+                execution("OnPersist", new Notification(otherContract, "Transfer", mint)),
+                execution("PostPersist", new Notification(token, "Transfer", mint)))));
+        NeoGetApplicationLog txLog = new NeoGetApplicationLog();
+        txLog.setResult(new NeoApplicationLog(txHash, Collections.singletonList(
+                execution("Application", new Notification(token, "Transfer", send),
+                        new Notification(token, "Approval", send)))));
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetApplicationLog.class))).thenAnswer(invocation -> {
+            Hash256 hash = (Hash256) invocation.<Request<?, ?>>getArgument(0).getParams().get(0);
+            CompletableFuture<NeoGetApplicationLog> future = new CompletableFuture<>();
+            executor.schedule(() -> future.complete(hash.equals(blockHash) ? blockLog : txLog),
+                    hash.equals(blockHash) ? 100 : 0, TimeUnit.MILLISECONDS);
+            return future;
+        });
+
+        Neow3j pollingNeow3j = Neow3j.build(neow3jService, new Neow3jConfig()
+                .setPollingInterval(50)
+                .setScheduledExecutorService(Executors.newSingleThreadScheduledExecutor()));
+        List<DecodedContractEvent> events = new ArrayList<>();
+        CountDownLatch eventLatch = new CountDownLatch(2);
+        Disposable disposable = pollingNeow3j.contractEventObservable(token, "Transfer", 4)
+                .subscribe(event -> {
+                            events.add(event);
+                            eventLatch.countDown();
+                        },
+                        throwable -> fail(throwable.getMessage()));
+        Thread.sleep(200);
+        blockCount.set(6);
+
+        assertTrue(eventLatch.await(5, TimeUnit.SECONDS));
+        disposable.dispose();
+        executor.shutdown();
+
+        assertThat(events.get(0).getContainer(), is(txHash));
+        assertThat(events.get(0).getValue("from", Hash160.class), is(account));
+        assertThat(events.get(0).getValue("to", Hash160.class), is(token));
+        assertThat(events.get(0).getValue("amount", BigInteger.class), is(BigInteger.valueOf(20)));
+        assertThat(events.get(1).getContainer(), is(blockHash));
+        assertThat(events.get(1).getValue("from", Hash160.class), is(nullValue()));
+        assertThat(events.get(1).getValue("amount", BigInteger.class), is(BigInteger.TEN));
+    }
+
+    @Test
+    public void testPushedContractEventsAreFilteredPerSubscription() {
+        Hash160 token = new Hash160("d2a4cff31913016155e38e474a2c06d08be276cf");
+        Hash160 otherContract = new Hash160("ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+        Hash256 txHash = new Hash256("b2d2d2f25f9e4a0da8bc8a7bcbafdb0f14b1bd5fd9d5cf0a8ba1e6bbb1b1b2d2");
+
+        Neow3jService pushService = mock(Neow3jService.class);
+        when(pushService.supportsSubscriptions()).thenReturn(true);
+        NeoGetContractState contractState = new NeoGetContractState();
+        contractState.setResult(new ContractState(1, 0, token, null, new ContractManifest("Token", null, null,
+                null, new ContractABI(null, Collections.emptyList()), null, null, null)));
+        when(pushService.sendAsync(any(Request.class), eq(NeoGetContractState.class)))
+                .thenReturn(CompletableFuture.completedFuture(contractState));
+        // Like a WebSocket connection, passes every notification to all contract event subscriptions.
+        PublishSubject<ContractEventNotification> notifications = PublishSubject.create();
+        when(pushService.subscribe(any(Request.class), any(), eq(ContractEventNotification.class)))
+                .thenAnswer(invocation -> notifications);
+        Neow3j pushNeow3j = Neow3j.build(pushService);
+
+        TestObserver<DecodedContractEvent> tokenTransfers =
+                pushNeow3j.contractEventObservable(token, "Transfer", 4).test();
+        TestObserver<DecodedContractEvent> otherEvents =
+                pushNeow3j.contractEventObservable(otherContract, null, 4).test();
+
+        notifications.onNext(contractEventNotification(new ContractEvent(txHash, token, "Transfer", null)));
+        notifications.onNext(contractEventNotification(new ContractEvent(txHash, token, "Approval", null)));
+        notifications.onNext(contractEventNotification(new ContractEvent(txHash, otherContract, "Transfer", null)));
+        notifications.onNext(contractEventNotification(new ContractEvent(txHash, otherContract, "Mint", null)));
+
+        tokenTransfers.assertValueCount(1);
+        assertThat(tokenTransfers.values().get(0).getContract(), is(token));
+        assertThat(tokenTransfers.values().get(0).getEventName(), is("Transfer"));
+        otherEvents.assertValueCount(2);
+        assertThat(otherEvents.values().get(0).getContract(), is(otherContract));
+        assertThat(otherEvents.values().get(0).getEventName(), is("Transfer"));
+        assertThat(otherEvents.values().get(1).getEventName(), is("Mint"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ContractEventNotification contractEventNotification(ContractEvent event) {
+        NotificationParams<ContractEvent> params = mock(NotificationParams.class);
+        when(params.getResult()).thenReturn(event);
+        ContractEventNotification notification = mock(ContractEventNotification.class);
+        when(notification.getParams()).thenReturn(params);
+        return notification;
+    }
+
+    private static StackItem transferState(StackItem from, Hash160 to, long amount) {
+        return new ArrayStackItem(Arrays.asList(from, new ByteStringStackItem(to.toLittleEndianArray()),
+                new IntegerStackItem(BigInteger.valueOf(amount))));
+    }
+
+    private static NeoApplicationLog.Execution execution(String trigger, Notification... notifications) {
+        return new NeoApplicationLog.Execution(trigger, NeoVMStateType.HALT, null, "0", Collections.emptyList(),
+                Arrays.asList(notifications));
+    }
+
     private NeoGetBlock createBlock(int number) {
         NeoGetBlock neoGetBlock = new NeoGetBlock();
         NeoBlock block = new NeoBlock(null, 0L, 0, null, null, 123456789, number, 0, "nonce", null,
@@ -0,0 +1,289 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoConnectionCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.notifications.BlockAddedNotification;
+import io.neow3j.protocol.notifications.ContractEventNotification;
+import io.neow3j.types.Hash160;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WebSocketServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String CONTRACT_1 = "d2a4cff31913016155e38e474a2c06d08be276cf";
+    private static final String CONTRACT_2 = "ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5";
+    private static final String TX_HASH = "830816f0c801bcabf919dfa1a90d7b9a4f867482cb4d18d0631a5aa6daefab6a";
+
+    private WebSocketClient webSocketClient;
+    private WebSocketListener listener;
+    private WebSocketService service;
+
+    @BeforeEach
+    public void setUp() {
+        webSocketClient = mock(WebSocketClient.class);
+        service = new WebSocketService(webSocketClient, Executors.newSingleThreadScheduledExecutor(), false);
+
+        ArgumentCaptor<WebSocketListener> listenerCaptor = ArgumentCaptor.forClass(WebSocketListener.class);
+        verify(webSocketClient).setListener(listenerCaptor.capture());
+        listener = listenerCaptor.getValue();
+    }
+
+    @Test
+    public void testSendAsync() throws Exception {
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request.setId(1);
+
+        CompletableFuture<NeoBlockCount> reply = service.sendAsync(request, NeoBlockCount.class);
+        verify(webSocketClient).send("{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":1}");
+        assertThat(reply.isDone(), is(false));
+
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}");
+        assertThat(reply.get().getBlockCount(), is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testMultiplexedRequests() throws Exception {
+        Request<String, NeoBlockCount> request1 = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request1.setId(1);
+        Request<String, NeoConnectionCount> request2 = new Request<>("getconnectioncount", Collections.emptyList(),
+                service, NeoConnectionCount.class);
+        request2.setId(2);
+
+        CompletableFuture<NeoBlockCount> reply1 = service.sendAsync(request1, NeoBlockCount.class);
+        CompletableFuture<NeoConnectionCount> reply2 = service.sendAsync(request2, NeoConnectionCount.class);
+
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":10}");
+        assertThat(reply1.isDone(), is(false));
+        assertThat(reply2.get().getCount(), is(10));
+
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}");
+        assertThat(reply1.get().getBlockCount(), is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testSendBatchAsync() throws Exception {
+        Request<String, NeoBlockCount> request1 = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        request1.setId(1);
+        Request<String, NeoConnectionCount> request2 = new Request<>("getconnectioncount", Collections.emptyList(),
+                service, NeoConnectionCount.class);
+        request2.setId(2);
+
+        CompletableFuture<BatchResponse> reply = Neow3j.build(service).newBatch()
+                .add(request1)
+                .add(request2)
+                .sendAsync();
+        verify(webSocketClient).send("["
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":1},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getconnectioncount\",\"params\":[],\"id\":2}"
+                + "]");
+
+        listener.onMessage("["
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":10},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}"
+                + "]");
+        assertThat(reply.get().getResponse(request1).getBlockCount(), is(BigInteger.valueOf(1234)));
+        assertThat(reply.get().getResponse(request2).getCount(), is(10));
+    }
+
+    @Test
+    public void testPendingRequestFailsOnClose() throws Exception {
+        Request<String, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> reply = service.sendAsync(request, NeoBlockCount.class);
+
+        listener.onClose();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, reply::get);
+        assertThat(thrown.getCause(), instanceOf(IOException.class));
+        assertThat(thrown.getCause().getMessage(), is("Connection was closed"));
+    }
+
+    @Test
+    public void testSubscribeToBlockAdded() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<BlockAddedNotification> observer = neow3j.subscribeToBlockAdded().test();
+
+        JsonNode subscribeRequest = lastSentMessage(1);
+        assertThat(subscribeRequest.get("method").asText(), is("subscribe"));
+        assertThat(subscribeRequest.get("params").toString(), is("[\"block_added\"]"));
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.get("id").asLong()
+                + ",\"result\":\"7\"}");
+
+        listener.onMessage(blockAddedEvent(5));
+        listener.onMessage(blockAddedEvent(6));
+
+        observer.assertValueCount(2);
+        assertThat(observer.values().get(0).getParams().getResult().getIndex(), is(5L));
+        assertThat(observer.values().get(0).getParams().getSubscription(), is("7"));
+        assertThat(observer.values().get(1).getParams().getResult().getIndex(), is(6L));
+
+        observer.dispose();
+        JsonNode unsubscribeRequest = lastSentMessage(2);
+        assertThat(unsubscribeRequest.get("method").asText(), is("unsubscribe"));
+        assertThat(unsubscribeRequest.get("params").toString(), is("[\"7\"]"));
+
+        listener.onMessage(blockAddedEvent(7));
+        observer.assertValueCount(2);
+    }
+
+    @Test
+    public void testSubscribeToContractEventsWithFilter() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<ContractEventNotification> observer =
+                neow3j.subscribeToContractEvents(null, "Transfer").test();
+
+        JsonNode subscribeRequest = lastSentMessage(1);
+        assertThat(subscribeRequest.get("params").toString(),
+                is("[\"notification_from_execution\",{\"name\":\"Transfer\"}]"));
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.get("id").asLong()
+                + ",\"error\":{\"code\":-32602,\"message\":\"Invalid params\"}}");
+
+        observer.assertError(e -> e.getMessage().contains("Invalid params"));
+    }
+
+    @Test
+    public void testContractEventSubscriptionsOnSameConnectionAreFiltered() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<ContractEventNotification> transfers =
+                neow3j.subscribeToContractEvents(new Hash160(CONTRACT_1), "Transfer").test();
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + lastSentMessage(1).get("id").asLong()
+                + ",\"result\":\"1\"}");
+        TestObserver<ContractEventNotification> otherEvents =
+                neow3j.subscribeToContractEvents(new Hash160(CONTRACT_2), null).test();
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + lastSentMessage(2).get("id").asLong()
+                + ",\"result\":\"2\"}");
+
+        // The node sends each event once per matching subscription, but without the subscription id.
+        listener.onMessage(contractEvent(CONTRACT_1, "Transfer"));
+        listener.onMessage(contractEvent(CONTRACT_2, "Mint"));
+
+        transfers.assertValueCount(1);
+        assertThat(transfers.values().get(0).getParams().getResult().getEventName(), is("Transfer"));
+        otherEvents.assertValueCount(1);
+        assertThat(otherEvents.values().get(0).getParams().getResult().getEventName(), is("Mint"));
+    }
+
+    @Test
+    public void testBlockObservableIsPushed() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<NeoGetBlock> observer = neow3j.blockObservable(true).test();
+
+        JsonNode subscribeRequest = lastSentMessage(1);
+        assertThat(subscribeRequest.get("params").toString(), is("[\"block_added\"]"));
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.get("id").asLong()
+                + ",\"result\":\"1\"}");
+        listener.onMessage(blockAddedEvent(42));
+
+        observer.assertValueCount(1);
+        assertThat(observer.values().get(0).getBlock().getIndex(), is(42L));
+        assertThat(observer.values().get(0).getBlock().getTransactions(), is(Collections.emptyList()));
+        observer.dispose();
+    }
+
+    @Test
+    public void testBlockObservableWithoutTransactionsIsPushed() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<NeoGetBlock> observer = neow3j.blockObservable(false).test();
+
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + lastSentMessage(1).get("id").asLong()
+                + ",\"result\":\"1\"}");
+        listener.onMessage(blockAddedEvent(42));
+
+        observer.assertValueCount(1);
+        assertThat(observer.values().get(0).getBlock().getIndex(), is(42L));
+        assertThat(observer.values().get(0).getBlock().getTransactions(), is(nullValue()));
+        observer.dispose();
+    }
+
+    @Test
+    public void testUnexpectedCloseFailsSubscriptions() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<BlockAddedNotification> observer = neow3j.subscribeToBlockAdded().test();
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + lastSentMessage(1).get("id").asLong()
+                + ",\"result\":\"7\"}");
+
+        listener.onClose();
+
+        observer.assertError(e -> e instanceof IOException && e.getMessage().equals("Connection was closed"));
+    }
+
+    @Test
+    public void testCloseCompletesSubscriptions() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<BlockAddedNotification> observer = neow3j.subscribeToBlockAdded().test();
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + lastSentMessage(1).get("id").asLong()
+                + ",\"result\":\"7\"}");
+
+        service.close();
+        listener.onClose();
+
+        observer.assertComplete();
+        observer.assertNoErrors();
+    }
+
+    @Test
+    public void testEventMissedClosesSubscriptions() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        TestObserver<BlockAddedNotification> observer = neow3j.subscribeToBlockAdded().test();
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"id\":" + lastSentMessage(1).get("id").asLong()
+                + ",\"result\":\"7\"}");
+
+        listener.onMessage("{\"jsonrpc\":\"2.0\",\"method\":\"event_missed\",\"params\":[]}");
+
+        observer.assertError(IOException.class);
+    }
+
+    @Test
+    public void testSupportsSubscriptions() {
+        assertThat(service.supportsSubscriptions(), is(true));
+    }
+
+    private JsonNode lastSentMessage(int expectedMessages) throws IOException {
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(webSocketClient, times(expectedMessages)).send(messageCaptor.capture());
+        List<String> messages = messageCaptor.getAllValues();
+        return OBJECT_MAPPER.readTree(messages.get(messages.size() - 1));
+    }
+
+    private String contractEvent(String contract, String eventName) {
+        return "{\"jsonrpc\":\"2.0\",\"method\":\"notification_from_execution\",\"params\":[{"
+                + "\"container\":\"0x" + TX_HASH + "\",\"contract\":\"0x" + contract + "\","
+                + "\"eventname\":\"" + eventName + "\",\"state\":{\"type\":\"Array\",\"value\":[]}}]}";
+    }
+
+    private String blockAddedEvent(long index) {
+        return "{\"jsonrpc\":\"2.0\",\"method\":\"block_added\",\"params\":[{"
+                + "\"size\":1,\"version\":0,\"time\":1627896461306,\"index\":" + index + ",\"primary\":0,"
+                + "\"witnesses\":[],\"tx\":[]}]}";
+    }
+
+}
@@ -0,0 +1,175 @@
+package io.neow3j.transaction;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Sign;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.cache.ChainParameterCache;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.script.VerificationScript;
+import io.neow3j.test.TestProperties;
+import io.neow3j.types.Hash160;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static io.neow3j.transaction.Witness.createContractWitness;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class NetworkFeeCalculatorTest {
+
+    private static final long FEE_PER_BYTE = 1000;
+    private static final long EXEC_FEE_FACTOR = 30;
+    // PUSHDATA1 for the signature and the public key, SYSCALL and System.Crypto.CheckSig.
+    private static final long SINGLE_SIG_VERIFICATION_COST = 8 * 2 + 32768;
+
+    private static final byte[] SCRIPT = new ScriptBuilder()
+            .contractCall(new Hash160(TestProperties.neoTokenHash()), "symbol", new ArrayList<>())
+            .toArray();
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private Neow3j neow;
+    private Account account1;
+    private Account account2;
+    private Account account3;
+
+    @BeforeAll
+    public void setUp() {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow = Neow3j.build(new HttpService("http://127.0.0.1:" + port), new Neow3jConfig().setNetworkMagic(769));
+        account1 = Account.create();
+        account2 = Account.create();
+        account3 = Account.create();
+    }
+
+    private Transaction transaction(List<Signer> signers) {
+        return new Transaction(neow, (byte) 0, 1L, 1000L, signers, 0, 0, new ArrayList<>(), SCRIPT,
+                new ArrayList<>());
+    }
+
+    @Test
+    public void testSingleSigFeeMatchesSignedTransaction() throws IOException {
+        Transaction unsigned = transaction(singletonList(calledByEntry(account1)));
+        unsigned.addWitness(new Witness(new byte[]{}, account1.getVerificationScript().getScript()));
+        long fee = NetworkFeeCalculator.calculateNetworkFee(unsigned, FEE_PER_BYTE, EXEC_FEE_FACTOR);
+
+        Transaction signed = transaction(singletonList(calledByEntry(account1)));
+        signed.addWitness(Witness.create(signed.getHashData(), account1.getECKeyPair()));
+
+        assertThat(fee, is(signed.getSize() * FEE_PER_BYTE + SINGLE_SIG_VERIFICATION_COST * EXEC_FEE_FACTOR));
+    }
+
+    @Test
+    public void testMultiSigFeeMatchesSignedTransaction() throws IOException {
+        List<ECPublicKey> publicKeys = asList(account1.getECKeyPair().getPublicKey(),
+                account2.getECKeyPair().getPublicKey(), account3.getECKeyPair().getPublicKey());
+        VerificationScript verificationScript = new VerificationScript(publicKeys, 2);
+        Account multiSigAccount = Account.fromVerificationScript(verificationScript);
+
+        Transaction unsigned = transaction(singletonList(calledByEntry(multiSigAccount)));
+        unsigned.addWitness(new Witness(new byte[]{}, verificationScript.getScript()));
+        long fee = NetworkFeeCalculator.calculateNetworkFee(unsigned, FEE_PER_BYTE, EXEC_FEE_FACTOR);
+
+        Transaction signed = transaction(singletonList(calledByEntry(multiSigAccount)));
+        byte[] hashData = signed.getHashData();
+        signed.addWitness(Witness.createMultiSigWitness(
+                asList(Sign.signMessage(hashData, account1.getECKeyPair()),
+                        Sign.signMessage(hashData, account2.getECKeyPair())),
+                verificationScript));
+
+        // PUSHDATA1 for 2 signatures and 3 public keys, PUSH2, PUSH3, SYSCALL and 3 times System.Crypto.CheckSig.
+        long verificationCost = 8 * 5 + 1 + 1 + 32768 * 3;
+        assertThat(fee, is(signed.getSize() * FEE_PER_BYTE + verificationCost * EXEC_FEE_FACTOR));
+    }
+
+    @Test
+    public void testFailCalculatingContractWitnessLocally() {
+        Transaction tx = transaction(singletonList(ContractSigner.calledByEntry(account1.getScriptHash())));
+        tx.addWitness(createContractWitness(new ArrayList<>()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> NetworkFeeCalculator.calculateNetworkFee(tx, FEE_PER_BYTE, EXEC_FEE_FACTOR));
+    }
+
+    @Test
+    public void testCachesPolicyValues() throws Exception {
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+        Neow3j cachingNeow = Neow3j.build(new HttpService("http://127.0.0.1:" + wireMockExtension.getPort()));
+        NetworkFeeCalculator calculator = cachingNeow.getNetworkFeeCalculator();
+
+        Transaction tx = transaction(singletonList(calledByEntry(account1)));
+        tx.addWitness(new Witness(new byte[]{}, account1.getVerificationScript().getScript()));
+        long expectedFee = NetworkFeeCalculator.calculateNetworkFee(tx, FEE_PER_BYTE, EXEC_FEE_FACTOR);
+
+        assertThat(calculator.calculateNetworkFee(tx).get(), is(expectedFee));
+        assertThat(calculator.calculateNetworkFee(tx).get(), is(expectedFee));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getFeePerByte")));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getExecFeeFactor")));
+
+        cachingNeow.getChainParameterCache().invalidate(ChainParameterCache.Parameter.FEE_PER_BYTE);
+        assertThat(calculator.calculateNetworkFee(tx).get(), is(expectedFee));
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getFeePerByte")));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getExecFeeFactor")));
+    }
+
+    @Test
+    public void testContractSignerFallsBackToNode() throws Exception {
+        setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
+        NetworkFeeCalculator calculator = new NetworkFeeCalculator(neow);
+
+        Transaction tx = transaction(asList(calledByEntry(account1),
+                ContractSigner.calledByEntry(account2.getScriptHash())));
+        tx.addWitness(new Witness(new byte[]{}, account1.getVerificationScript().getScript()));
+        tx.addWitness(createContractWitness(new ArrayList<>()));
+
+        assertThat(calculator.calculateNetworkFee(tx).get(), is(1230610L));
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokefunction")));
+    }
+
+    @Test
+    public void testTransactionBuilderCalculatesNetworkFeeLocally() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json");
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+        Neow3j localFeeNeow = Neow3j.build(new HttpService("http://127.0.0.1:" + wireMockExtension.getPort()),
+                new Neow3jConfig().setNetworkMagic(769).setLocalNetworkFeeCalculation(true));
+
+        Transaction tx = new TransactionBuilder(localFeeNeow)
+                .script(SCRIPT)
+                .signers(calledByEntry(account1))
+                .validUntilBlock(1000)
+                .sign();
+
+        assertThat(tx.getNetworkFee(),
+                is(tx.getSize() * FEE_PER_BYTE + SINGLE_SIG_VERIFICATION_COST * EXEC_FEE_FACTOR));
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("calculatenetworkfee")));
+    }
+
+}
@@ -35,7 +35,9 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -67,6 +69,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.nullValue;
@@ -756,6 +759,42 @@ public class TransactionBuilderTest {
         assertThat(tx.getWitnesses(), hasSize(0));
     }
 
+    @Test
+    public void testGetUnsignedTransactionAsync() throws Exception {
+        setUpWireMockForCall("getblockcount", "getblockcount_1000.json");
+        setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json");
+        setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
+        Transaction tx = new TransactionBuilder(neow)
+                .script(SCRIPT_INVOKEFUNCTION_NEO_SYMBOL_BYTEARRAY)
+                .signers(calledByEntry(account1))
+                .getUnsignedTransactionAsync()
+                .get();
+
+        assertThat(tx.getValidUntilBlock(), is(neow.getMaxValidUntilBlockIncrement() + 1000 - 1));
+        assertThat(tx.getSystemFee(), is(984060L));
+        assertThat(tx.getNetworkFee(), is(1230610L));
+        assertThat(tx.getSigners(), hasSize(1));
+        assertThat(tx.getWitnesses(), hasSize(0));
+    }
+
+    @Test
+    public void testGetUnsignedTransactionAsync_vmFaults() throws IOException {
+        setUpWireMockForCall("getblockcount", "getblockcount_1000.json");
+        setUpWireMockForCall("invokescript",
+                "invokescript_exception.json",
+                "DA5PcmFjbGVDb250cmFjdEEa93tn");
+        CompletableFuture<Transaction> future = new TransactionBuilder(neow)
+                .script(hexStringToByteArray("0c0e4f7261636c65436f6e7472616374411af77b67"))
+                .signers(calledByEntry(account1))
+                .getUnsignedTransactionAsync();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+        assertThat(thrown.getCause(), instanceOf(TransactionConfigurationException.class));
+        assertThat(thrown.getCause().getMessage(),
+                is("The vm exited due to the following exception: Value was either too large or too small for an " +
+                        "Int32."));
+    }
+
     @Test
     public void testVersion() throws Throwable {
         setUpWireMockForCall("getblockcount", "getblockcount_1000.json");
@@ -0,0 +1,355 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetTransactionHeight;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.metrics.SubmissionMetricsSnapshot;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
+import io.neow3j.types.Hash256;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static java.util.Collections.singletonList;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransactionSubmitterTest {
+
+    private static final byte[] SCRIPT = new byte[]{0x11, 0x40};
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private TransactionSubmitter submitter;
+    private Account account;
+
+    private final AtomicLong blockCount = new AtomicLong(10);
+    // The transactions included in the blocks by block index.
+    private final Map<Long, Hash256> blockTransactions = new ConcurrentHashMap<>();
+    // The block indices of transactions that the node knows but that are missing in the blocks of the block stream.
+    private final Map<Hash256, Long> missedTransactions = new ConcurrentHashMap<>();
+    // The number of block requests that fail on the transport level before the node answers again.
+    private final AtomicInteger failingBlockRequests = new AtomicInteger();
+    // The transactions sent to the node in the order they were sent.
+    private final List<Transaction> sentTransactions = new CopyOnWriteArrayList<>();
+    // Responses to the next sendrawtransaction calls. If empty, the node accepts the transaction.
+    private final Queue<CompletableFuture<NeoSendRawTransaction>> sendResponses = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        neow3jService = mock(Neow3jService.class);
+        neow3j = Neow3j.build(neow3jService, new Neow3jConfig()
+                .setNetworkMagic(769)
+                .setPollingInterval(50)
+                .setScheduledExecutorService(Executors.newSingleThreadScheduledExecutor()));
+        submitter = new TransactionSubmitter(neow3j).setRetryDelay(10);
+        account = Account.create();
+
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return neoBlockCount;
+        });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return CompletableFuture.completedFuture(neoBlockCount);
+        });
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            if (failingBlockRequests.getAndDecrement() > 0) {
+                throw new IOException("Connection reset");
+            }
+            long index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).longValue();
+            Hash256 txHash = blockTransactions.get(index);
+            List<io.neow3j.protocol.core.response.Transaction> transactions = txHash == null
+                    ? Collections.emptyList()
+                    : singletonList(new io.neow3j.protocol.core.response.Transaction(txHash, 0, 0, 0L, null, "0",
+                    "0", 0L, null, null, null, null));
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(Hash256.ZERO, 0L, 0, null, null, 0L, index, 0, "nonce", null,
+                    transactions, 1, null));
+            return neoGetBlock;
+        });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetTransactionHeight.class))).thenAnswer(
+                invocation -> {
+                    Hash256 txHash = (Hash256) invocation.<Request<?, ?>>getArgument(0).getParams().get(0);
+                    NeoGetTransactionHeight response = new NeoGetTransactionHeight();
+                    blockTransactions.entrySet().stream()
+                            .filter(e -> e.getKey() < blockCount.get() && e.getValue().equals(txHash))
+                            .findFirst()
+                            .map(e -> BigInteger.valueOf(e.getKey()))
+                            .ifPresent(response::setResult);
+                    Long missedIndex = missedTransactions.get(txHash);
+                    if (missedIndex != null && missedIndex < blockCount.get()) {
+                        response.setResult(BigInteger.valueOf(missedIndex));
+                    }
+                    if (response.getResult() == null) {
+                        response.setError(new Response.Error(-100, "Unknown transaction"));
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoSendRawTransaction.class))).thenAnswer(
+                invocation -> {
+                    String rawTx = (String) invocation.<Request<?, ?>>getArgument(0).getParams().get(0);
+                    Transaction tx = NeoSerializableInterface.from(Base64.decode(rawTx), Transaction.class);
+                    sentTransactions.add(tx);
+                    CompletableFuture<NeoSendRawTransaction> response = sendResponses.poll();
+                    return response != null ? response : accepted(tx.getTxId());
+                });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        submitter.close();
+    }
+
+    private static CompletableFuture<NeoSendRawTransaction> accepted(Hash256 txHash) {
+        NeoSendRawTransaction response = new NeoSendRawTransaction();
+        response.setResult(new NeoSendRawTransaction.RawTransaction(txHash));
+        return CompletableFuture.completedFuture(response);
+    }
+
+    private static CompletableFuture<NeoSendRawTransaction> rejected(int code, String message) {
+        NeoSendRawTransaction response = new NeoSendRawTransaction();
+        response.setError(new Response.Error(code, message));
+        return CompletableFuture.completedFuture(response);
+    }
+
+    private Transaction signedTransaction(long nonce, long validUntilBlock) throws IOException {
+        Transaction tx = new Transaction(neow3j, (byte) 0, nonce, validUntilBlock,
+                singletonList(calledByEntry(account)), 0, 0, new ArrayList<>(), SCRIPT, new ArrayList<>());
+        return tx.addWitness(Witness.create(tx.getHashData(), account.getECKeyPair()));
+    }
+
+    @Test
+    public void testKeepsWindowOfUnconfirmedTransactions() throws Exception {
+        Transaction tx1 = signedTransaction(1, 100);
+        Transaction tx2 = signedTransaction(2, 100);
+        blockTransactions.put(11L, tx1.getTxId());
+        blockTransactions.put(12L, tx2.getTxId());
+        submitter.setMaxInFlight(1);
+
+        CompletableFuture<Long> future1 = submitter.submit(tx1);
+        CompletableFuture<Long> future2 = submitter.submit(tx2);
+        assertThat(submitter.getInFlightCount(), is(1));
+        assertThat(submitter.getQueuedCount(), is(1));
+        assertThat(sentTransactions.size(), is(1));
+
+        blockCount.set(13);
+
+        assertThat(future1.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(future2.get(5, TimeUnit.SECONDS), is(12L));
+        assertThat(submitter.getInFlightCount(), is(0));
+        SubmissionMetricsSnapshot metrics = submitter.getMetrics().snapshot();
+        assertThat(metrics.getSubmitted(), is(2L));
+        assertThat(metrics.getSendAttempts(), is(2L));
+        assertThat(metrics.getConfirmed(), is(2L));
+        assertTrue(metrics.getThroughput() > 0);
+    }
+
+    @Test
+    public void testRetriesTransientErrors() throws Exception {
+        Transaction tx = signedTransaction(1, 100);
+        CompletableFuture<NeoSendRawTransaction> transportError = new CompletableFuture<>();
+        transportError.completeExceptionally(new IOException("Connection reset"));
+        sendResponses.add(transportError);
+        sendResponses.add(rejected(-502, "Memory pool capacity reached"));
+        blockTransactions.put(11L, tx.getTxId());
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> sentTransactions.size() == 3);
+        blockCount.set(12);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(11L));
+        SubmissionMetricsSnapshot metrics = submitter.getMetrics().snapshot();
+        assertThat(metrics.getRetries(), is(2L));
+        assertThat(metrics.getSendAttempts(), is(3L));
+    }
+
+    @Test
+    public void testFailsAfterMaxRetries() throws IOException {
+        submitter.setMaxRetries(1);
+        sendResponses.add(rejected(-500, "OutOfMemory"));
+        sendResponses.add(rejected(-500, "OutOfMemory"));
+
+        CompletableFuture<Long> future = submitter.submit(signedTransaction(1, 100));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(RpcResponseErrorException.class));
+        assertThat(submitter.getMetrics().snapshot().getFailed(), is(1L));
+    }
+
+    @Test
+    public void testFailsOnRejection() throws Exception {
+        sendResponses.add(rejected(-500, "InsufficientFunds"));
+
+        CompletableFuture<Long> future = submitter.submit(signedTransaction(1, 100));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(RpcResponseErrorException.class));
+        assertThat(sentTransactions.size(), is(1));
+        assertThat(submitter.getInFlightCount(), is(0));
+        assertThat(submitter.getMetrics().snapshot().getFailed(), is(1L));
+    }
+
+    @Test
+    public void testTracksTransactionTheNodeAlreadyKnows() throws Exception {
+        Transaction tx = signedTransaction(1, 100);
+        sendResponses.add(rejected(-501, "Already exists"));
+        blockTransactions.put(11L, tx.getTxId());
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        blockCount.set(12);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(11L));
+    }
+
+    @Test
+    public void testRebuildsExpiredTransaction() throws Exception {
+        Transaction tx = signedTransaction(1, 11);
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        blockCount.set(12);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> sentTransactions.size() == 2);
+
+        Transaction rebuilt = sentTransactions.get(1);
+        assertThat(rebuilt.getValidUntilBlock(), is(12L + neow3j.getMaxValidUntilBlockIncrement() - 1));
+        assertThat(rebuilt.getNonce(), is(tx.getNonce()));
+        assertThat(rebuilt.getNetworkFee(), is(tx.getNetworkFee()));
+        rebuilt.setNeow3j(neow3j);
+        assertThat(rebuilt.getWitnesses().get(0), is(Witness.create(rebuilt.getHashData(), account.getECKeyPair())));
+
+        blockTransactions.put(12L, rebuilt.getTxId());
+        blockCount.set(13);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(12L));
+        assertThat(submitter.getMetrics().snapshot().getRebuilds(), is(1L));
+    }
+
+    @Test
+    public void testDoesNotRebuildExpiredTransactionTheNodeKnows() throws Exception {
+        Transaction tx = signedTransaction(1, 11);
+        missedTransactions.put(tx.getTxId(), 11L);
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        blockCount.set(12);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(sentTransactions.size(), is(1));
+        assertThat(submitter.getMetrics().snapshot().getRebuilds(), is(0L));
+        assertThat(submitter.getMetrics().snapshot().getConfirmed(), is(1L));
+    }
+
+    @Test
+    public void testKeepsTrackingAfterBlockStreamFailure() throws Exception {
+        Transaction tx = signedTransaction(1, 100);
+        blockTransactions.put(11L, tx.getTxId());
+        failingBlockRequests.set(1);
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        blockCount.set(12);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(sentTransactions.size(), is(1));
+        assertThat(submitter.getMetrics().snapshot().getFailed(), is(0L));
+    }
+
+    @Test
+    public void testRebuildsTransactionTheNodeReportsAsExpired() throws Exception {
+        Transaction tx = signedTransaction(1, 100);
+        Transaction replacement = signedTransaction(2, 100);
+        sendResponses.add(rejected(-510, "Expired transaction"));
+        blockTransactions.put(11L, replacement.getTxId());
+        submitter.setRebuilder(expired -> replacement);
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        blockCount.set(12);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(sentTransactions.get(1).getTxId(), is(replacement.getTxId()));
+    }
+
+    @Test
+    public void testRebuildsOnRebuildExecutor() throws Exception {
+        Transaction tx = signedTransaction(1, 100);
+        Transaction replacement = signedTransaction(2, 100);
+        sendResponses.add(rejected(-510, "Expired transaction"));
+        blockTransactions.put(11L, replacement.getTxId());
+        List<Runnable> rebuilds = new CopyOnWriteArrayList<>();
+        submitter.setRebuilder(expired -> replacement).setRebuildExecutor(rebuild -> {
+            rebuilds.add(rebuild);
+            rebuild.run();
+        });
+
+        CompletableFuture<Long> future = submitter.submit(tx);
+        blockCount.set(12);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(rebuilds.size(), is(1));
+    }
+
+    @Test
+    public void testFailsExpiredTransactionWithoutRebuilds() throws IOException {
+        submitter.setMaxRebuilds(0);
+
+        CompletableFuture<Long> future = submitter.submit(signedTransaction(1, 11));
+        blockCount.set(12);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(TransactionExpiredException.class));
+    }
+
+    @Test
+    public void testCloseCancelsQueuedAndUnconfirmedTransactions() throws IOException {
+        submitter.setMaxInFlight(1);
+        CompletableFuture<Long> future1 = submitter.submit(signedTransaction(1, 100));
+        CompletableFuture<Long> future2 = submitter.submit(signedTransaction(2, 100));
+
+        submitter.close();
+
+        assertTrue(future1.isCancelled());
+        assertTrue(future2.isCancelled());
+        CompletableFuture<Long> future3 = submitter.submit(signedTransaction(3, 100));
+        CompletionException thrown = assertThrows(CompletionException.class, future3::join);
+        assertThat(thrown.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+}
@@ -0,0 +1,220 @@
+package io.neow3j.transaction;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetTransactionHeight;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.neow3j.utils.TestHashes.hash256;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransactionTrackerTest {
+
+    private static final Hash256 TX_HASH_1 = hash256(1);
+    private static final Hash256 TX_HASH_2 = hash256(2);
+    private static final Hash256 TX_HASH_3 = hash256(3);
+
+    private Neow3jService neow3jService;
+    private TransactionTracker tracker;
+
+    private final AtomicLong blockCount = new AtomicLong(10);
+    // The transactions included in the blocks by block index.
+    private final Map<Long, Hash256> blockTransactions = new ConcurrentHashMap<>();
+    // The block indices of transactions that the node knows but that are missing in the blocks of the block stream.
+    private final Map<Hash256, Long> missedTransactions = new ConcurrentHashMap<>();
+    // The number of transaction height requests that fail on the transport level before the node answers.
+    private final AtomicInteger failingProbes = new AtomicInteger();
+    // The number of block count requests of the block stream that fail on the transport level.
+    private final AtomicInteger failingBlockCounts = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        neow3jService = mock(Neow3jService.class);
+        Neow3j neow3j = Neow3j.build(neow3jService, new Neow3jConfig()
+                .setPollingInterval(50)
+                .setScheduledExecutorService(Executors.newSingleThreadScheduledExecutor()));
+        tracker = new TransactionTracker(neow3j);
+
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            if (failingBlockCounts.getAndDecrement() > 0) {
+                throw new IOException("Connection reset");
+            }
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return neoBlockCount;
+        });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            NeoBlockCount neoBlockCount = new NeoBlockCount();
+            neoBlockCount.setResult(BigInteger.valueOf(blockCount.get()));
+            return CompletableFuture.completedFuture(neoBlockCount);
+        });
+        when(neow3jService.send(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            long index = ((BigInteger) invocation.<Request<?, ?>>getArgument(0).getParams().get(0)).longValue();
+            Hash256 txHash = blockTransactions.get(index);
+            List<Transaction> transactions = txHash == null
+                    ? Collections.emptyList()
+                    : singletonList(new Transaction(txHash, 0, 0, 0L, null, "0", "0", 0L, null, null, null, null));
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(hash256(1000 + index), 0L, 0, null, null, 0L, index, 0, "nonce", null,
+                    transactions, 1, null));
+            return neoGetBlock;
+        });
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetTransactionHeight.class))).thenAnswer(
+                invocation -> {
+                    if (failingProbes.getAndDecrement() > 0) {
+                        CompletableFuture<NeoGetTransactionHeight> failed = new CompletableFuture<>();
+                        failed.completeExceptionally(new IOException("Connection refused"));
+                        return failed;
+                    }
+                    Hash256 txHash = (Hash256) invocation.<Request<?, ?>>getArgument(0).getParams().get(0);
+                    NeoGetTransactionHeight response = new NeoGetTransactionHeight();
+                    blockTransactions.entrySet().stream()
+                            .filter(e -> e.getKey() < blockCount.get() && e.getValue().equals(txHash))
+                            .findFirst()
+                            .map(e -> BigInteger.valueOf(e.getKey()))
+                            .ifPresent(response::setResult);
+                    Long missedIndex = missedTransactions.get(txHash);
+                    if (missedIndex != null && missedIndex < blockCount.get()) {
+                        response.setResult(BigInteger.valueOf(missedIndex));
+                    }
+                    if (response.getResult() == null) {
+                        response.setError(new Response.Error(-100, "Unknown transaction"));
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    public void testTracksTransactionsWithSharedBlockStream() throws Exception {
+        blockTransactions.put(11L, TX_HASH_1);
+        blockTransactions.put(12L, TX_HASH_2);
+        CompletableFuture<Long> tx1 = tracker.track(TX_HASH_1, 100);
+        CompletableFuture<Long> tx2 = tracker.track(TX_HASH_2, 100);
+        assertThat(tracker.getPendingCount(), is(2));
+
+        blockCount.set(13);
+
+        assertThat(tx1.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(tx2.get(5, TimeUnit.SECONDS), is(12L));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testExpiresTransaction() throws Exception {
+        blockTransactions.put(12L, TX_HASH_1);
+        CompletableFuture<Long> tx1 = tracker.track(TX_HASH_1, 100);
+        CompletableFuture<Long> tx2 = tracker.track(TX_HASH_2, 11);
+
+        blockCount.set(13);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> tx2.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(TransactionExpiredException.class));
+        assertThat(tx1.get(5, TimeUnit.SECONDS), is(12L));
+    }
+
+    @Test
+    public void testFindsTransactionIncludedBeforeTracking() throws Exception {
+        blockTransactions.put(8L, TX_HASH_3);
+
+        CompletableFuture<Long> tx3 = tracker.track(TX_HASH_3, 100);
+
+        assertThat(tx3.get(5, TimeUnit.SECONDS), is(8L));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testRetriesProbeAfterTransportFailure() throws Exception {
+        blockTransactions.put(8L, TX_HASH_3);
+        failingProbes.set(2);
+
+        CompletableFuture<Long> tx3 = tracker.track(TX_HASH_3, 100);
+
+        assertThat(tx3.get(5, TimeUnit.SECONDS), is(8L));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testConfirmsExpiryWithNode() throws Exception {
+        missedTransactions.put(TX_HASH_1, 11L);
+
+        CompletableFuture<Long> tx1 = tracker.track(TX_HASH_1, 11);
+        blockCount.set(12);
+
+        assertThat(tx1.get(5, TimeUnit.SECONDS), is(11L));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testKeepsTrackingAfterBlockStreamFailure() throws Exception {
+        blockTransactions.put(11L, TX_HASH_1);
+        blockTransactions.put(12L, TX_HASH_2);
+        CompletableFuture<Long> tx1 = tracker.track(TX_HASH_1, 100);
+        CompletableFuture<Long> tx2 = tracker.track(TX_HASH_2, 100);
+        blockCount.set(12);
+        assertThat(tx1.get(5, TimeUnit.SECONDS), is(11L));
+
+        failingBlockCounts.set(2);
+        blockCount.set(13);
+
+        assertThat(tx2.get(5, TimeUnit.SECONDS), is(12L));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testTrackingSameTransactionTwiceReturnsSameFuture() {
+        CompletableFuture<Long> first = tracker.track(TX_HASH_1, 100);
+        CompletableFuture<Long> second = tracker.track(TX_HASH_1, 100);
+
+        assertTrue(first == second);
+        assertThat(tracker.getPendingCount(), is(1));
+    }
+
+    @Test
+    public void testCloseCancelsPendingTransactions() {
+        CompletableFuture<Long> tx1 = tracker.track(TX_HASH_1, 100);
+
+        tracker.close();
+
+        assertTrue(tx1.isCancelled());
+        assertThrows(IllegalStateException.class, () -> tracker.track(TX_HASH_2, 100).join());
+    }
+
+}
@@ -0,0 +1,14 @@
+package io.neow3j.utils;
+
+import io.neow3j.types.Hash256;
+
+import static java.lang.String.format;
+
+public class TestHashes {
+
+    // Creates a distinct hash for every value, e.g., for the blocks and transactions of mocked responses.
+    public static Hash256 hash256(long value) {
+        return new Hash256(format("%064x", value));
+    }
+
+}